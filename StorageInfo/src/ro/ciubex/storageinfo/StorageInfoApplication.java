@@ -30,14 +30,34 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import ro.ciubex.storageinfo.activities.DialogButtonListener;
 import ro.ciubex.storageinfo.activities.StorageActivity;
+import ro.ciubex.storageinfo.background.MountTableWatcher;
 import ro.ciubex.storageinfo.model.AppInfo;
+import ro.ciubex.storageinfo.model.CapacityHistory;
 import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.model.VolumeDelta;
+import ro.ciubex.storageinfo.model.VolumeRegistry;
+import ro.ciubex.storageinfo.model.VolumeSnapshot;
+import ro.ciubex.storageinfo.task.BulkEjectTask;
+import ro.ciubex.storageinfo.task.CapacitySampler;
+import ro.ciubex.storageinfo.task.DiskUsageScanner;
+import ro.ciubex.storageinfo.task.DuplicateFilesFinder;
+import ro.ciubex.storageinfo.task.LargestFilesFinder;
 import ro.ciubex.storageinfo.task.LogThread;
+import ro.ciubex.storageinfo.task.MountOperationExecutor;
+import ro.ciubex.storageinfo.task.SafeEjectTask;
+import ro.ciubex.storageinfo.task.UnmountRetryScheduler;
+import ro.ciubex.storageinfo.task.VolumeBenchmark;
+import ro.ciubex.storageinfo.util.DisabledPathMatcher;
+import ro.ciubex.storageinfo.util.DiskUsageIndex;
+import ro.ciubex.storageinfo.util.VolumeDiff;
 import ro.ciubex.storageinfo.util.Utils.MountService;
 import android.app.AlertDialog;
 import android.app.Application;
@@ -60,6 +80,7 @@ import android.os.Environment;
 import android.preference.PreferenceManager;
 import android.provider.Settings;
 import android.support.v4.app.NotificationCompat;
+import android.text.format.Formatter;
 import android.text.SpannableString;
 import android.text.method.LinkMovementMethod;
 import android.text.util.Linkify;
@@ -74,7 +95,9 @@ import android.widget.Toast;
  * @author Claudiu Ciobotariu
  * 
  */
-public class StorageInfoApplication extends Application {
+public class StorageInfoApplication extends Application implements
+		MountTableWatcher.Listener, CapacitySampler.Listener, VolumeBenchmark.Listener,
+		SafeEjectTask.Listener, BulkEjectTask.Listener, UnmountRetryScheduler.Listener {
 	private static final String TAG = StorageInfoApplication.class.getName();
 	private static Context mContext;
 	private SharedPreferences mSharedPreferences;
@@ -89,20 +112,48 @@ public class StorageInfoApplication extends Application {
 	public static final String DISABLED_PATHS = "disabledPaths";
 	private static final String FILE_MANAGER = "fileManager";
 	private static final String HIDE_UNMOUNT_CONFIRMATION = "hideUnmountConfirmation";
+	private static final String RETRY_BUSY_UNMOUNT = "retryBusyUnmount";
+	private static final String RETRY_BUSY_UNMOUNT_BUDGET = "retryBusyUnmountBudget";
 	private static final String CHECK_PRIMARY_VOLUME = "checkPrimaryVolume";
 	private static final String CHECK_EMULATED_VOLUME = "checkEmulatedVolume";
 	private NotificationManager mNotificationManager;
 	private Object mMountService;
+	private final AtomicInteger mVolumesGeneration = new AtomicInteger();
+	private final AtomicLong mVolumesCacheHits = new AtomicLong();
+	private final AtomicLong mVolumesCacheMisses = new AtomicLong();
+	private volatile CachedVolumeRegistry mCachedVolumeRegistry;
+	private VolumeRegistry mVolumeRegistry;
 	private List<MountVolume> mMountVolumes;
-	private List<String> mMountVolumesPaths;
 	private boolean mVolumeMounded;
 	private String[] mDisabledPaths;
-	private List<Integer> mNotifications;
+	private DisabledPathMatcher mDisabledPathMatcher;
+	private Set<Integer> mNotifications;
+	private List<MountVolume> mNotifiedVolumes;
+	private boolean mNotifiedPrimaryChecked;
+	private boolean mNotifiedEmulatedChecked;
+	private MountTableWatcher mMountTableWatcher;
+	private CapacitySampler mCapacitySampler;
+	private final Map<String, DiskUsageScanner> mDiskUsageScanners = new HashMap<String, DiskUsageScanner>();
+	private final Map<String, LargestFilesFinder> mLargestFilesFinders = new HashMap<String, LargestFilesFinder>();
+	private DuplicateFilesFinder mDuplicateFilesFinder;
+	private VolumeBenchmark mVolumeBenchmark;
+	private MountOperationExecutor mMountOperationExecutor;
+	private final Map<String, SafeEjectTask> mSafeEjectTasks = new HashMap<String, SafeEjectTask>();
+	private BulkEjectTask mBulkEjectTask;
+	private boolean mBulkEjectReported;
+	// the summary is kept out of mNotifications, which has only the volumes
+	private boolean mBulkEjectNotificationShown;
+	private UnmountRetryScheduler mUnmountRetryScheduler;
 	private static final int DEFAULT_NOTIFICATION_ID = 0;
+	private static final int BENCHMARK_NOTIFICATION_ID = -1;
+	public static final String ACTION_BENCHMARK = "ro.ciubex.storageinfo.action.BENCHMARK";
+	private static final int BULK_EJECT_NOTIFICATION_ID = -2;
+	public static final String ACTION_EJECT_ALL = "ro.ciubex.storageinfo.action.EJECT_ALL";
 	private List<AppInfo> mApplicationsList;
 	private ProgressDialog mProgressDialog;
 
 	private File mLogsFolder;
+	private File mDiskUsageFolder;
 	public static final String LOGS_FOLDER_NAME = "logs";
 	public static final String LOG_FILE_NAME = "StorageInfo_logs.log";
 	private static File logFile;
@@ -112,6 +163,20 @@ public class StorageInfoApplication extends Application {
 	public static final int NOTIFICATION_TYPE_STORAGE = 0;
 	public static final int NOTIFICATION_TYPE_QUICK = 1;
 
+	/**
+	 * A volumes registry and the volumes generation when its snapshot was
+	 * obtained.
+	 */
+	private static final class CachedVolumeRegistry {
+		final int generation;
+		final VolumeRegistry registry;
+
+		CachedVolumeRegistry(int generation, VolumeRegistry registry) {
+			this.generation = generation;
+			this.registry = registry;
+		}
+	}
+
 	/**
 	 * This method is invoked when the application is created.
 	 * 
@@ -123,35 +188,761 @@ public class StorageInfoApplication extends Application {
 		mSdkInt = android.os.Build.VERSION.SDK_INT;
 		logD(TAG, "StorageInfoApplication started!");
 		StorageInfoApplication.mContext = getApplicationContext();
+		MountService.init(this);
 		mSharedPreferences = PreferenceManager
 				.getDefaultSharedPreferences(this);
-		mNotifications = new ArrayList<Integer>();
-		mMountVolumesPaths = new ArrayList<String>();
+		mNotifications = new HashSet<Integer>();
+		mCapacitySampler = new CapacitySampler(this);
 		updateMountedVolumes();
+		updateMountTableWatcher();
 	}
 
 	/**
-	 * Update mounted volumes.
+	 * Update mounted volumes. The mount service is queried only if the cached
+	 * volumes snapshot was invalidated.
 	 */
 	public void updateMountedVolumes() {
-		mMountVolumes = MountService.getVolumeList(getMountService(), StorageInfoApplication.mContext);
-		if (!mMountVolumesPaths.isEmpty()) {
-			mMountVolumesPaths.clear();
+		VolumeRegistry registry = getVolumeRegistry();
+		if (mVolumeRegistry != registry) {
+			mVolumeRegistry = registry;
+			logD(TAG, "updateMountedVolumes: " + registry.getSnapshot());
+			mMountVolumes = registry.getVolumes();
+			for (MountVolume mountVolume : mMountVolumes) {
+				logD(TAG, "updateMountedVolumes: " + mountVolume);
+			}
+			mCapacitySampler.setVolumes(mMountVolumes);
 		}
 		mVolumeMounded = false;
-		if (!mMountVolumes.isEmpty()) {
-			String path, state;
+		for (MountVolume mountVolume : mMountVolumes) {
+			if (!isDisabledPath(mountVolume.getPath())
+					&& Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+				mVolumeMounded = true;
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Obtain the volumes snapshot. The cached snapshot is returned without any
+	 * lock if it was obtained on the current volumes generation, otherwise the
+	 * mount service is queried again.
+	 *
+	 * @return The volumes snapshot.
+	 */
+	public VolumeSnapshot getVolumeSnapshot() {
+		return getVolumeRegistry().getSnapshot();
+	}
+
+	/**
+	 * Obtain the indexed volumes of the cached snapshot. The registry is
+	 * built only once for each snapshot.
+	 *
+	 * @return The volumes registry.
+	 */
+	public VolumeRegistry getVolumeRegistry() {
+		CachedVolumeRegistry cached = mCachedVolumeRegistry;
+		if (cached != null && cached.generation == mVolumesGeneration.get()) {
+			mVolumesCacheHits.incrementAndGet();
+			return cached.registry;
+		}
+		synchronized (mVolumesGeneration) {
+			int generation = mVolumesGeneration.get();
+			cached = mCachedVolumeRegistry;
+			if (cached == null || cached.generation != generation) {
+				mVolumesCacheMisses.incrementAndGet();
+				VolumeSnapshot snapshot = MountService.getVolumeSnapshot(getMountService(), mContext);
+				cached = new CachedVolumeRegistry(generation, new VolumeRegistry(snapshot, mContext));
+				mCachedVolumeRegistry = cached;
+			} else {
+				mVolumesCacheHits.incrementAndGet();
+			}
+		}
+		return cached.registry;
+	}
+
+	/**
+	 * Invalidate the cached volumes snapshot, the next snapshot will be
+	 * obtained from the mount service.
+	 */
+	public void invalidateVolumeSnapshot() {
+		mVolumesGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Start the mount table watcher if the notifications are enabled, or stop
+	 * it if they are disabled.
+	 */
+	public void updateMountTableWatcher() {
+		if (isEnableNotifications()) {
+			if (mMountTableWatcher == null) {
+				mMountTableWatcher = new MountTableWatcher(this);
+				mMountTableWatcher.start();
+			}
+		} else if (mMountTableWatcher != null) {
+			mMountTableWatcher.close();
+			mMountTableWatcher = null;
+		}
+	}
+
+	/**
+	 * Invoked on the main thread when the storage mounts were changed, used
+	 * for the devices which do not broadcast the media events.
+	 */
+	@Override
+	public void onMountTableChanged() {
+		logD(TAG, "onMountTableChanged: " + mMountTableWatcher);
+		invalidateVolumeSnapshot();
+		if (isEnableNotifications()) {
+			updateMountedVolumes();
+			updateNotifications();
+		}
+	}
+
+	/**
+	 * Invoked on the main thread when new capacity samples are available, to
+	 * update the capacity shown by the quick notifications.
+	 */
+	@Override
+	public void onCapacitySampled() {
+		if (isEnableNotifications() && NOTIFICATION_TYPE_QUICK == getNotificationType()) {
+			NotificationManager notificationManager = getNotificationManager();
+			if (notificationManager != null && mNotifiedVolumes != null) {
+				for (MountVolume mountVolume : mNotifiedVolumes) {
+					if (mNotifications.contains(mountVolume.getStorageId())
+							&& Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+						updateNotification(notificationManager, mountVolume,
+								mountVolume.getStorageId(), mountVolume.getVolumeState());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Obtain the capacity history of a volume.
+	 *
+	 * @param storageId The volume storage ID.
+	 * @return The capacity history, or null if the volume was not sampled.
+	 */
+	public CapacityHistory getCapacityHistory(int storageId) {
+		return mCapacitySampler.getHistory(storageId);
+	}
+
+	/**
+	 * Start the disk usage scan of a mounted volume. A previous scan of the
+	 * same volume is cancelled, and the scan is cancelled when the volume is
+	 * ejected or unmounted.
+	 *
+	 * @param mountVolume The mounted volume.
+	 * @param listener    The listener notified on the main thread.
+	 * @return The started scanner.
+	 */
+	public DiskUsageScanner startDiskUsageScan(MountVolume mountVolume,
+			DiskUsageScanner.Listener listener) {
+		String path = mountVolume.getPath();
+		cancelDiskUsageScan(path);
+		DiskUsageIndex index = new DiskUsageIndex(getDiskUsageFolder(), path);
+		DiskUsageScanner scanner = new DiskUsageScanner(mountVolume.getPathFile(), index, listener);
+		mDiskUsageScanners.put(path, scanner);
+		scanner.start();
+		return scanner;
+	}
+
+	/**
+	 * Cancel the disk usage scan of a volume.
+	 *
+	 * @param path The volume path.
+	 */
+	public void cancelDiskUsageScan(String path) {
+		DiskUsageScanner scanner = mDiskUsageScanners.remove(path);
+		if (scanner != null) {
+			logD(TAG, "cancelDiskUsageScan: " + scanner);
+			scanner.cancel();
+		}
+	}
+
+	/**
+	 * Cancel a disk usage scan, if it is still running, and release it.
+	 *
+	 * @param scanner The scanner returned by {@link #startDiskUsageScan}.
+	 */
+	public void cancelDiskUsageScan(DiskUsageScanner scanner) {
+		String path = scanner.getRoot().getPath();
+		if (mDiskUsageScanners.get(path) == scanner) {
+			mDiskUsageScanners.remove(path);
+		}
+		if (!scanner.isFinished()) {
+			logD(TAG, "cancelDiskUsageScan: " + scanner);
+			scanner.cancel();
+		}
+	}
+
+	/**
+	 * Start the search of the largest files of a mounted volume. A previous
+	 * search on the same volume is cancelled, and the search is cancelled when
+	 * the volume is ejected or unmounted.
+	 *
+	 * @param path     The volume path, one of the mount volumes paths.
+	 * @param limit    The number of largest files to be found.
+	 * @param listener The listener notified on the main thread.
+	 * @return The started finder, or null if the path is not a mounted
+	 * volume.
+	 */
+	public LargestFilesFinder startLargestFilesSearch(String path, int limit,
+			LargestFilesFinder.Listener listener) {
+		MountVolume mountVolume = getVolumeRegistry().getVolume(path);
+		if (mountVolume == null
+				|| !Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+			return null;
+		}
+		cancelLargestFilesSearch(path);
+		LargestFilesFinder finder = new LargestFilesFinder(mountVolume.getPathFile(), limit, listener);
+		mLargestFilesFinders.put(path, finder);
+		finder.start();
+		return finder;
+	}
+
+	/**
+	 * Cancel the largest files search on a volume.
+	 *
+	 * @param path The volume path.
+	 */
+	public void cancelLargestFilesSearch(String path) {
+		LargestFilesFinder finder = mLargestFilesFinders.remove(path);
+		if (finder != null) {
+			logD(TAG, "cancelLargestFilesSearch: " + finder);
+			finder.cancel();
+		}
+	}
+
+	/**
+	 * Cancel a largest files search, if it is still running, and release it.
+	 *
+	 * @param finder The finder returned by {@link #startLargestFilesSearch}.
+	 */
+	public void cancelLargestFilesSearch(LargestFilesFinder finder) {
+		String path = finder.getRoot().getPath();
+		if (mLargestFilesFinders.get(path) == finder) {
+			mLargestFilesFinders.remove(path);
+		}
+		if (!finder.isFinished()) {
+			logD(TAG, "cancelLargestFilesSearch: " + finder);
+			finder.cancel();
+		}
+	}
+
+	/**
+	 * Start the search of the duplicate files on one or more mounted volumes.
+	 * A previous search is cancelled, and the search is cancelled when one of
+	 * the volumes is ejected or unmounted.
+	 *
+	 * @param paths    The volumes paths.
+	 * @param listener The listener notified on the main thread.
+	 * @return The started finder, or null if a path is not a mounted volume.
+	 */
+	public DuplicateFilesFinder startDuplicateFilesSearch(String[] paths,
+			DuplicateFilesFinder.Listener listener) {
+		VolumeRegistry registry = getVolumeRegistry();
+		File[] roots = new File[paths.length];
+		for (int i = 0; i < paths.length; i++) {
+			MountVolume mountVolume = registry.getVolume(paths[i]);
+			if (mountVolume == null
+					|| !Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+				return null;
+			}
+			roots[i] = mountVolume.getPathFile();
+		}
+		cancelDuplicateFilesSearch();
+		mDuplicateFilesFinder = new DuplicateFilesFinder(roots, listener);
+		mDuplicateFilesFinder.start();
+		return mDuplicateFilesFinder;
+	}
+
+	/**
+	 * Cancel the duplicate files search.
+	 */
+	public void cancelDuplicateFilesSearch() {
+		if (mDuplicateFilesFinder != null) {
+			logD(TAG, "cancelDuplicateFilesSearch: " + mDuplicateFilesFinder);
+			mDuplicateFilesFinder.cancel();
+			mDuplicateFilesFinder = null;
+		}
+	}
+
+	/**
+	 * Cancel a duplicate files search, if it is still running, and release it.
+	 *
+	 * @param finder The finder returned by {@link #startDuplicateFilesSearch}.
+	 */
+	public void cancelDuplicateFilesSearch(DuplicateFilesFinder finder) {
+		if (mDuplicateFilesFinder == finder) {
+			mDuplicateFilesFinder = null;
+		}
+		if (!finder.isFinished()) {
+			logD(TAG, "cancelDuplicateFilesSearch: " + finder);
+			finder.cancel();
+		}
+	}
+
+	/**
+	 * Start the I/O benchmark of a mounted volume, if no other benchmark is
+	 * running. The progress and the results are shown on a notification.
+	 *
+	 * @param storageId The volume storage ID.
+	 * @return The running benchmark, or null if the volume is not mounted.
+	 */
+	public VolumeBenchmark startVolumeBenchmark(int storageId) {
+		if (mVolumeBenchmark != null && !mVolumeBenchmark.isFinished()) {
+			return mVolumeBenchmark;
+		}
+		MountVolume mountVolume = getMountVolume(storageId);
+		if (mountVolume == null
+				|| !Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+			return null;
+		}
+		mVolumeBenchmark = new VolumeBenchmark(mountVolume.getPathFile(),
+				VolumeBenchmark.DEFAULT_FILE_SIZE, this);
+		mVolumeBenchmark.start();
+		updateBenchmarkNotification(mVolumeBenchmark);
+		return mVolumeBenchmark;
+	}
+
+	@Override
+	public void onBenchmarkProgress(VolumeBenchmark benchmark) {
+		updateBenchmarkNotification(benchmark);
+	}
+
+	@Override
+	public void onBenchmarkFinished(VolumeBenchmark benchmark) {
+		logD(TAG, "onBenchmarkFinished: " + benchmark);
+		updateBenchmarkNotification(benchmark);
+	}
+
+	/**
+	 * Show the benchmark progress or results.
+	 */
+	private void updateBenchmarkNotification(VolumeBenchmark benchmark) {
+		NotificationManager notificationManager = getNotificationManager();
+		if (notificationManager == null) {
+			return;
+		}
+		String path = benchmark.getRoot().getPath();
+		NotificationCompat.Builder notifBuilder = new NotificationCompat.Builder(this);
+		notifBuilder.setSmallIcon(R.drawable.ic_launcher);
+		notifBuilder.setContentTitle(getString(R.string.benchmark_title, path));
+		if (!benchmark.isFinished()) {
+			notifBuilder.setContentText(getString(R.string.benchmark_running));
+			notifBuilder.setProgress(VolumeBenchmark.TESTS, benchmark.getTest() + 1, false);
+			notifBuilder.setOngoing(true);
+			notifBuilder.setOnlyAlertOnce(true);
+		} else if (benchmark.getError() != null) {
+			notifBuilder.setContentText(getString(R.string.benchmark_failed, benchmark.getError()));
+		} else {
+			notifBuilder.setContentText(getString(R.string.benchmark_result,
+					benchmark.getThroughput(VolumeBenchmark.TEST_SEQUENTIAL_WRITE),
+					benchmark.getThroughput(VolumeBenchmark.TEST_SEQUENTIAL_READ),
+					benchmark.getIops(VolumeBenchmark.TEST_RANDOM_WRITE),
+					benchmark.getIops(VolumeBenchmark.TEST_RANDOM_READ)));
+		}
+		notificationManager.notify(BENCHMARK_NOTIFICATION_ID, notifBuilder.build());
+	}
+
+	/**
+	 * Unmount a volume after its cached data is written. A previous safe
+	 * eject of the same volume is cancelled. The remaining data is shown on
+	 * the volume quick notification.
+	 *
+	 * @param mountVolume The volume to be unmounted.
+	 * @param listener    The listener of the unmount operation, also notified
+	 *                    if the safe eject is cancelled.
+	 * @return The started task.
+	 */
+	public SafeEjectTask startSafeEject(MountVolume mountVolume,
+			SafeEjectTask.OperationListener listener) {
+		String path = mountVolume.getPath();
+		cancelSafeEject(path);
+		SafeEjectTask task = new SafeEjectTask(getMountOperationExecutor(), mountVolume,
+				SafeEjectTask.DEFAULT_DEADLINE, this, listener);
+		mSafeEjectTasks.put(path, task);
+		task.start();
+		updateSafeEjectNotification(task);
+		return task;
+	}
+
+	/**
+	 * Cancel the safe eject of a volume, if the unmount was not submitted
+	 * yet.
+	 *
+	 * @param path The volume path.
+	 */
+	public void cancelSafeEject(String path) {
+		SafeEjectTask task = mSafeEjectTasks.remove(path);
+		if (task != null) {
+			logD(TAG, "cancelSafeEject: " + task);
+			task.cancel();
+			updateSafeEjectNotification(task);
+		}
+	}
+
+	@Override
+	public void onSafeEjectProgress(SafeEjectTask task) {
+		updateSafeEjectNotification(task);
+	}
+
+	/**
+	 * A safe eject which reached the deadline with the data still being
+	 * written is kept, to show it on the quick notification until the user
+	 * decides to wait again or to eject anyway.
+	 */
+	@Override
+	public void onSafeEjectFinished(SafeEjectTask task) {
+		logD(TAG, "onSafeEjectFinished: " + task);
+		String path = task.getMountVolume().getPath();
+		if (mSafeEjectTasks.get(path) == task && !task.isWaitingConfirmation()) {
+			mSafeEjectTasks.remove(path);
+		}
+		updateSafeEjectNotification(task);
+	}
+
+	/**
+	 * Unmount a volume which data was not written before the safe eject
+	 * deadline, after the user confirmed it.
+	 *
+	 * @param task The safe eject finished without the cache drained.
+	 * @return The unmount operation, or null if the task was cancelled.
+	 */
+	public MountOperationExecutor.Operation unmountNotDrained(SafeEjectTask task) {
+		String path = task.getMountVolume().getPath();
+		if (mSafeEjectTasks.get(path) == task) {
+			mSafeEjectTasks.remove(path);
+		}
+		logD(TAG, "unmountNotDrained: " + task);
+		MountOperationExecutor.Operation operation = task.unmountNow();
+		updateSafeEjectNotification(task);
+		return operation;
+	}
+
+	/**
+	 * Obtain the mounted volumes which can be ejected, the same volumes
+	 * which have a quick notification.
+	 *
+	 * @return The ejectable volumes.
+	 */
+	public List<MountVolume> getEjectableVolumes() {
+		List<MountVolume> volumes = new ArrayList<MountVolume>();
+		if (mMountVolumes != null) {
 			for (MountVolume mountVolume : mMountVolumes) {
-				path = mountVolume.getPath();
-				state = mountVolume.getVolumeState();
-				logD(TAG, "updateMountedVolumes: " + mountVolume);
-				mMountVolumesPaths.add(path);
-				if (!isDisabledPath(path)
-						&& Environment.MEDIA_MOUNTED.equals(state)) {
-					mVolumeMounded = true;
+				if (isQuickNotificationVolume(mountVolume)
+						&& Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+					volumes.add(mountVolume);
 				}
 			}
 		}
+		return volumes;
+	}
+
+	/**
+	 * Eject all the ejectable volumes, the independent volumes are ejected
+	 * at the same time. The progress and the results are shown on the
+	 * summary notification.
+	 *
+	 * @return The running task, or null if there is no volume to eject.
+	 */
+	public BulkEjectTask startBulkEject() {
+		if (mBulkEjectTask != null && !mBulkEjectTask.isFinished()) {
+			return mBulkEjectTask;
+		}
+		List<MountVolume> volumes = getEjectableVolumes();
+		if (volumes.isEmpty()) {
+			return null;
+		}
+		mBulkEjectTask = new BulkEjectTask(volumes, this);
+		mBulkEjectReported = false;
+		mBulkEjectTask.start();
+		updateBulkEjectNotification();
+		return mBulkEjectTask;
+	}
+
+	@Override
+	public void onBulkEjectProgress(BulkEjectTask task) {
+		updateBulkEjectNotification();
+	}
+
+	@Override
+	public void onBulkEjectFinished(BulkEjectTask task) {
+		logD(TAG, "onBulkEjectFinished: " + task);
+		updateBulkEjectNotification();
+	}
+
+	/**
+	 * Show the summary notification: the bulk eject progress, its results
+	 * once, or the eject all shortcut when more volumes can be ejected.
+	 */
+	private void updateBulkEjectNotification() {
+		NotificationManager notificationManager = getNotificationManager();
+		if (notificationManager == null) {
+			return;
+		}
+		BulkEjectTask task = mBulkEjectTask;
+		NotificationCompat.Builder notifBuilder = new NotificationCompat.Builder(this);
+		notifBuilder.setSmallIcon(R.drawable.ic_launcher);
+		notifBuilder.setContentTitle(getString(R.string.bulk_eject_title));
+		if (task != null && !task.isFinished()) {
+			notifBuilder.setContentText(getString(R.string.bulk_eject_running,
+					task.getFinishedCount(), task.getVolumeCount()));
+			notifBuilder.setProgress(task.getVolumeCount(), task.getFinishedCount(), false);
+			notifBuilder.setOngoing(true);
+			notifBuilder.setOnlyAlertOnce(true);
+			mBulkEjectNotificationShown = true;
+			notificationManager.notify(BULK_EJECT_NOTIFICATION_ID, notifBuilder.build());
+		} else if (task != null && !mBulkEjectReported) {
+			mBulkEjectReported = true;
+			StringBuilder details = new StringBuilder();
+			for (int i = 0; i < task.getVolumeCount(); i++) {
+				if (i > 0) {
+					details.append('\n');
+				}
+				details.append(getString(R.string.bulk_eject_volume_result,
+						task.getVolume(i).getPath(), getBulkEjectStatusText(task.getStatus(i)),
+						task.getDuration(i) / 1000.0));
+			}
+			String text = getString(R.string.bulk_eject_result, task.getEjectedCount(),
+					task.getVolumeCount(), task.getDuration() / 1000.0);
+			notifBuilder.setContentText(text);
+			notifBuilder.setStyle(new NotificationCompat.BigTextStyle()
+					.bigText(text + "\n" + details));
+			notifBuilder.setAutoCancel(true);
+			mBulkEjectNotificationShown = false;
+			notificationManager.notify(BULK_EJECT_NOTIFICATION_ID, notifBuilder.build());
+		} else {
+			List<MountVolume> volumes = getEjectableVolumes();
+			if (NOTIFICATION_TYPE_QUICK == getNotificationType() && volumes.size() > 1) {
+				StringBuilder paths = new StringBuilder();
+				for (MountVolume mountVolume : volumes) {
+					if (paths.length() > 0) {
+						paths.append(", ");
+					}
+					paths.append(mountVolume.getPath());
+				}
+				Intent intent = new Intent(this, StorageActivity.class);
+				intent.setAction(ACTION_EJECT_ALL);
+				intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK
+						| Intent.FLAG_ACTIVITY_CLEAR_TASK);
+				notifBuilder.setContentIntent(PendingIntent.getActivity(
+						this.getBaseContext(), BULK_EJECT_NOTIFICATION_ID, intent, 0));
+				notifBuilder.setContentTitle(getString(R.string.bulk_eject_all, volumes.size()));
+				notifBuilder.setContentText(paths);
+				Notification notification = notifBuilder.build();
+				if (!isAllowNotificationsDismiss()) {
+					notification.flags |= Notification.FLAG_NO_CLEAR;
+				}
+				mBulkEjectNotificationShown = true;
+				notificationManager.notify(BULK_EJECT_NOTIFICATION_ID, notification);
+			} else if (mBulkEjectNotificationShown) {
+				mBulkEjectNotificationShown = false;
+				hideNotification(notificationManager, BULK_EJECT_NOTIFICATION_ID);
+			}
+		}
+	}
+
+	private String getBulkEjectStatusText(int status) {
+		switch (status) {
+		case MountOperationExecutor.STATUS_SUCCESS:
+			return getString(R.string.bulk_eject_status_success);
+		case MountOperationExecutor.STATUS_TIMEOUT:
+			return getString(R.string.bulk_eject_status_timeout);
+		case MountOperationExecutor.STATUS_CANCELLED:
+			return getString(R.string.bulk_eject_status_cancelled);
+		case BulkEjectTask.STATUS_NOT_DRAINED:
+			return getString(R.string.bulk_eject_status_not_drained);
+		case BulkEjectTask.STATUS_SKIPPED:
+			return getString(R.string.bulk_eject_status_skipped);
+		default:
+			return getString(R.string.bulk_eject_status_failed);
+		}
+	}
+
+	/**
+	 * Show the safe eject progress on the volume quick notification.
+	 */
+	private void updateSafeEjectNotification(SafeEjectTask task) {
+		updateCurrentVolumeNotification(task.getMountVolume());
+	}
+
+	/**
+	 * Retry the unmount of a busy volume, until the retry budget is spent.
+	 * The retries are shown on the volume quick notification.
+	 *
+	 * @param mountVolume The busy volume.
+	 */
+	public void scheduleUnmountRetry(MountVolume mountVolume) {
+		if (mUnmountRetryScheduler == null) {
+			mUnmountRetryScheduler = new UnmountRetryScheduler(getMountOperationExecutor(),
+					this, new Random());
+		}
+		mUnmountRetryScheduler.schedule(mountVolume, getRetryBusyUnmountBudget());
+	}
+
+	/**
+	 * Show the retry on the volume quick notification. The retry which gave
+	 * up is already dropped by the scheduler, it is reported once by a toast
+	 * and the quick notification goes back to the volume state.
+	 */
+	@Override
+	public void onUnmountRetryChanged(UnmountRetryScheduler.Retry retry) {
+		logD(TAG, "onUnmountRetryChanged: " + retry);
+		if (UnmountRetryScheduler.STATE_GAVE_UP == retry.getState()) {
+			showToastMessage(this, getString(R.string.unmount_retry_gave_up,
+					retry.getMountVolume().getPath(), retry.getAttempts()));
+		}
+		updateCurrentVolumeNotification(retry.getMountVolume());
+	}
+
+	/**
+	 * Update the quick notification of a volume, if it is shown. The task
+	 * volume is only a snapshot taken when the task was started, so the
+	 * current volume is looked up on the registry: a volume which is not
+	 * mounted anymore gets its current quick notification, or none, instead
+	 * of the stale mounted one.
+	 *
+	 * @param taskVolume The volume of the task, as it was when the task was
+	 *                   started.
+	 */
+	private void updateCurrentVolumeNotification(MountVolume taskVolume) {
+		NotificationManager notificationManager = getNotificationManager();
+		int storageId = taskVolume.getStorageId();
+		if (notificationManager == null
+				|| NOTIFICATION_TYPE_QUICK != getNotificationType()
+				|| !mNotifications.contains(storageId)) {
+			return;
+		}
+		MountVolume mountVolume = getVolumeRegistry().getVolume(taskVolume.getPath());
+		if (mountVolume != null
+				&& Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+			updateNotification(notificationManager, mountVolume,
+					mountVolume.getStorageId(), Environment.MEDIA_MOUNTED);
+		} else if (mountVolume != null && mountVolume.getStorageId() == storageId) {
+			updateQuickNotification(notificationManager, mountVolume);
+			setShowNotification(!mNotifications.isEmpty());
+		} else {
+			mNotifications.remove(storageId);
+			hideNotification(notificationManager, storageId);
+			setShowNotification(!mNotifications.isEmpty());
+		}
+	}
+
+	/**
+	 * Update the notifications of the chosen notification type.
+	 */
+	public void updateNotifications() {
+		int type = getNotificationType();
+		if (NOTIFICATION_TYPE_QUICK == type) {
+			updateQuickNotifications();
+		} else if (NOTIFICATION_TYPE_STORAGE == type) {
+			updateDefaultNotification();
+		}
+	}
+
+	/**
+	 * Check a media broadcast against the cached volumes snapshot and
+	 * invalidate the snapshot only if the event could change it. For example,
+	 * a stick removal is broadcast as EJECT, UNMOUNTED, REMOVED and maybe
+	 * BAD_REMOVAL, and an event which only confirms the cached state of the
+	 * volume is ignored.
+	 *
+	 * @param action The broadcast action.
+	 * @param path   The volume path from the broadcast data, can be empty.
+	 * @return True if the cached volumes snapshot was invalidated.
+	 */
+	public boolean onVolumeEvent(String action, String path) {
+		String state = getEventVolumeState(action);
+		if (state != null && !Intent.ACTION_MEDIA_MOUNTED.equals(action)) {
+			cancelDiskUsageScan(path);
+			cancelLargestFilesSearch(path);
+			cancelSafeEject(path);
+			if (mUnmountRetryScheduler != null) {
+				mUnmountRetryScheduler.cancel(path);
+			}
+			if (mDuplicateFilesFinder != null && mDuplicateFilesFinder.hasRoot(path)) {
+				cancelDuplicateFilesSearch();
+			}
+			if (mVolumeBenchmark != null && mVolumeBenchmark.getRoot().getPath().equals(path)) {
+				mVolumeBenchmark.cancel();
+			}
+		}
+		CachedVolumeRegistry cached = mCachedVolumeRegistry;
+		if (state != null && cached != null
+				&& cached.generation == mVolumesGeneration.get()) {
+			MountVolume mountVolume = cached.registry.getVolume(path);
+			if (mountVolume != null && state.equals(mountVolume.getVolumeState())) {
+				logD(TAG, "onVolumeEvent: " + action + " ignored for " + path);
+				return false;
+			}
+		}
+		invalidateVolumeSnapshot();
+		return true;
+	}
+
+	/**
+	 * Obtain the volume state expected after a media broadcast.
+	 *
+	 * @param action The broadcast action.
+	 * @return The expected volume state or null if the action is unknown.
+	 */
+	private static String getEventVolumeState(String action) {
+		if (Intent.ACTION_MEDIA_MOUNTED.equals(action)
+				|| Intent.ACTION_MEDIA_EJECT.equals(action)) {
+			// the volume is still mounted when the eject is requested
+			return Environment.MEDIA_MOUNTED;
+		} else if (Intent.ACTION_MEDIA_UNMOUNTED.equals(action)) {
+			return Environment.MEDIA_UNMOUNTED;
+		} else if (Intent.ACTION_MEDIA_REMOVED.equals(action)) {
+			return Environment.MEDIA_REMOVED;
+		} else if (Intent.ACTION_MEDIA_BAD_REMOVAL.equals(action)) {
+			return Environment.MEDIA_BAD_REMOVAL;
+		}
+		return null;
+	}
+
+	/**
+	 * Write the volumes cache statistics to provided writer.
+	 *
+	 * @param writer The writer used to write the statistics.
+	 */
+	public void writeStatistics(Writer writer) {
+		CachedVolumeRegistry cached = mCachedVolumeRegistry;
+		try {
+			writer.write("Volumes cache: generation=" + mVolumesGeneration.get()
+					+ ", hits=" + mVolumesCacheHits.get()
+					+ ", misses=" + mVolumesCacheMisses.get()
+					+ ", snapshot=" + (cached != null ? cached.registry.getSnapshot() : null));
+			writer.write('\n');
+			writer.write("Mount table watcher: " + mMountTableWatcher);
+			writer.write('\n');
+			mCapacitySampler.writeHistory(writer);
+			for (DiskUsageScanner scanner : mDiskUsageScanners.values()) {
+				writer.write(scanner + " " + scanner.getTree());
+				writer.write('\n');
+			}
+			if (mDuplicateFilesFinder != null) {
+				writer.write(String.valueOf(mDuplicateFilesFinder));
+				writer.write('\n');
+			}
+			if (mVolumeBenchmark != null) {
+				writer.write(String.valueOf(mVolumeBenchmark));
+				writer.write('\n');
+			}
+			if (mMountOperationExecutor != null) {
+				writer.write(String.valueOf(mMountOperationExecutor));
+				writer.write('\n');
+			}
+			if (mUnmountRetryScheduler != null) {
+				writer.write(String.valueOf(mUnmountRetryScheduler));
+				writer.write('\n');
+			}
+		} catch (IOException e) {
+			logE(TAG, "writeStatistics: " + e.getMessage(), e);
+		}
 	}
 
 	/**
@@ -160,19 +951,13 @@ public class StorageInfoApplication extends Application {
 	 * @return Mount volumes paths as a string array.
 	 */
 	public String[] getMountVolumesPathsArray() {
-		int i = 0;
-		int len = mMountVolumesPaths.size();
-		String[] arr = new String[len];
-		for (String path : mMountVolumesPaths) {
-			arr[i++] = path;
-		}
-		return arr;
+		return mVolumeRegistry != null ? mVolumeRegistry.getPaths() : new String[0];
 	}
 
 	/**
-	 * Get an array strings with disabled paths.
+	 * Get an array strings with disabled paths rules.
 	 * 
-	 * @return An array strings with disabled paths.
+	 * @return An array strings with disabled paths rules.
 	 */
 	public String[] getDisabledPaths() {
 		if (mDisabledPaths == null) {
@@ -184,33 +969,34 @@ public class StorageInfoApplication extends Application {
 			for (String path : stringSet) {
 				mDisabledPaths[i++] = path;
 			}
+			mDisabledPathMatcher = new DisabledPathMatcher(stringSet);
+			logD(TAG, "getDisabledPaths: " + mDisabledPathMatcher);
 		}
 		return mDisabledPaths;
 	}
 
 	/**
-	 * Update disabled paths.
+	 * Update disabled paths, invoked when the preference is changed.
 	 */
 	public void updateDisabledPaths() {
 		mDisabledPaths = null;
+		mNotifiedVolumes = null;
 		getDisabledPaths();
 	}
 
 	/**
-	 * Check if a path is marked as disabled.
+	 * Check if a path is marked as disabled, by an exact path rule or by a
+	 * rule for one of its parent folders.
 	 * 
 	 * @param path
 	 *            Path to be verified.
 	 * @return True, if the path is marked as disabled.
 	 */
 	public boolean isDisabledPath(String path) {
-		String[] array = getDisabledPaths();
-		for (String item : array) {
-			if (item.equals(path)) {
-				return true;
-			}
+		if (mDisabledPathMatcher == null) {
+			getDisabledPaths();
 		}
-		return false;
+		return mDisabledPathMatcher.matches(path);
 	}
 
 	/**
@@ -271,6 +1057,25 @@ public class StorageInfoApplication extends Application {
 		return mSharedPreferences.getBoolean(HIDE_UNMOUNT_CONFIRMATION, false);
 	}
 
+	/**
+	 * Check if the unmount of a busy volume should be retried.
+	 *
+	 * @return True if the unmount should be retried.
+	 */
+	public boolean isRetryBusyUnmount() {
+		return mSharedPreferences.getBoolean(RETRY_BUSY_UNMOUNT, false);
+	}
+
+	/**
+	 * Obtain the maximum time to retry the unmount of a busy volume.
+	 *
+	 * @return The retry budget in milliseconds.
+	 */
+	public long getRetryBusyUnmountBudget() {
+		return getIntPreference(RETRY_BUSY_UNMOUNT_BUDGET,
+				(int) (UnmountRetryScheduler.DEFAULT_BUDGET / 1000)) * 1000L;
+	}
+
 	/**
 	 * Check if the primary volume is checked.
 	 * @return True if the option is checked.
@@ -360,6 +1165,7 @@ public class StorageInfoApplication extends Application {
 							notification);
 					mNotifications.add(DEFAULT_NOTIFICATION_ID);
 				}
+				mNotifiedVolumes = null;
 			} else {
 				if (!mNotifications.isEmpty()) {
 					hideAllNotifications();
@@ -389,6 +1195,11 @@ public class StorageInfoApplication extends Application {
 			}
 			mNotifications.clear();
 		}
+		if (mNotificationManager != null && mBulkEjectNotificationShown) {
+			mBulkEjectNotificationShown = false;
+			hideNotification(mNotificationManager, BULK_EJECT_NOTIFICATION_ID);
+		}
+		mNotifiedVolumes = null;
 		setShowNotification(false);
 	}
 
@@ -440,14 +1251,7 @@ public class StorageInfoApplication extends Application {
 	 * @return The mount volume or null;
 	 */
 	public MountVolume getMountVolume(int storageId) {
-		if (mMountVolumes != null) {
-			for (MountVolume mountVolume : mMountVolumes) {
-				if (mountVolume.getStorageId() == storageId) {
-					return mountVolume;
-				}
-			}
-		}
-		return null;
+		return mVolumeRegistry != null ? mVolumeRegistry.getVolume(storageId) : null;
 	}
 
 	/**
@@ -458,15 +1262,7 @@ public class StorageInfoApplication extends Application {
 	 * @return True if the path is on the mount volumes list.
 	 */
 	private boolean checkMountVolume(String path) {
-		boolean result = false;
-		if (mMountVolumes != null) {
-			for (MountVolume mountVolume : mMountVolumes) {
-				if (mountVolume.getPath().equals(path)) {
-					return true;
-				}
-			}
-		}
-		return result;
+		return mVolumeRegistry != null && mVolumeRegistry.containsPath(path);
 	}
 
 	/**
@@ -506,45 +1302,95 @@ public class StorageInfoApplication extends Application {
 	}
 
 	/**
-	 * Update quick notifications.
+	 * Update quick notifications. Only the volumes changed since the last
+	 * update are notified again, unless the notified volumes were reset.
 	 */
 	public void updateQuickNotifications() {
 		NotificationManager notificationManager = getNotificationManager();
 		if (notificationManager != null) {
-			String path, state;
-			int storageId;
-			List<Integer> notifList = new ArrayList<Integer>();
-			if (mMountVolumes != null) {
-				for (MountVolume mountVolume : mMountVolumes) {
-					path = mountVolume.getPath();
-					if (!isDisabledPath(path)
-							&& mountVolume.isRemovable()
-							&& (isPrimaryVolumeChecked() || mountVolume.isPrimary())
-							&& (isEmulatedVolumeChecked() || mountVolume.isEmulated())) {
-						state = mountVolume.getVolumeState();
-						storageId = mountVolume.getStorageId();
-						logD(TAG, "updateQuickNotifications: " + mountVolume);
-						if (Environment.MEDIA_UNMOUNTED.equals(state)) {
-							notifList.add(storageId);
-							updateNotification(notificationManager,
-									mountVolume, storageId, state);
-						} else if (Environment.MEDIA_MOUNTED.equals(state)) {
-							notifList.add(storageId);
-							updateNotification(notificationManager,
-									mountVolume, storageId, state);
+			boolean primaryChecked = isPrimaryVolumeChecked();
+			boolean emulatedChecked = isEmulatedVolumeChecked();
+			if (mNotifiedVolumes == null
+					|| mNotifiedPrimaryChecked != primaryChecked
+					|| mNotifiedEmulatedChecked != emulatedChecked) {
+				refreshQuickNotifications(notificationManager);
+			} else {
+				MountVolume mountVolume;
+				for (VolumeDelta delta : VolumeDiff.compare(mNotifiedVolumes, mMountVolumes)) {
+					logD(TAG, "updateQuickNotifications: " + delta);
+					mountVolume = delta.getVolume();
+					if (VolumeDelta.TYPE_REMOVED == delta.getType()) {
+						if (mNotifications.remove(mountVolume.getStorageId())) {
+							hideNotification(notificationManager, mountVolume.getStorageId());
 						}
+					} else {
+						updateQuickNotification(notificationManager, mountVolume);
 					}
 				}
 			}
-			// hide unused notifications
-			for (Integer id : mNotifications) {
-				if (!notifList.contains(id)) {
-					hideNotification(notificationManager, id);
+			mNotifiedVolumes = mMountVolumes;
+			mNotifiedPrimaryChecked = primaryChecked;
+			mNotifiedEmulatedChecked = emulatedChecked;
+			updateBulkEjectNotification();
+		}
+		setShowNotification(!mNotifications.isEmpty());
+	}
+
+	/**
+	 * Notify again all the volumes and hide the notifications of the volumes
+	 * which are not notified anymore.
+	 */
+	private void refreshQuickNotifications(NotificationManager notificationManager) {
+		Set<Integer> notifSet = new HashSet<Integer>();
+		if (mMountVolumes != null) {
+			for (MountVolume mountVolume : mMountVolumes) {
+				if (updateQuickNotification(notificationManager, mountVolume)) {
+					notifSet.add(mountVolume.getStorageId());
 				}
 			}
-			mNotifications = notifList;
 		}
-		setShowNotification(!mNotifications.isEmpty());
+		// hide unused notifications
+		for (Integer id : mNotifications) {
+			if (!notifSet.contains(id)) {
+				hideNotification(notificationManager, id);
+			}
+		}
+		mNotifications = notifSet;
+	}
+
+	/**
+	 * Show or hide the quick notification of a volume.
+	 *
+	 * @return True if the volume is notified.
+	 */
+	private boolean updateQuickNotification(NotificationManager notificationManager,
+			MountVolume mountVolume) {
+		int storageId = mountVolume.getStorageId();
+		if (isQuickNotificationVolume(mountVolume)) {
+			String state = mountVolume.getVolumeState();
+			logD(TAG, "updateQuickNotification: " + mountVolume);
+			if (Environment.MEDIA_UNMOUNTED.equals(state)
+					|| Environment.MEDIA_MOUNTED.equals(state)) {
+				mNotifications.add(storageId);
+				updateNotification(notificationManager,
+						mountVolume, storageId, state);
+				return true;
+			}
+		}
+		if (mNotifications.remove(storageId)) {
+			hideNotification(notificationManager, storageId);
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a volume should have a quick notification.
+	 */
+	private boolean isQuickNotificationVolume(MountVolume mountVolume) {
+		return !isDisabledPath(mountVolume.getPath())
+				&& mountVolume.isRemovable()
+				&& (isPrimaryVolumeChecked() || mountVolume.isPrimary())
+				&& (isEmulatedVolumeChecked() || mountVolume.isEmulated());
 	}
 
 	private void updateNotification(NotificationManager notificationManager,
@@ -563,6 +1409,40 @@ public class StorageInfoApplication extends Application {
 		String text = path != null ? getString(
 				R.string.notification_title_path, path)
 				: getString(R.string.notification_message);
+		CapacityHistory history = mCapacitySampler.getHistory(storageId);
+		long[] sample = new long[CapacityHistory.SAMPLE_LENGTH];
+		if (path != null && Environment.MEDIA_MOUNTED.equals(state)
+				&& history != null && history.getLatest(sample)) {
+			text = getString(R.string.notification_title_path_capacity, path,
+					Formatter.formatFileSize(this, sample[CapacityHistory.SAMPLE_AVAILABLE_BYTES]),
+					Formatter.formatFileSize(this, sample[CapacityHistory.SAMPLE_TOTAL_BYTES]));
+		}
+		SafeEjectTask safeEject = path != null ? mSafeEjectTasks.get(path) : null;
+		if (safeEject != null && !safeEject.isFinished()) {
+			long initial = safeEject.getInitialPendingBytes();
+			long pending = safeEject.getPendingBytes();
+			text = getString(R.string.safe_eject_progress, path,
+					Formatter.formatFileSize(this, pending));
+			notifBuilder.setProgress(100, initial > 0 ? (int) ((initial - pending) * 100 / initial) : 0,
+					initial == 0);
+			notifBuilder.setOnlyAlertOnce(true);
+		} else if (safeEject != null && safeEject.isWaitingConfirmation()) {
+			text = getString(R.string.safe_eject_not_drained, path);
+		}
+		UnmountRetryScheduler.Retry retry = path != null && mUnmountRetryScheduler != null ?
+				mUnmountRetryScheduler.getRetry(path) : null;
+		if (retry != null) {
+			switch (retry.getState()) {
+			case UnmountRetryScheduler.STATE_WAITING:
+				text = getString(R.string.unmount_retry_waiting, path,
+						(retry.getRemainingDelay() + 999) / 1000, retry.getAttempts() + 1);
+				break;
+			case UnmountRetryScheduler.STATE_RUNNING:
+				text = getString(R.string.unmount_retry_running, path, retry.getAttempts());
+				break;
+			}
+			notifBuilder.setOnlyAlertOnce(true);
+		}
 
 		int titleId = R.string.notification_title;
 		if (path != null) {
@@ -571,6 +1451,16 @@ public class StorageInfoApplication extends Application {
 		}
 		notifBuilder.setContentTitle(getString(titleId));
 		notifBuilder.setContentText(text);
+		if (path != null && Environment.MEDIA_MOUNTED.equals(state)) {
+			Intent benchmarkIntent = new Intent(this, StorageActivity.class);
+			benchmarkIntent.setAction(ACTION_BENCHMARK);
+			benchmarkIntent.putExtra("storageId", storageId);
+			benchmarkIntent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK
+					| Intent.FLAG_ACTIVITY_CLEAR_TASK);
+			notifBuilder.addAction(android.R.drawable.ic_dialog_info,
+					getString(R.string.benchmark), PendingIntent.getActivity(
+							this.getBaseContext(), storageId, benchmarkIntent, 0));
+		}
 
 		Notification notification = notifBuilder.build();
 		if (!isAllowNotificationsDismiss()) {
@@ -631,6 +1521,19 @@ public class StorageInfoApplication extends Application {
 		return mMountService;
 	}
 
+	/**
+	 * Obtain the executor used to mount and unmount the volumes in the
+	 * background.
+	 *
+	 * @return The mount operations executor.
+	 */
+	public MountOperationExecutor getMountOperationExecutor() {
+		if (mMountOperationExecutor == null) {
+			mMountOperationExecutor = new MountOperationExecutor(getMountService());
+		}
+		return mMountOperationExecutor;
+	}
+
 	/**
 	 * Display an exception dialog message.
 	 * 
@@ -819,6 +1722,18 @@ public class StorageInfoApplication extends Application {
 		return mLogsFolder;
 	}
 
+	/**
+	 * Obtain the folder where the disk usage indexes are stored.
+	 *
+	 * @return The disk usage indexes folder.
+	 */
+	public File getDiskUsageFolder() {
+		if (mDiskUsageFolder == null) {
+			mDiskUsageFolder = new File(getCacheDir(), DiskUsageIndex.INDEX_FOLDER_NAME);
+		}
+		return mDiskUsageFolder;
+	}
+
 
 	/**
 	 * Send a {@link #ERROR} log message and log the exception.
@@ -18,10 +18,18 @@
  */
 package ro.ciubex.storageinfo.activities;
 
+import java.util.List;
+
 import ro.ciubex.storageinfo.R;
 import ro.ciubex.storageinfo.StorageInfoApplication;
 import ro.ciubex.storageinfo.model.MountVolume;
-import ro.ciubex.storageinfo.util.Utils.MountService;
+import ro.ciubex.storageinfo.model.VolumeUser;
+import ro.ciubex.storageinfo.task.MountOperationExecutor;
+import ro.ciubex.storageinfo.task.MountOperationExecutor.Operation;
+import ro.ciubex.storageinfo.task.SafeEjectTask;
+import ro.ciubex.storageinfo.task.VolumeBenchmark;
+import ro.ciubex.storageinfo.task.VolumeUsersTask;
+import ro.ciubex.storageinfo.util.VolumeUsersScanner;
 import android.app.Activity;
 import android.app.AlertDialog;
 import android.app.Application;
@@ -33,6 +41,7 @@ import android.content.Intent;
 import android.os.Bundle;
 import android.os.Environment;
 import android.provider.Settings;
+import android.text.format.Formatter;
 import android.view.Window;
 
 /**
@@ -48,8 +57,15 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 	private static final int ALERT_UNMOUNT = 0;
 	private static final int ALERT_MOUNT = 1;
 	private static final int ALERT_INVALID = 2;
+	private static final int ALERT_EJECT_ALL = 3;
+	private static final int ALERT_BENCHMARK = 4;
+	private static final int ALERT_NOT_DRAINED = 5;
+	private static final int MAX_LISTED_FILES = 5;
 	private MountVolume mMountVolume;
 	private String mMountState;
+	private RunningOperation mRunning;
+	private boolean mEjectAll;
+	private boolean mBenchmark;
 
 	/**
 	 * Called when the activity is starting.
@@ -67,6 +83,11 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 		getWindow().setFeatureDrawableResource(Window.FEATURE_LEFT_ICON,
 				android.R.drawable.ic_dialog_alert);
 		initActivity(getApplication());
+		mRunning = (RunningOperation) getLastNonConfigurationInstance();
+		if (mRunning != null) {
+			// recreated for a configuration change, the operation is still running
+			mRunning.mActivity = this;
+		}
 	}
 
 	@Override
@@ -79,7 +100,12 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 		if (application instanceof StorageInfoApplication) {
 			mApplication = (StorageInfoApplication) application;
 			int storageId = getIntent().getIntExtra("storageId", -1);
-			if (storageId != -1) {
+			if (StorageInfoApplication.ACTION_BENCHMARK.equals(getIntent().getAction())) {
+				mBenchmark = true;
+				mMountVolume = mApplication.getMountVolume(storageId);
+			} else if (StorageInfoApplication.ACTION_EJECT_ALL.equals(getIntent().getAction())) {
+				mEjectAll = true;
+			} else if (storageId != -1) {
 				mMountVolume = mApplication.getMountVolume(storageId);
 				if (mMountVolume != null) {
 					mMountState = mMountVolume.getVolumeState();
@@ -94,14 +120,61 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 	@Override
 	protected void onResume() {
 		super.onResume();
-		prepareActivity();
+		if (!isFinishing()) {
+			prepareActivity();
+		}
+	}
+
+	/**
+	 * Keep the running operation when the activity is recreated for a
+	 * configuration change.
+	 */
+	@Override
+	public Object onRetainNonConfigurationInstance() {
+		return mRunning;
+	}
+
+	/**
+	 * Method invoked when the activity is destroyed, a pending mount
+	 * operation is not reported anymore and a safe eject is cancelled,
+	 * unless the activity is only recreated for a configuration change.
+	 */
+	@Override
+	protected void onDestroy() {
+		if (mRunning != null) {
+			mRunning.mActivity = null;
+			if (!isChangingConfigurations()) {
+				mRunning.cancel(mApplication);
+			}
+			mRunning = null;
+		}
+		super.onDestroy();
 	}
 
 	/**
 	 * Prepare this activity for unmount, mount or storage settings.
 	 */
 	private void prepareActivity() {
-		if (mMountVolume != null) {
+		if (mRunning != null) {
+			// wait for the running operation
+			showProgressTitle();
+		} else if (mBenchmark) {
+			// the benchmark is always confirmed, it writes on the storage
+			if (mMountVolume != null
+					&& Environment.MEDIA_MOUNTED.equals(mMountVolume.getVolumeState())) {
+				setTitle(R.string.benchmark);
+				showDialog(ALERT_BENCHMARK);
+			} else {
+				finish();
+			}
+		} else if (mEjectAll) {
+			if (mApplication.hideUnmountConfirmation()) {
+				onClickOk();
+			} else {
+				setTitle(R.string.bulk_eject_title);
+				showDialog(ALERT_EJECT_ALL);
+			}
+		} else if (mMountVolume != null) {
 			prepareActivityText();
 		} else {
 			showStorageSettings();
@@ -139,7 +212,10 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 	protected Dialog onCreateDialog(int id) {
 		Dialog dialog = null;
 		AlertDialog.Builder builder = null;
-		String path = mMountVolume.getPath();
+		String path = mMountVolume != null ? mMountVolume.getPath() : null;
+		if (id == ALERT_NOT_DRAINED) {
+			return createNotDrainedDialog(path);
+		}
 		switch (id) {
 		case ALERT_UNMOUNT:
 			builder = new AlertDialog.Builder(this);
@@ -151,6 +227,21 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 			builder.setTitle(R.string.confirm_mount_title).setMessage(
 					getString(R.string.confirm_mount_text, path));
 			break;
+		case ALERT_EJECT_ALL:
+			StringBuilder paths = new StringBuilder();
+			for (MountVolume mountVolume : mApplication.getEjectableVolumes()) {
+				paths.append(mountVolume.getPath()).append('\n');
+			}
+			builder = new AlertDialog.Builder(this);
+			builder.setTitle(R.string.bulk_eject_title).setMessage(
+					getString(R.string.confirm_eject_all_text, paths));
+			break;
+		case ALERT_BENCHMARK:
+			builder = new AlertDialog.Builder(this);
+			builder.setTitle(getString(R.string.benchmark_title, path)).setMessage(
+					getString(R.string.confirm_benchmark_text, path, Formatter.formatFileSize(
+							this, VolumeBenchmark.DEFAULT_FILE_SIZE)));
+			break;
 		case ALERT_INVALID:
 			builder = new AlertDialog.Builder(this);
 			builder.setTitle(R.string.invalid_mount_title).setMessage(
@@ -178,8 +269,51 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 		return dialog;
 	}
 
+	/**
+	 * Create the dialog shown when the safe eject deadline was reached with
+	 * the data still being written: wait again, eject anyway or cancel.
+	 */
+	private Dialog createNotDrainedDialog(String path) {
+		return new AlertDialog.Builder(this)
+				.setTitle(R.string.safe_eject_not_drained_title)
+				.setMessage(getString(R.string.safe_eject_not_drained_text, path,
+						SafeEjectTask.DEFAULT_DEADLINE / 1000))
+				.setCancelable(false)
+				.setNegativeButton(R.string.cancel, new DialogInterface.OnClickListener() {
+					public void onClick(DialogInterface dialog, int id) {
+						onClickCancel();
+					}
+				})
+				.setNeutralButton(R.string.safe_eject_wait, new DialogInterface.OnClickListener() {
+					public void onClick(DialogInterface dialog, int id) {
+						mRunning.mActivity = null;
+						mRunning = null;
+						doUnmount();
+					}
+				})
+				.setPositiveButton(R.string.safe_eject_anyway, new DialogInterface.OnClickListener() {
+					public void onClick(DialogInterface dialog, int id) {
+						Operation operation = mApplication.unmountNotDrained(mRunning.mSafeEject);
+						if (operation != null) {
+							onOperationStarted(operation);
+						} else {
+							onClickCancel();
+						}
+					}
+				})
+				.create();
+	}
+
 	private void onClickOk() {
-		if (Environment.MEDIA_MOUNTED.equals(mMountState)) {
+		if (mBenchmark) {
+			// the progress is shown on the benchmark notification
+			mApplication.startVolumeBenchmark(mMountVolume.getStorageId());
+			finish();
+		} else if (mEjectAll) {
+			// the progress is shown on the summary notification
+			mApplication.startBulkEject();
+			finish();
+		} else if (Environment.MEDIA_MOUNTED.equals(mMountState)) {
 			doUnmount();
 		} else if (Environment.MEDIA_UNMOUNTED.equals(mMountState)) {
 			doMount();
@@ -209,21 +343,113 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 	}
 
 	/**
-	 * Do unmount
+	 * Do unmount, after the cached data of the volume is written.
 	 */
 	private void doUnmount() {
-		if (mMountVolume != null) {
-			String path = mMountVolume.getPath();
-			try {
-				MountService.unmountVolume(mApplication.getMountService(), path, true);
+		if (mMountVolume != null && mRunning == null) {
+			setTitle(getString(R.string.safe_eject_in_progress, mMountVolume.getPath()));
+			mRunning = new RunningOperation(this);
+			mRunning.mSafeEject = mApplication.startSafeEject(mMountVolume, mRunning);
+		}
+	}
+
+	/**
+	 * Show the running operation on the activity title.
+	 */
+	private void showProgressTitle() {
+		Operation operation = mRunning.getOperation();
+		if (mRunning.mVolumeUsersTask != null) {
+			setTitle(R.string.error_unmount_title);
+			if (mRunning.mUsers != null) {
+				// the scan finished while the activity was recreated
+				onVolumeUsersFound(mRunning);
+			}
+		} else if (operation != null) {
+			onOperationStarted(operation);
+		} else if (mRunning.mSafeEject != null && mRunning.mSafeEject.isWaitingConfirmation()) {
+			// the deadline could be reached while the activity was recreated
+			onSafeEjectNotDrained(mRunning.mSafeEject);
+		} else if (mRunning.mSafeEject != null) {
+			setTitle(getString(R.string.safe_eject_in_progress,
+					mRunning.mSafeEject.getMountVolume().getPath()));
+		}
+	}
+
+	/**
+	 * Invoked when the mount or unmount operation is started, the activity
+	 * progress bar is shown until the operation is finished.
+	 * @param operation The started operation.
+	 */
+	private void onOperationStarted(Operation operation) {
+		setTitle(getString(operation.getType() == MountOperationExecutor.OPERATION_MOUNT ?
+				R.string.mount_in_progress : R.string.unmount_in_progress,
+				operation.getPath()));
+	}
+
+	/**
+	 * Invoked when the mount or unmount operation is finished.
+	 * @param operation The finished operation.
+	 */
+	private void onOperationFinished(Operation operation) {
+		mRunning = null;
+		mApplication.logD(TAG, "onOperationFinished: " + operation);
+		String path = operation.getPath();
+		boolean mount = operation.getType() == MountOperationExecutor.OPERATION_MOUNT;
+		switch (operation.getStatus()) {
+		case MountOperationExecutor.STATUS_SUCCESS:
+			finish();
+			break;
+		case MountOperationExecutor.STATUS_FAILED:
+			mApplication.showExceptionMessage(this,
+					getString(R.string.error_mount_title),
+					getString(R.string.error_mount_detach_text, path));
+			break;
+		case MountOperationExecutor.STATUS_ERROR:
+			Exception e = operation.getError();
+			mApplication.logE(TAG, e.getMessage(), e);
+			if (mount) {
+				handleMountException(e, path);
+			} else if (mApplication.isRetryBusyUnmount() && mMountVolume != null
+					&& !isSecurityException(e.getCause())) {
+				// the retries are shown on the quick notification
+				mApplication.scheduleUnmountRetry(mMountVolume);
 				finish();
-			} catch (Exception e) {
-				mApplication.logE(TAG, e.getMessage(), e);
+			} else {
 				handleUnmountException(e, path);
 			}
+			break;
+		case MountOperationExecutor.STATUS_TIMEOUT:
+			mApplication.showExceptionMessage(this,
+					getString(mount ? R.string.error_mount_title : R.string.error_unmount_title),
+					getString(R.string.error_operation_timeout, path,
+							MountOperationExecutor.DEFAULT_TIMEOUT / 1000));
+			break;
 		}
 	}
 
+	/**
+	 * Invoked when the safe eject was cancelled before the unmount, because
+	 * the volume was unmounted, removed or ejected meanwhile, there is
+	 * nothing left to do.
+	 * @param task The cancelled safe eject.
+	 */
+	private void onSafeEjectCancelled(SafeEjectTask task) {
+		mApplication.logD(TAG, "onSafeEjectCancelled: " + task);
+		mRunning = null;
+		finish();
+	}
+
+	/**
+	 * Invoked when the safe eject deadline was reached with the data still
+	 * being written, the user decides to wait again or to eject anyway.
+	 * @param task The safe eject which was not unmounted.
+	 */
+	private void onSafeEjectNotDrained(SafeEjectTask task) {
+		mApplication.logD(TAG, "onSafeEjectNotDrained: " + task);
+		setTitle(R.string.safe_eject_not_drained_title);
+		showDialog(ALERT_NOT_DRAINED);
+	}
+
 	/**
 	 * Handle the unmount exceptions cases.
 	 * @param e The encountered exception.
@@ -238,10 +464,60 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 		} else {
 			String cause = (e.getCause() != null) ? String.valueOf(e.getCause().getCause()) :
 					String.valueOf(e.getCause());
-			mApplication.showExceptionMessage(
-					this,
-					getString(R.string.error_unmount_title),
-					getString(R.string.error_unmount_text, path, e.getMessage(), cause));
+			// the scan is retained like the operations, its result is shown
+			// by the current activity instance
+			mRunning = new RunningOperation(this);
+			mRunning.mUnmountMessage = getString(R.string.error_unmount_text, path,
+					e.getMessage(), cause);
+			mRunning.mVolumeUsersTask = new VolumeUsersTask(mApplication.getMountService(),
+					path, mRunning);
+			mRunning.mVolumeUsersTask.execute();
+		}
+	}
+
+	/**
+	 * Invoked when the processes which are using the volume were found,
+	 * show them with the unmount error.
+	 * @param running The finished volume users scan.
+	 */
+	private void onVolumeUsersFound(RunningOperation running) {
+		mRunning = null;
+		mApplication.showExceptionMessage(this, getString(R.string.error_unmount_title),
+				running.mUnmountMessage + getVolumeUsersText(running.mScanner, running.mUsers));
+	}
+
+	/**
+	 * Prepare the text with the processes which are using the volume.
+	 * @param scanner The scanner used to find the processes.
+	 * @param users The processes which are using the volume.
+	 * @return The text to be added to the unmount error message.
+	 */
+	private String getVolumeUsersText(VolumeUsersScanner scanner, List<VolumeUser> users) {
+		StringBuilder text = new StringBuilder();
+		if (!users.isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			for (VolumeUser user : users) {
+				list.append('\n').append(getString(R.string.error_unmount_user,
+						user.getName() != null ? user.getName() : "?", user.getPid()));
+				appendFiles(list, user.getOpenFiles());
+				appendFiles(list, user.getMappedFiles());
+			}
+			text.append("\n\n").append(getString(R.string.error_unmount_users, list));
+		}
+		if (!scanner.isComplete()) {
+			text.append("\n").append(getString(R.string.error_unmount_users_incomplete));
+		}
+		return text.toString();
+	}
+
+	private void appendFiles(StringBuilder list, List<String> files) {
+		int count = Math.min(files.size(), MAX_LISTED_FILES);
+		for (int i = 0; i < count; i++) {
+			list.append("\n  ").append(files.get(i));
+		}
+		if (files.size() > count) {
+			list.append("\n  ").append(getString(R.string.error_unmount_user_more_files,
+					files.size() - count));
 		}
 	}
 
@@ -253,7 +529,7 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 	private boolean isSecurityException(Throwable cause) {
 		if (cause instanceof SecurityException) {
 			return true;
-		} else if (cause.getCause() != null) {
+		} else if (cause != null && cause.getCause() != null) {
 			return isSecurityException(cause.getCause());
 		}
 		return false;
@@ -263,22 +539,11 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 	 * Do mount
 	 */
 	private void doMount() {
-		if (mMountVolume != null) {
-			String path = mMountVolume.getPath();
-			try {
-				int result = MountService.mountVolume(
-						mApplication.getMountService(), path);
-				if (result != 0) {
-					mApplication.showExceptionMessage(this,
-							getString(R.string.error_mount_title),
-							getString(R.string.error_mount_detach_text, path));
-				} else {
-					finish();
-				}
-			} catch (Exception e) {
-				mApplication.logE(TAG, e.getMessage(), e);
-				handleMountException(e, path);
-			}
+		if (mMountVolume != null && mRunning == null) {
+			mRunning = new RunningOperation(this);
+			mRunning.mOperation = mApplication.getMountOperationExecutor().mount(
+					mMountVolume.getPath(),
+					MountOperationExecutor.DEFAULT_TIMEOUT, mRunning);
 		}
 	}
 
@@ -323,4 +588,97 @@ public class StorageActivity extends Activity implements DialogButtonListener {
 	public Context getContext() {
 		return this;
 	}
+
+	/**
+	 * The mount operation, the safe eject or the volume users scan started by
+	 * the activity. It is retained when the activity is recreated for a
+	 * configuration change and forwards the events to the current activity
+	 * instance.
+	 */
+	private static class RunningOperation implements SafeEjectTask.OperationListener,
+			VolumeUsersTask.Listener {
+		private StorageActivity mActivity;
+		private Operation mOperation;
+		private SafeEjectTask mSafeEject;
+		private VolumeUsersTask mVolumeUsersTask;
+		private String mUnmountMessage;
+		private VolumeUsersScanner mScanner;
+		private List<VolumeUser> mUsers;
+
+		RunningOperation(StorageActivity activity) {
+			mActivity = activity;
+		}
+
+		/**
+		 * @return The mount operation or the safe eject unmount, null if the
+		 * unmount was not submitted yet.
+		 */
+		private Operation getOperation() {
+			return mOperation != null ? mOperation
+					: (mSafeEject != null ? mSafeEject.getOperation() : null);
+		}
+
+		/**
+		 * Check if an operation was started by this activity.
+		 * @param operation The operation to check.
+		 * @return True if is the mount operation or the safe eject unmount.
+		 */
+		private boolean isOwnOperation(Operation operation) {
+			return operation == getOperation();
+		}
+
+		/**
+		 * Cancel the operation, its events are not forwarded anymore.
+		 */
+		private void cancel(StorageInfoApplication application) {
+			mActivity = null;
+			if (mOperation != null) {
+				mOperation.cancel();
+			}
+			if (mSafeEject != null) {
+				application.cancelSafeEject(mSafeEject.getMountVolume().getPath());
+				mSafeEject.cancel();
+			}
+			if (mVolumeUsersTask != null) {
+				mVolumeUsersTask.cancel(false);
+			}
+		}
+
+		@Override
+		public void onVolumeUsersFound(VolumeUsersScanner scanner, List<VolumeUser> users) {
+			mScanner = scanner;
+			mUsers = users;
+			if (mActivity != null) {
+				mActivity.onVolumeUsersFound(this);
+			}
+		}
+
+		@Override
+		public void onOperationStarted(Operation operation) {
+			if (mActivity != null && isOwnOperation(operation)) {
+				mActivity.onOperationStarted(operation);
+			}
+		}
+
+		@Override
+		public void onOperationFinished(Operation operation) {
+			if (mActivity != null && isOwnOperation(operation)) {
+				mActivity.onOperationFinished(operation);
+			}
+		}
+
+		@Override
+		public void onSafeEjectCancelled(SafeEjectTask task) {
+			if (mActivity != null && task == mSafeEject) {
+				mActivity.onSafeEjectCancelled(task);
+			}
+		}
+
+		@Override
+		public void onSafeEjectNotDrained(SafeEjectTask task) {
+			if (mActivity != null && task == mSafeEject) {
+				mActivity.onSafeEjectNotDrained(task);
+			}
+		}
+	}
 }
@@ -0,0 +1,416 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.activities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import ro.ciubex.storageinfo.R;
+import ro.ciubex.storageinfo.StorageInfoApplication;
+import ro.ciubex.storageinfo.model.DiskUsageTree;
+import ro.ciubex.storageinfo.model.CapacityHistory;
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.model.VolumeRegistry;
+import ro.ciubex.storageinfo.task.DiskUsageScanner;
+import ro.ciubex.storageinfo.task.DuplicateFilesFinder;
+import ro.ciubex.storageinfo.task.LargestFilesFinder;
+import ro.ciubex.storageinfo.util.Utils;
+import android.app.Activity;
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Environment;
+import android.text.format.Formatter;
+import android.widget.TextView;
+
+/**
+ * Show the analysis of the mounted storages: the progress while it is
+ * running and the results at the end. The analysis is started by the
+ * settings, for the chosen storage.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class StorageAnalysisActivity extends Activity {
+	public static final String EXTRA_ANALYSIS = "analysis";
+	public static final String EXTRA_PATHS = "paths";
+	public static final int ANALYSIS_DISK_USAGE = 0;
+	public static final int ANALYSIS_LARGEST_FILES = 1;
+	public static final int ANALYSIS_DUPLICATE_FILES = 2;
+	private static final int MAX_LISTED_FOLDERS = 20;
+	private static final int LARGEST_FILES_LIMIT = 50;
+	private static final int MAX_LISTED_GROUPS = 30;
+	private StorageInfoApplication mApplication;
+	private TextView mAnalysisTextView;
+	private RunningAnalysis mRunning;
+
+	/**
+	 * The running analysis, kept when the activity is recreated for a
+	 * configuration change. The events are forwarded to the current activity.
+	 */
+	private static class RunningAnalysis implements DiskUsageScanner.Listener,
+			LargestFilesFinder.Listener, DuplicateFilesFinder.Listener {
+		private StorageAnalysisActivity mActivity;
+		private String mTitle;
+		private int mStorageId;
+		private DiskUsageScanner mScanner;
+		private LargestFilesFinder mLargestFilesFinder;
+		private DuplicateFilesFinder mDuplicateFilesFinder;
+
+		private RunningAnalysis(StorageAnalysisActivity activity) {
+			mActivity = activity;
+		}
+
+		/**
+		 * Cancel the analysis and release its results.
+		 *
+		 * @param application The application which started the analysis.
+		 */
+		private void cancel(StorageInfoApplication application) {
+			if (mScanner != null) {
+				application.cancelDiskUsageScan(mScanner);
+			}
+			if (mLargestFilesFinder != null) {
+				application.cancelLargestFilesSearch(mLargestFilesFinder);
+			}
+			if (mDuplicateFilesFinder != null) {
+				application.cancelDuplicateFilesSearch(mDuplicateFilesFinder);
+			}
+		}
+
+		@Override
+		public void onScanProgress(DiskUsageScanner scanner) {
+			if (mActivity != null) {
+				mActivity.showDiskUsage(scanner);
+			}
+		}
+
+		@Override
+		public void onScanFinished(DiskUsageScanner scanner) {
+			if (mActivity != null) {
+				mActivity.showDiskUsage(scanner);
+			}
+		}
+
+		@Override
+		public void onSearchProgress(LargestFilesFinder finder) {
+			if (mActivity != null) {
+				mActivity.showLargestFiles(finder);
+			}
+		}
+
+		@Override
+		public void onSearchFinished(LargestFilesFinder finder) {
+			if (mActivity != null) {
+				mActivity.showLargestFiles(finder);
+			}
+		}
+
+		@Override
+		public void onSearchProgress(DuplicateFilesFinder finder) {
+			if (mActivity != null) {
+				mActivity.showDuplicateFiles(finder);
+			}
+		}
+
+		@Override
+		public void onSearchFinished(DuplicateFilesFinder finder) {
+			if (mActivity != null) {
+				mActivity.showDuplicateFiles(finder);
+			}
+		}
+	}
+
+	/**
+	 * Called when the activity is starting.
+	 *
+	 * @param savedInstanceState If the activity is being re-initialized after
+	 *                           previously being shut down then this Bundle
+	 *                           contains the data it most recently supplied in
+	 *                           onSaveInstanceState(Bundle).
+	 */
+	@Override
+	protected void onCreate(Bundle savedInstanceState) {
+		super.onCreate(savedInstanceState);
+		setContentView(R.layout.analysis_layout);
+		mAnalysisTextView = (TextView) findViewById(R.id.analysisTextView);
+		mApplication = (StorageInfoApplication) getApplication();
+		mRunning = (RunningAnalysis) getLastNonConfigurationInstance();
+		if (mRunning != null) {
+			// recreated for a configuration change, show the same analysis
+			mRunning.mActivity = this;
+			showAnalysis();
+		} else {
+			startAnalysis(getIntent());
+		}
+	}
+
+	/**
+	 * Keep the running analysis when the activity is recreated for a
+	 * configuration change.
+	 */
+	@Override
+	public Object onRetainNonConfigurationInstance() {
+		return mRunning;
+	}
+
+	/**
+	 * Method invoked when the activity is destroyed, the analysis is
+	 * cancelled unless the activity is only recreated for a configuration
+	 * change.
+	 */
+	@Override
+	protected void onDestroy() {
+		if (mRunning != null) {
+			mRunning.mActivity = null;
+			if (!isChangingConfigurations()) {
+				mRunning.cancel(mApplication);
+			}
+			mRunning = null;
+		}
+		super.onDestroy();
+	}
+
+	/**
+	 * Start the analysis requested by the intent.
+	 *
+	 * @param intent The intent with the analysis type and the storages paths.
+	 */
+	private void startAnalysis(Intent intent) {
+		String[] paths = intent.getStringArrayExtra(EXTRA_PATHS);
+		if (paths == null || paths.length == 0) {
+			finish();
+			return;
+		}
+		VolumeRegistry registry = mApplication.getVolumeRegistry();
+		MountVolume mountVolume;
+		for (String path : paths) {
+			mountVolume = registry.getVolume(path);
+			if (mountVolume == null
+					|| !Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+				mAnalysisTextView.setText(getString(R.string.analysis_volume_not_mounted, path));
+				return;
+			}
+		}
+		mRunning = new RunningAnalysis(this);
+		switch (intent.getIntExtra(EXTRA_ANALYSIS, ANALYSIS_DISK_USAGE)) {
+			case ANALYSIS_DISK_USAGE:
+				mountVolume = registry.getVolume(paths[0]);
+				mRunning.mTitle = getString(R.string.disk_usage_title, paths[0]);
+				mRunning.mStorageId = mountVolume.getStorageId();
+				mRunning.mScanner = mApplication.startDiskUsageScan(mountVolume, mRunning);
+				break;
+			case ANALYSIS_LARGEST_FILES:
+				mRunning.mTitle = getString(R.string.largest_files_title, paths[0]);
+				mRunning.mLargestFilesFinder = mApplication.startLargestFilesSearch(paths[0],
+						LARGEST_FILES_LIMIT, mRunning);
+				break;
+			case ANALYSIS_DUPLICATE_FILES:
+				mRunning.mTitle = getString(R.string.duplicate_files_title,
+						Utils.join(paths, ", "));
+				mRunning.mDuplicateFilesFinder = mApplication.startDuplicateFilesSearch(paths,
+						mRunning);
+				break;
+		}
+		showAnalysis();
+	}
+
+	/**
+	 * Show the current state of the running analysis.
+	 */
+	private void showAnalysis() {
+		setTitle(mRunning.mTitle);
+		if (mRunning.mScanner != null) {
+			showDiskUsage(mRunning.mScanner);
+		} else if (mRunning.mLargestFilesFinder != null) {
+			showLargestFiles(mRunning.mLargestFilesFinder);
+		} else if (mRunning.mDuplicateFilesFinder != null) {
+			showDuplicateFiles(mRunning.mDuplicateFilesFinder);
+		}
+	}
+
+	/**
+	 * Show the disk usage scan progress or, when the scan is finished, the
+	 * largest folders of the storage.
+	 *
+	 * @param scanner The disk usage scanner.
+	 */
+	private void showDiskUsage(DiskUsageScanner scanner) {
+		final DiskUsageTree tree = scanner.getTree();
+		if (!scanner.isFinished()) {
+			mAnalysisTextView.setText(getString(R.string.disk_usage_running,
+					scanner.getScannedDirectories(), scanner.getScannedFiles(),
+					Formatter.formatFileSize(this, tree.getSize(DiskUsageTree.ROOT))));
+			return;
+		}
+		if (scanner.isCancelled()) {
+			mAnalysisTextView.setText(R.string.analysis_cancelled);
+			return;
+		}
+		StringBuilder text = new StringBuilder();
+		text.append(getString(R.string.disk_usage_result,
+				Formatter.formatFileSize(this, tree.getSize(DiskUsageTree.ROOT)),
+				tree.getFileCount(DiskUsageTree.ROOT), tree.size() - 1,
+				scanner.getElapsedTime() / 1000.0));
+		if (scanner.getReusedDirectories() > 0) {
+			// the scan used the disk usage index of the storage
+			text.append('\n').append(getString(R.string.disk_usage_reused,
+					scanner.getReusedDirectories()));
+		}
+		appendCapacity(text, mApplication.getCapacityHistory(mRunning.mStorageId));
+		List<Integer> folders = new ArrayList<Integer>();
+		for (int node = tree.getFirstChild(DiskUsageTree.ROOT); node != DiskUsageTree.NONE;
+				node = tree.getNextSibling(node)) {
+			folders.add(node);
+		}
+		Collections.sort(folders, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer first, Integer second) {
+				long firstSize = tree.getSize(first);
+				long secondSize = tree.getSize(second);
+				return firstSize > secondSize ? -1 : (firstSize == secondSize ? 0 : 1);
+			}
+		});
+		text.append('\n');
+		if (tree.getOwnFileCount(DiskUsageTree.ROOT) > 0) {
+			text.append('\n').append(getString(R.string.disk_usage_item,
+					Formatter.formatFileSize(this, tree.getOwnSize(DiskUsageTree.ROOT)),
+					getString(R.string.disk_usage_own_files),
+					tree.getOwnFileCount(DiskUsageTree.ROOT)));
+		}
+		int count = Math.min(folders.size(), MAX_LISTED_FOLDERS);
+		int node;
+		for (int i = 0; i < count; i++) {
+			node = folders.get(i);
+			text.append('\n').append(getString(R.string.disk_usage_item,
+					Formatter.formatFileSize(this, tree.getSize(node)),
+					tree.getName(node), tree.getFileCount(node)));
+		}
+		mAnalysisTextView.setText(text);
+	}
+
+	/**
+	 * Show the largest files search progress or, when the search is
+	 * finished, the found files from the largest one.
+	 *
+	 * @param finder The largest files finder.
+	 */
+	private void showLargestFiles(LargestFilesFinder finder) {
+		if (!finder.isFinished()) {
+			mAnalysisTextView.setText(getString(R.string.largest_files_running,
+					finder.getScannedFiles(),
+					Formatter.formatFileSize(this, finder.getScannedBytes())));
+			return;
+		}
+		if (finder.isCancelled()) {
+			mAnalysisTextView.setText(R.string.analysis_cancelled);
+			return;
+		}
+		int count = finder.getResultCount();
+		StringBuilder text = new StringBuilder(getString(R.string.largest_files_result,
+				count, finder.getScannedFiles()));
+		text.append('\n');
+		for (int i = 0; i < count; i++) {
+			text.append('\n').append(getString(R.string.largest_files_item,
+					Formatter.formatFileSize(this, finder.getResultSize(i)),
+					finder.getResultPath(i)));
+		}
+		mAnalysisTextView.setText(text);
+	}
+
+	/**
+	 * Append the available space of the storage and how it changed over the
+	 * sampled capacity history.
+	 *
+	 * @param text    The text to append to.
+	 * @param history The capacity history of the storage, could be null.
+	 */
+	private void appendCapacity(StringBuilder text, CapacityHistory history) {
+		long[] oldest = new long[CapacityHistory.SAMPLE_LENGTH];
+		long[] latest = new long[CapacityHistory.SAMPLE_LENGTH];
+		if (history == null || !history.getSample(0, oldest) || !history.getLatest(latest)) {
+			return;
+		}
+		text.append('\n').append(getString(R.string.disk_usage_capacity,
+				Formatter.formatFileSize(this, latest[CapacityHistory.SAMPLE_AVAILABLE_BYTES]),
+				Formatter.formatFileSize(this, latest[CapacityHistory.SAMPLE_TOTAL_BYTES])));
+		int minutes = (int) ((latest[CapacityHistory.SAMPLE_TIMESTAMP]
+				- oldest[CapacityHistory.SAMPLE_TIMESTAMP]) / 60000);
+		long change = latest[CapacityHistory.SAMPLE_AVAILABLE_BYTES]
+				- oldest[CapacityHistory.SAMPLE_AVAILABLE_BYTES];
+		if (minutes > 0 && change != 0) {
+			text.append('\n').append(getString(change < 0 ? R.string.disk_usage_capacity_used
+					: R.string.disk_usage_capacity_freed,
+					Formatter.formatFileSize(this, Math.abs(change)), minutes));
+		}
+	}
+
+	/**
+	 * Obtain the name of a duplicate files search stage.
+	 */
+	private String getStageName(int stage) {
+		switch (stage) {
+			case DuplicateFilesFinder.STAGE_PARTIAL_HASH:
+				return getString(R.string.duplicate_files_stage_partial_hash);
+			case DuplicateFilesFinder.STAGE_FULL_HASH:
+				return getString(R.string.duplicate_files_stage_full_hash);
+			default:
+				return getString(R.string.duplicate_files_stage_walk);
+		}
+	}
+
+	/**
+	 * Show the duplicate files search progress or, when the search is
+	 * finished, the throughput of each stage and the duplicate groups.
+	 *
+	 * @param finder The duplicate files finder.
+	 */
+	private void showDuplicateFiles(DuplicateFilesFinder finder) {
+		if (!finder.isFinished()) {
+			mAnalysisTextView.setText(getString(R.string.duplicate_files_running,
+					getStageName(finder.getStage()), finder.getProcessedFiles()));
+			return;
+		}
+		if (finder.isCancelled()) {
+			mAnalysisTextView.setText(R.string.analysis_cancelled);
+			return;
+		}
+		int groups = finder.getGroupCount();
+		StringBuilder text = new StringBuilder(getString(R.string.duplicate_files_result,
+				groups, Formatter.formatFileSize(this, finder.getDuplicateBytes())));
+		text.append('\n');
+		for (int stage = 0; stage < DuplicateFilesFinder.STAGES; stage++) {
+			text.append('\n').append(getString(R.string.duplicate_files_stage_result,
+					getStageName(stage), finder.getStageFiles(stage),
+					Formatter.formatFileSize(this, finder.getStageBytes(stage)),
+					finder.getStageThroughput(stage)));
+		}
+		int count = Math.min(groups, MAX_LISTED_GROUPS);
+		int length;
+		for (int group = 0; group < count; group++) {
+			length = finder.getGroupLength(group);
+			text.append("\n\n").append(getString(R.string.duplicate_files_group, length,
+					Formatter.formatFileSize(this, finder.getGroupFileSize(group))));
+			for (int i = 0; i < length; i++) {
+				text.append('\n').append(finder.getGroupFilePath(group, i));
+			}
+		}
+		mAnalysisTextView.setText(text);
+	}
+}
@@ -30,8 +30,11 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -39,9 +42,12 @@ import ro.ciubex.storageinfo.R;
 import ro.ciubex.storageinfo.StorageInfoApplication;
 import ro.ciubex.storageinfo.list.ApplicationsListAdapter;
 import ro.ciubex.storageinfo.model.AppInfo;
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.model.VolumeRegistry;
 import ro.ciubex.storageinfo.provider.CachedFileProvider;
 import ro.ciubex.storageinfo.task.ScanForApplications;
 import ro.ciubex.storageinfo.util.Devices;
+import ro.ciubex.storageinfo.util.DisabledPathMatcher;
 import ro.ciubex.storageinfo.util.Utils;
 import android.app.AlertDialog;
 import android.content.ActivityNotFoundException;
@@ -54,11 +60,13 @@ import android.database.Cursor;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
+import android.os.Environment;
 import android.preference.ListPreference;
 import android.preference.MultiSelectListPreference;
 import android.preference.Preference;
 import android.preference.PreferenceActivity;
 import android.provider.Settings;
+import android.text.TextUtils;
 import android.util.Log;
 
 /**
@@ -151,6 +159,30 @@ public class StorageInfoPreferences extends PreferenceActivity implements
 						return onMakeDonation();
 					}
 				});
+		((Preference) findPreference("diskUsage"))
+				.setOnPreferenceClickListener(new Preference.OnPreferenceClickListener() {
+
+					@Override
+					public boolean onPreferenceClick(Preference preference) {
+						return onStorageAnalysis(StorageAnalysisActivity.ANALYSIS_DISK_USAGE);
+					}
+				});
+		((Preference) findPreference("largestFiles"))
+				.setOnPreferenceClickListener(new Preference.OnPreferenceClickListener() {
+
+					@Override
+					public boolean onPreferenceClick(Preference preference) {
+						return onStorageAnalysis(StorageAnalysisActivity.ANALYSIS_LARGEST_FILES);
+					}
+				});
+		((Preference) findPreference("duplicateFiles"))
+				.setOnPreferenceClickListener(new Preference.OnPreferenceClickListener() {
+
+					@Override
+					public boolean onPreferenceClick(Preference preference) {
+						return onStorageAnalysis(StorageAnalysisActivity.ANALYSIS_DUPLICATE_FILES);
+					}
+				});
 		mSendDebugReport = (Preference) findPreference("sendDebugReport");
 		mSendDebugReport.setOnPreferenceClickListener(new Preference.OnPreferenceClickListener() {
 
@@ -210,6 +242,31 @@ public class StorageInfoPreferences extends PreferenceActivity implements
 				.unregisterOnSharedPreferenceChangeListener(this);
 	}
 
+	/**
+	 * Obtain the disabled paths choices: the volumes paths, the rules for
+	 * their parent folders and the already chosen rules.
+	 */
+	private String[] getDisabledPathsChoices() {
+		Set<String> choices = new LinkedHashSet<String>();
+		String[] paths = mApplication.getMountVolumesPathsArray();
+		String rule;
+		for (String path : paths) {
+			choices.add(path);
+		}
+		// the parent folders rules, for the volumes with changing names
+		for (String path : paths) {
+			rule = DisabledPathMatcher.getParentRule(path);
+			if (rule != null) {
+				choices.add(rule);
+			}
+		}
+		// keep the rules of the volumes which are not mounted
+		for (String path : mApplication.getDisabledPaths()) {
+			choices.add(path);
+		}
+		return choices.toArray(new String[choices.size()]);
+	}
+
 	/**
 	 * Prepare all necessary texts.
 	 */
@@ -226,7 +283,7 @@ public class StorageInfoPreferences extends PreferenceActivity implements
 				mApplication.setFileManager("null");
 			}
 		}
-		String[] arr = mApplication.getMountVolumesPathsArray();
+		String[] arr = getDisabledPathsChoices();
 		if (arr.length > 0) {
 			mDisabledPaths.setEntries(arr);
 			mDisabledPaths.setEntryValues(arr);
@@ -290,6 +347,7 @@ public class StorageInfoPreferences extends PreferenceActivity implements
 	 * @return Always true.
 	 */
 	private boolean onToggleNotification(boolean preserveState) {
+		mApplication.updateMountTableWatcher();
 		if (mApplication.isEnableNotifications()) {
 			if (!preserveState && mApplication.isShowNotification()) {
 				mApplication.hideAllNotifications();
@@ -297,13 +355,9 @@ public class StorageInfoPreferences extends PreferenceActivity implements
 				if (preserveState && mApplication.isShowNotification()) {
 					mApplication.hideAllNotifications();
 				}
+				mApplication.invalidateVolumeSnapshot();
 				mApplication.updateMountedVolumes();
-				int type = mApplication.getNotificationType();
-				if (StorageInfoApplication.NOTIFICATION_TYPE_QUICK == type) {
-					mApplication.updateQuickNotifications();
-				} else if (StorageInfoApplication.NOTIFICATION_TYPE_STORAGE == type) {
-					mApplication.updateDefaultNotification();
-				}
+				mApplication.updateNotifications();
 			}
 		} else if (mApplication.isShowNotification()) {
 			mApplication.hideAllNotifications();
@@ -311,6 +365,108 @@ public class StorageInfoPreferences extends PreferenceActivity implements
 		return true;
 	}
 
+	/**
+	 * Choose a mounted storage and show its analysis.
+	 *
+	 * @param analysis The analysis type, one of the
+	 *                 {@link StorageAnalysisActivity} analysis constants.
+	 * @return Always true.
+	 */
+	private boolean onStorageAnalysis(final int analysis) {
+		final String[] paths = getMountedVolumesPaths();
+		if (paths.length == 0) {
+			showConfirmationDialog(R.string.storage_analysis,
+					getString(R.string.no_mounted_volume), ID_CONFIRMATION_ALERT, null);
+		} else if (paths.length == 1) {
+			showStorageAnalysis(analysis, paths);
+		} else if (analysis == StorageAnalysisActivity.ANALYSIS_DUPLICATE_FILES) {
+			// the duplicates can be searched across several storages
+			final boolean[] checked = new boolean[paths.length];
+			Arrays.fill(checked, true);
+			new AlertDialog.Builder(this)
+					.setTitle(R.string.duplicate_files_choose)
+					.setMultiChoiceItems(getVolumesLabels(paths), checked,
+							new DialogInterface.OnMultiChoiceClickListener() {
+								@Override
+								public void onClick(DialogInterface dialog, int which,
+										boolean isChecked) {
+									checked[which] = isChecked;
+								}
+							})
+					.setPositiveButton(R.string.ok, new DialogInterface.OnClickListener() {
+						@Override
+						public void onClick(DialogInterface dialog, int which) {
+							List<String> chosen = new ArrayList<String>();
+							for (int i = 0; i < paths.length; i++) {
+								if (checked[i]) {
+									chosen.add(paths[i]);
+								}
+							}
+							if (!chosen.isEmpty()) {
+								showStorageAnalysis(analysis,
+										chosen.toArray(new String[chosen.size()]));
+							}
+						}
+					})
+					.show();
+		} else {
+			new AlertDialog.Builder(this)
+					.setTitle(R.string.choose_volume)
+					.setItems(getVolumesLabels(paths), new DialogInterface.OnClickListener() {
+						@Override
+						public void onClick(DialogInterface dialog, int which) {
+							showStorageAnalysis(analysis, new String[]{paths[which]});
+						}
+					})
+					.show();
+		}
+		return true;
+	}
+
+	/**
+	 * Obtain the paths of the mounted volumes.
+	 */
+	private String[] getMountedVolumesPaths() {
+		List<String> paths = new ArrayList<String>();
+		for (MountVolume mountVolume : mApplication.getVolumeRegistry().getVolumes()) {
+			if (Environment.MEDIA_MOUNTED.equals(mountVolume.getVolumeState())) {
+				paths.add(mountVolume.getPath());
+			}
+		}
+		return paths.toArray(new String[paths.size()]);
+	}
+
+	/**
+	 * Obtain the labels of the volumes shown on the chooser, the volume
+	 * description followed by the path.
+	 *
+	 * @param paths The volumes paths.
+	 */
+	private String[] getVolumesLabels(String[] paths) {
+		VolumeRegistry registry = mApplication.getVolumeRegistry();
+		String[] labels = new String[paths.length];
+		String description;
+		for (int i = 0; i < paths.length; i++) {
+			description = registry.getDescription(paths[i]);
+			labels[i] = TextUtils.isEmpty(description) ? paths[i] :
+					getString(R.string.volume_label, description, paths[i]);
+		}
+		return labels;
+	}
+
+	/**
+	 * Show the analysis of the chosen storages.
+	 *
+	 * @param analysis The analysis type.
+	 * @param paths    The storages paths.
+	 */
+	private void showStorageAnalysis(int analysis, String[] paths) {
+		Intent intent = new Intent(this, StorageAnalysisActivity.class);
+		intent.putExtra(StorageAnalysisActivity.EXTRA_ANALYSIS, analysis);
+		intent.putExtra(StorageAnalysisActivity.EXTRA_PATHS, paths);
+		startActivity(intent);
+	}
+
 	/**
 	 * Show License view.
 	 * 
@@ -683,10 +839,11 @@ public class StorageInfoPreferences extends PreferenceActivity implements
 			writer.write("Android version: " + Build.VERSION.SDK_INT +
 					" (" + Build.VERSION.CODENAME + ")" + LS);
 			writer.write("Device: " + model + LS);
-			writer.write("Device name: " + Devices.getDeviceName() + LS);
+			writer.write("Device name: " + Devices.getDeviceName(mApplication) + LS);
 			writer.write("App version: " + mApplication.getVersionName() +
 					" (" + mApplication.getVersionCode() + ")" + LS);
 			mApplication.writeSharedPreferences(writer);
+			mApplication.writeStatistics(writer);
 			int n;
 			do {
 				n = reader.read(buffer, 0, BUFFER);
@@ -0,0 +1,363 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.background;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.util.MountTableParser;
+import ro.ciubex.storageinfo.util.Utils;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+/**
+ * Watch the kernel mount table for storage mounts changes, for the platforms
+ * which do not deliver or delay the media broadcasts.
+ * <p/>
+ * From Android 5.0 the watcher blocks on poll() for the POLLPRI event which
+ * the kernel raises on /proc/self/mounts when the mount table is changed, and
+ * for the hang up of a wakeup pipe, which is closed to stop the watcher.
+ * On older platforms the mount table is read periodically: every
+ * {@link #MIN_POLL_INTERVAL} after a change, and twice slower after each
+ * read without changes, until {@link #MAX_POLL_INTERVAL}.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class MountTableWatcher implements Runnable, Closeable {
+	private static final String TAG = MountTableWatcher.class.getName();
+	private static final String PROC_SELF_MOUNTS = "/proc/self/mounts";
+	public static final long MIN_POLL_INTERVAL = 2000;
+	public static final long MAX_POLL_INTERVAL = 60000;
+	private static final String[] STORAGE_MOUNT_ROOTS = {"/storage/", "/mnt/"};
+
+	/**
+	 * Receive the mount table changes, on the main thread.
+	 */
+	public interface Listener {
+		public void onMountTableChanged();
+	}
+
+	private final Listener mListener;
+	private final Handler mHandler;
+	private final File mMountTable;
+	private final int mFormat;
+	private final long mMinPollInterval;
+	private final long mMaxPollInterval;
+	private final Object mLock = new Object();
+	private volatile boolean mClosed;
+	private volatile boolean mEventDriven;
+	private volatile long mPollInterval;
+	private FileDescriptor mWakeupFd;
+	private final AtomicLong mWakeups = new AtomicLong();
+	private final AtomicLong mChanges = new AtomicLong();
+	private String mSignature;
+
+	private static final MountTableParser.Filter STORAGE_MOUNTS_FILTER = new MountTableParser.Filter() {
+		@Override
+		public boolean accept(String mountPoint, String fsType) {
+			for (String root : STORAGE_MOUNT_ROOTS) {
+				if (mountPoint.startsWith(root)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	};
+
+	private final Runnable mNotifyListener = new Runnable() {
+		@Override
+		public void run() {
+			if (!mClosed) {
+				mListener.onMountTableChanged();
+			}
+		}
+	};
+
+	/**
+	 * Create a watcher, which should be started with {@link #start()}.
+	 *
+	 * @param listener The listener notified on the main thread.
+	 */
+	public MountTableWatcher(Listener listener) {
+		this(listener, null, MountTableParser.FORMAT_MOUNTINFO, MIN_POLL_INTERVAL,
+				MAX_POLL_INTERVAL);
+	}
+
+	/**
+	 * Create a watcher for a mount table file, which is always read
+	 * periodically, because poll() works only for the process mount table.
+	 *
+	 * @param listener        The listener notified on the main thread.
+	 * @param mountTable      The mount table file, or null for the process mount table.
+	 * @param format          The mount table file format.
+	 * @param minPollInterval The read interval after a change.
+	 * @param maxPollInterval The maximum read interval while nothing changes.
+	 */
+	MountTableWatcher(Listener listener, File mountTable, int format,
+			long minPollInterval, long maxPollInterval) {
+		mListener = listener;
+		mHandler = new Handler(Looper.getMainLooper());
+		mMountTable = mountTable;
+		mFormat = format;
+		mMinPollInterval = minPollInterval;
+		mMaxPollInterval = maxPollInterval;
+		mPollInterval = minPollInterval;
+	}
+
+	/**
+	 * Start the watcher thread.
+	 */
+	public void start() {
+		Thread thread = new Thread(this, "MountTableWatcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stop the watcher. A blocked poll() is ended right away, by closing the
+	 * write end of the wakeup pipe.
+	 */
+	@Override
+	public void close() {
+		synchronized (mLock) {
+			mClosed = true;
+			mLock.notifyAll();
+			closeDescriptor(mWakeupFd);
+			mWakeupFd = null;
+		}
+		mHandler.removeCallbacks(mNotifyListener);
+	}
+
+	public boolean isEventDriven() {
+		return mEventDriven;
+	}
+
+	/**
+	 * Returns the current interval of the periodic reads.
+	 */
+	public long getPollInterval() {
+		return mPollInterval;
+	}
+
+	/**
+	 * Returns the number of times the watcher thread was woken up, by a
+	 * mount table event, a poll() timeout or a periodic read.
+	 */
+	public long getWakeups() {
+		return mWakeups.get();
+	}
+
+	/**
+	 * Returns the number of storage mounts changes reported to the listener.
+	 */
+	public long getChanges() {
+		return mChanges.get();
+	}
+
+	@Override
+	public String toString() {
+		return "MountTableWatcher{" +
+				"mode=" + (mEventDriven ? "poll(POLLPRI)" : "periodic " + mPollInterval + "ms") +
+				", wakeups=" + mWakeups.get() +
+				", changes=" + mChanges.get() +
+				'}';
+	}
+
+	@Override
+	public void run() {
+		mSignature = readSignature();
+		if (mMountTable != null || Build.VERSION.SDK_INT < 21 || !watchEvents()) {
+			mEventDriven = false;
+			pollPeriodically();
+		}
+	}
+
+	/**
+	 * Block on poll() until the mount table is changed or the watcher is
+	 * closed. The android.system.Os API is newer than the compile SDK, so it
+	 * is called by reflection.
+	 *
+	 * @return False if poll() is not available or failed, with another error
+	 * than EINTR.
+	 */
+	private boolean watchEvents() {
+		FileInputStream mounts = null;
+		FileDescriptor wakeupFd = null;
+		try {
+			Class<?> osClass = Class.forName("android.system.Os");
+			Class<?> pollFdClass = Class.forName("android.system.StructPollfd");
+			Class<?> constantsClass = Class.forName("android.system.OsConstants");
+			Class<?> errnoClass = Class.forName("android.system.ErrnoException");
+			short pollPri = (short) constantsClass.getField("POLLPRI").getInt(null);
+			short pollErr = (short) constantsClass.getField("POLLERR").getInt(null);
+			short pollIn = (short) constantsClass.getField("POLLIN").getInt(null);
+			int eintr = constantsClass.getField("EINTR").getInt(null);
+			Field errnoField = errnoClass.getField("errno");
+			Object pollFds = Array.newInstance(pollFdClass, 2);
+			Method poll = osClass.getMethod("poll", pollFds.getClass(), int.class);
+			Field fdField = pollFdClass.getField("fd");
+			Field eventsField = pollFdClass.getField("events");
+			Field reventsField = pollFdClass.getField("revents");
+
+			FileDescriptor[] pipe = (FileDescriptor[]) osClass.getMethod("pipe").invoke(null);
+			wakeupFd = pipe[0];
+			synchronized (mLock) {
+				if (mClosed) {
+					closeDescriptor(pipe[1]);
+					return true;
+				}
+				mWakeupFd = pipe[1];
+			}
+			mounts = new FileInputStream(PROC_SELF_MOUNTS);
+			Object pollFd = pollFdClass.newInstance();
+			fdField.set(pollFd, mounts.getFD());
+			eventsField.setShort(pollFd, pollPri);
+			Array.set(pollFds, 0, pollFd);
+			Object wakeupPollFd = pollFdClass.newInstance();
+			fdField.set(wakeupPollFd, wakeupFd);
+			eventsField.setShort(wakeupPollFd, pollIn);
+			Array.set(pollFds, 1, wakeupPollFd);
+			mEventDriven = true;
+			while (!mClosed) {
+				reventsField.setShort(pollFd, (short) 0);
+				reventsField.setShort(wakeupPollFd, (short) 0);
+				int ready;
+				try {
+					ready = (Integer) poll.invoke(null, pollFds, (int) mMaxPollInterval);
+				} catch (InvocationTargetException e) {
+					Throwable cause = e.getCause();
+					if (errnoClass.isInstance(cause) && errnoField.getInt(cause) == eintr) {
+						continue;
+					}
+					Log.e(TAG, "poll: " + cause, cause);
+					return mClosed;
+				}
+				mWakeups.incrementAndGet();
+				if (ready > 0 && (reventsField.getShort(pollFd) & (pollPri | pollErr)) != 0) {
+					checkSignature();
+				}
+			}
+			return true;
+		} catch (Exception e) {
+			Log.e(TAG, "watchEvents: " + e.getMessage(), e);
+			return mClosed;
+		} finally {
+			Utils.doClose(mounts);
+			synchronized (mLock) {
+				closeDescriptor(mWakeupFd);
+				mWakeupFd = null;
+			}
+			closeDescriptor(wakeupFd);
+		}
+	}
+
+	/**
+	 * Close a file descriptor created by android.system.Os.
+	 *
+	 * @param fd The file descriptor, can be null.
+	 */
+	private static void closeDescriptor(FileDescriptor fd) {
+		if (fd != null) {
+			try {
+				Class.forName("android.system.Os").getMethod("close", FileDescriptor.class)
+						.invoke(null, fd);
+			} catch (Exception e) {
+				Log.e(TAG, "closeDescriptor: " + e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Read the mount table periodically, with an adaptive interval.
+	 */
+	private void pollPeriodically() {
+		while (!mClosed) {
+			synchronized (mLock) {
+				try {
+					mLock.wait(mPollInterval);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+			if (mClosed) {
+				break;
+			}
+			mWakeups.incrementAndGet();
+			if (checkSignature()) {
+				mPollInterval = mMinPollInterval;
+			} else {
+				mPollInterval = Math.min(mPollInterval * 2, mMaxPollInterval);
+			}
+		}
+	}
+
+	/**
+	 * Read the storage mounts and notify the listener if they were changed.
+	 *
+	 * @return True if the storage mounts were changed.
+	 */
+	private boolean checkSignature() {
+		String signature = readSignature();
+		if (signature != null && !signature.equals(mSignature)) {
+			mSignature = signature;
+			mChanges.incrementAndGet();
+			mHandler.post(mNotifyListener);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Describe the storage mounts with a string, used to detect the changes
+	 * which do not affect the storage volumes.
+	 *
+	 * @return The storage mounts description, or null if the mount table
+	 * could not be read.
+	 */
+	private String readSignature() {
+		try {
+			List<MountVolume> mounts = mMountTable != null
+					? MountTableParser.read(mMountTable, mFormat, STORAGE_MOUNTS_FILTER)
+					: MountTableParser.readMountTable(STORAGE_MOUNTS_FILTER);
+			StringBuilder signature = new StringBuilder();
+			for (MountVolume mount : mounts) {
+				signature.append(mount.getPath()).append(' ')
+						.append(mount.getFsType()).append(' ')
+						.append(mount.getMountOptions()).append('\n');
+			}
+			return signature.toString();
+		} catch (IOException e) {
+			Log.e(TAG, "readSignature: " + e.getMessage(), e);
+			return null;
+		}
+	}
+}
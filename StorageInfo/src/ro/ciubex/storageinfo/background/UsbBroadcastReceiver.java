@@ -47,18 +47,14 @@ public class UsbBroadcastReceiver extends BroadcastReceiver {
 		if (appContext instanceof StorageInfoApplication) {
 			StorageInfoApplication application = (StorageInfoApplication) appContext;
 			application.logD(TAG, "onReceive: " + String.valueOf(intent));
+			String dataPath = intent.getData() != null ? intent.getData()
+					.getPath() : "";
+			application.onVolumeEvent(intent.getAction(), dataPath);
 			if (application.isEnableNotifications()) {
-				String dataPath = intent.getData() != null ? intent.getData()
-						.getPath() : "";
 				application.logD(TAG, "onReceive dataPath: " + dataPath);
 				if (!application.isDisabledPath(dataPath)) {
 					application.updateMountedVolumes();
-					int type = application.getNotificationType();
-					if (StorageInfoApplication.NOTIFICATION_TYPE_QUICK == type) {
-						application.updateQuickNotifications();
-					} else if (StorageInfoApplication.NOTIFICATION_TYPE_STORAGE == type) {
-						application.updateDefaultNotification();
-					}
+					application.updateNotifications();
 				}
 			}
 		}
@@ -0,0 +1,123 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.model;
+
+/**
+ * The capacity samples of a volume, kept on a fixed size ring buffer of
+ * primitive arrays. When the buffer is full the oldest sample is overwritten.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public final class CapacityHistory {
+	public static final int SAMPLE_TIMESTAMP = 0;
+	public static final int SAMPLE_TOTAL_BYTES = 1;
+	public static final int SAMPLE_FREE_BYTES = 2;
+	public static final int SAMPLE_AVAILABLE_BYTES = 3;
+	public static final int SAMPLE_LENGTH = 4;
+
+	private final long[] mTimestamps;
+	private final long[] mTotalBytes;
+	private final long[] mFreeBytes;
+	private final long[] mAvailableBytes;
+	private int mHead;
+	private int mCount;
+
+	/**
+	 * Create an empty history.
+	 *
+	 * @param capacity The maximum number of samples.
+	 */
+	public CapacityHistory(int capacity) {
+		mTimestamps = new long[capacity];
+		mTotalBytes = new long[capacity];
+		mFreeBytes = new long[capacity];
+		mAvailableBytes = new long[capacity];
+	}
+
+	/**
+	 * Add a sample, overwriting the oldest one if the history is full.
+	 *
+	 * @param timestamp      The {@link android.os.SystemClock#elapsedRealtime()}
+	 *                       of the sample.
+	 * @param totalBytes     The volume size.
+	 * @param freeBytes      The free space, including the reserved blocks.
+	 * @param availableBytes The free space available to the applications.
+	 */
+	public synchronized void add(long timestamp, long totalBytes, long freeBytes, long availableBytes) {
+		mTimestamps[mHead] = timestamp;
+		mTotalBytes[mHead] = totalBytes;
+		mFreeBytes[mHead] = freeBytes;
+		mAvailableBytes[mHead] = availableBytes;
+		mHead = (mHead + 1) % mTimestamps.length;
+		if (mCount < mTimestamps.length) {
+			mCount++;
+		}
+	}
+
+	public int getCapacity() {
+		return mTimestamps.length;
+	}
+
+	public synchronized int size() {
+		return mCount;
+	}
+
+	/**
+	 * Copy a sample to an array indexed by {@link #SAMPLE_TIMESTAMP},
+	 * {@link #SAMPLE_TOTAL_BYTES}, {@link #SAMPLE_FREE_BYTES} and
+	 * {@link #SAMPLE_AVAILABLE_BYTES}.
+	 *
+	 * @param index  The sample index, 0 is the oldest sample.
+	 * @param sample The array of at least {@link #SAMPLE_LENGTH} elements.
+	 * @return False if there is no sample with this index.
+	 */
+	public synchronized boolean getSample(int index, long[] sample) {
+		if (index < 0 || index >= mCount) {
+			return false;
+		}
+		int position = (mHead - mCount + index + mTimestamps.length) % mTimestamps.length;
+		sample[SAMPLE_TIMESTAMP] = mTimestamps[position];
+		sample[SAMPLE_TOTAL_BYTES] = mTotalBytes[position];
+		sample[SAMPLE_FREE_BYTES] = mFreeBytes[position];
+		sample[SAMPLE_AVAILABLE_BYTES] = mAvailableBytes[position];
+		return true;
+	}
+
+	/**
+	 * Copy the newest sample.
+	 *
+	 * @param sample The array of at least {@link #SAMPLE_LENGTH} elements.
+	 * @return False if the history is empty.
+	 */
+	public synchronized boolean getLatest(long[] sample) {
+		return getSample(mCount - 1, sample);
+	}
+
+	/**
+	 * Returns the timestamp of the newest sample.
+	 *
+	 * @return The timestamp, or -1 if the history is empty.
+	 */
+	public synchronized long getLatestTimestamp() {
+		if (mCount == 0) {
+			return -1;
+		}
+		return mTimestamps[(mHead - 1 + mTimestamps.length) % mTimestamps.length];
+	}
+}
@@ -0,0 +1,235 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.model;
+
+import java.util.Arrays;
+
+/**
+ * The disk usage of a directory tree. Only the directories are stored, each
+ * one as an index on parallel primitive arrays, with the size and the number
+ * of files of its whole subtree. The directory names are kept on a shared
+ * char array.
+ * <p/>
+ * The tree can be read while it is still built, the sizes of a directory
+ * always include the files of its subdirectories added so far.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public final class DiskUsageTree {
+	public static final int ROOT = 0;
+	public static final int NONE = -1;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int mCount;
+	private int[] mParents = new int[INITIAL_CAPACITY];
+	private int[] mFirstChildren = new int[INITIAL_CAPACITY];
+	private int[] mNextSiblings = new int[INITIAL_CAPACITY];
+	private long[] mModified = new long[INITIAL_CAPACITY];
+	private long[] mSizes = new long[INITIAL_CAPACITY];
+	private int[] mFileCounts = new int[INITIAL_CAPACITY];
+	private int[] mNameStarts = new int[INITIAL_CAPACITY];
+	private int[] mNameEnds = new int[INITIAL_CAPACITY];
+	private char[] mNames = new char[INITIAL_CAPACITY * 16];
+	private int mNamesLength;
+
+	/**
+	 * Create a tree with only the root directory.
+	 *
+	 * @param rootPath The root directory path, used as the root name.
+	 * @param modified The root directory last modified time.
+	 */
+	public DiskUsageTree(String rootPath, long modified) {
+		add(NONE, rootPath, modified);
+	}
+
+	/**
+	 * Add a subdirectory.
+	 *
+	 * @param parent   The parent directory index.
+	 * @param name     The subdirectory name.
+	 * @param modified The subdirectory last modified time.
+	 * @return The subdirectory index.
+	 */
+	public synchronized int addDirectory(int parent, String name, long modified) {
+		return add(parent, name, modified);
+	}
+
+	private int add(int parent, String name, long modified) {
+		if (mCount == mParents.length) {
+			int capacity = mCount * 2;
+			mParents = Arrays.copyOf(mParents, capacity);
+			mFirstChildren = Arrays.copyOf(mFirstChildren, capacity);
+			mNextSiblings = Arrays.copyOf(mNextSiblings, capacity);
+			mModified = Arrays.copyOf(mModified, capacity);
+			mSizes = Arrays.copyOf(mSizes, capacity);
+			mFileCounts = Arrays.copyOf(mFileCounts, capacity);
+			mNameStarts = Arrays.copyOf(mNameStarts, capacity);
+			mNameEnds = Arrays.copyOf(mNameEnds, capacity);
+		}
+		int length = name.length();
+		if (mNamesLength + length > mNames.length) {
+			mNames = Arrays.copyOf(mNames, Math.max(mNames.length * 2, mNamesLength + length));
+		}
+		name.getChars(0, length, mNames, mNamesLength);
+		int node = mCount++;
+		mNameStarts[node] = mNamesLength;
+		mNamesLength += length;
+		mNameEnds[node] = mNamesLength;
+		mParents[node] = parent;
+		mFirstChildren[node] = NONE;
+		mModified[node] = modified;
+		mSizes[node] = 0;
+		mFileCounts[node] = 0;
+		if (parent != NONE) {
+			mNextSiblings[node] = mFirstChildren[parent];
+			mFirstChildren[parent] = node;
+		} else {
+			mNextSiblings[node] = NONE;
+		}
+		return node;
+	}
+
+	/**
+	 * Add files to a directory and to all its parents.
+	 *
+	 * @param node  The directory index.
+	 * @param files The number of files.
+	 * @param bytes The files size.
+	 */
+	public synchronized void addFiles(int node, int files, long bytes) {
+		while (node != NONE) {
+			mFileCounts[node] += files;
+			mSizes[node] += bytes;
+			node = mParents[node];
+		}
+	}
+
+	/**
+	 * Returns the number of directories.
+	 */
+	public synchronized int size() {
+		return mCount;
+	}
+
+	public synchronized int getParent(int node) {
+		return mParents[node];
+	}
+
+	/**
+	 * Returns the last added subdirectory of a directory.
+	 *
+	 * @param node The directory index.
+	 * @return The subdirectory index, or {@link #NONE}.
+	 */
+	public synchronized int getFirstChild(int node) {
+		return mFirstChildren[node];
+	}
+
+	/**
+	 * Returns the next subdirectory of the same parent.
+	 *
+	 * @param node The directory index.
+	 * @return The sibling index, or {@link #NONE}.
+	 */
+	public synchronized int getNextSibling(int node) {
+		return mNextSiblings[node];
+	}
+
+	public synchronized String getName(int node) {
+		return new String(mNames, mNameStarts[node], mNameEnds[node] - mNameStarts[node]);
+	}
+
+	/**
+	 * Returns the full path of a directory.
+	 *
+	 * @param node The directory index.
+	 * @return The directory path.
+	 */
+	public synchronized String getPath(int node) {
+		StringBuilder path = new StringBuilder();
+		appendPath(node, path);
+		return path.toString();
+	}
+
+	private void appendPath(int node, StringBuilder path) {
+		int parent = mParents[node];
+		if (parent != NONE) {
+			appendPath(parent, path);
+			if (path.length() == 0 || path.charAt(path.length() - 1) != '/') {
+				path.append('/');
+			}
+		}
+		path.append(mNames, mNameStarts[node], mNameEnds[node] - mNameStarts[node]);
+	}
+
+	public synchronized long getModified(int node) {
+		return mModified[node];
+	}
+
+	public synchronized void setModified(int node, long modified) {
+		mModified[node] = modified;
+	}
+
+	/**
+	 * Returns the size of all the files of a directory subtree.
+	 */
+	public synchronized long getSize(int node) {
+		return mSizes[node];
+	}
+
+	/**
+	 * Returns the number of files of a directory subtree.
+	 */
+	public synchronized int getFileCount(int node) {
+		return mFileCounts[node];
+	}
+
+	/**
+	 * Returns the size of the files directly in a directory, without its
+	 * subdirectories.
+	 */
+	public synchronized long getOwnSize(int node) {
+		long size = mSizes[node];
+		for (int child = mFirstChildren[node]; child != NONE; child = mNextSiblings[child]) {
+			size -= mSizes[child];
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of files directly in a directory, without its
+	 * subdirectories.
+	 */
+	public synchronized int getOwnFileCount(int node) {
+		int count = mFileCounts[node];
+		for (int child = mFirstChildren[node]; child != NONE; child = mNextSiblings[child]) {
+			count -= mFileCounts[child];
+		}
+		return count;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "DiskUsageTree{" +
+				"directories=" + mCount +
+				", files=" + mFileCounts[ROOT] +
+				", size=" + mSizes[ROOT] +
+				'}';
+	}
+}
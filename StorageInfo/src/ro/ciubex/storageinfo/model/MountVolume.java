@@ -33,10 +33,15 @@ public class MountVolume {
 	private int mDescriptionId;
 	private String mDescription;
 	private File mPath;
+	private String mPathName;
 	private boolean mRemovable;
 	private boolean mPrimary;
 	private boolean mEmulated;
 	private String mVolumeState;
+	private String mFsType;
+	private String mSourceDevice;
+	private String mDeviceNumber;
+	private String mMountOptions;
 
 	/**
 	 * Returns the MTP storage ID for the volume.
@@ -99,7 +104,7 @@ public class MountVolume {
 	 * @return The mount path.
 	 */
 	public String getPath() {
-		return mPath.toString();
+		return mPathName;
 	}
 
 	public File getPathFile() {
@@ -108,6 +113,7 @@ public class MountVolume {
 
 	public void setPathFile(File path) {
 		this.mPath = path;
+		this.mPathName = path != null ? path.toString() : null;
 	}
 
 	/**
@@ -166,6 +172,74 @@ public class MountVolume {
 		this.mVolumeState = volumeState;
 	}
 
+	/**
+	 * Returns the file system type from the kernel mount table.
+	 *
+	 * @return The file system type, or null if the volume was not obtained
+	 * from the mount table.
+	 */
+	public String getFsType() {
+		return mFsType;
+	}
+
+	public void setFsType(String fsType) {
+		this.mFsType = fsType;
+	}
+
+	/**
+	 * Returns the mounted device from the kernel mount table.
+	 *
+	 * @return The mount source, or null if the volume was not obtained from
+	 * the mount table.
+	 */
+	public String getSourceDevice() {
+		return mSourceDevice;
+	}
+
+	public void setSourceDevice(String sourceDevice) {
+		this.mSourceDevice = sourceDevice;
+	}
+
+	/**
+	 * Returns the major:minor numbers of the mounted device, from the
+	 * mountinfo table.
+	 *
+	 * @return The device numbers, or null if the volume was not obtained from
+	 * the mountinfo table.
+	 */
+	public String getDeviceNumber() {
+		return mDeviceNumber;
+	}
+
+	public void setDeviceNumber(String deviceNumber) {
+		this.mDeviceNumber = deviceNumber;
+	}
+
+	/**
+	 * Returns the comma separated mount options from the kernel mount table.
+	 *
+	 * @return The mount options, or null if the volume was not obtained from
+	 * the mount table.
+	 */
+	public String getMountOptions() {
+		return mMountOptions;
+	}
+
+	public void setMountOptions(String mountOptions) {
+		this.mMountOptions = mountOptions;
+	}
+
+	/**
+	 * Check if the mount options contain the read only option.
+	 *
+	 * @return True if the volume is mounted read only.
+	 */
+	public boolean isReadOnly() {
+		return mMountOptions != null
+				&& (mMountOptions.equals("ro") || mMountOptions.startsWith("ro,")
+				|| mMountOptions.endsWith(",ro") || mMountOptions.contains(",ro,"));
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder sb = new StringBuilder("MountVolume{");
@@ -177,6 +251,12 @@ public class MountVolume {
 		sb.append(", mPrimary=").append(mPrimary);
 		sb.append(", mEmulated=").append(mEmulated);
 		sb.append(", mVolumeState='").append(mVolumeState).append('\'');
+		if (mFsType != null) {
+			sb.append(", mFsType=").append(mFsType);
+			sb.append(", mSourceDevice=").append(mSourceDevice);
+			sb.append(", mDeviceNumber=").append(mDeviceNumber);
+			sb.append(", mMountOptions=").append(mMountOptions);
+		}
 		sb.append('}');
 		return sb.toString();
 	}
@@ -0,0 +1,98 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.model;
+
+/**
+ * A change of a mount volume between two volume lists.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public final class VolumeDelta {
+	public static final int TYPE_ADDED = 1;
+	public static final int TYPE_REMOVED = 2;
+	public static final int TYPE_STATE_CHANGED = 3;
+
+	private final int mType;
+	private final MountVolume mPrevious;
+	private final MountVolume mCurrent;
+
+	/**
+	 * Create a volume delta.
+	 *
+	 * @param type     The delta type, one of the TYPE_ constants.
+	 * @param previous The volume from the previous list, null if added.
+	 * @param current  The volume from the current list, null if removed.
+	 */
+	public VolumeDelta(int type, MountVolume previous, MountVolume current) {
+		mType = type;
+		mPrevious = previous;
+		mCurrent = current;
+	}
+
+	public int getType() {
+		return mType;
+	}
+
+	public MountVolume getPrevious() {
+		return mPrevious;
+	}
+
+	public MountVolume getCurrent() {
+		return mCurrent;
+	}
+
+	/**
+	 * Returns the changed volume: the current one, or the previous one if the
+	 * volume was removed.
+	 *
+	 * @return The changed volume.
+	 */
+	public MountVolume getVolume() {
+		return mCurrent != null ? mCurrent : mPrevious;
+	}
+
+	/**
+	 * Returns the volume state before the change.
+	 *
+	 * @return The previous state, or null if the volume was added.
+	 */
+	public String getFromState() {
+		return mPrevious != null ? mPrevious.getVolumeState() : null;
+	}
+
+	/**
+	 * Returns the volume state after the change.
+	 *
+	 * @return The current state, or null if the volume was removed.
+	 */
+	public String getToState() {
+		return mCurrent != null ? mCurrent.getVolumeState() : null;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("VolumeDelta{");
+		sb.append("mType=").append(mType);
+		sb.append(", mPath=").append(getVolume().getPath());
+		sb.append(", mFromState='").append(getFromState()).append('\'');
+		sb.append(", mToState='").append(getToState()).append('\'');
+		sb.append('}');
+		return sb.toString();
+	}
+}
@@ -0,0 +1,164 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.util.SparseIntArray;
+
+/**
+ * The mount volumes of a snapshot, indexed by storage id and by path. The
+ * registry is built once for a snapshot and is not changed after that.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public final class VolumeRegistry {
+	private final VolumeSnapshot mSnapshot;
+	private final List<MountVolume> mVolumes;
+	private final SparseIntArray mIndexByStorageId;
+	private final Map<String, Integer> mIndexByPath;
+	private final String[] mPaths;
+	private final Context mContext;
+	// resolved on the first request, a description is an immutable string
+	private final String[] mDescriptions;
+
+	/**
+	 * Build the registry of a snapshot.
+	 *
+	 * @param snapshot The volumes snapshot.
+	 * @param context  The application context, used to obtain the volume
+	 *                 descriptions when they are requested.
+	 */
+	public VolumeRegistry(VolumeSnapshot snapshot, Context context) {
+		mSnapshot = snapshot;
+		mContext = context;
+		mVolumes = snapshot.getVolumes();
+		int size = mVolumes.size();
+		mIndexByStorageId = new SparseIntArray(size);
+		mIndexByPath = new HashMap<String, Integer>(size * 2);
+		mPaths = new String[size];
+		mDescriptions = new String[size];
+		MountVolume volume;
+		for (int i = 0; i < size; i++) {
+			volume = mVolumes.get(i);
+			mPaths[i] = volume.getPath();
+			// the first volume is kept if an id or a path is repeated
+			if (mIndexByStorageId.indexOfKey(volume.getStorageId()) < 0) {
+				mIndexByStorageId.put(volume.getStorageId(), i);
+			}
+			if (!mIndexByPath.containsKey(mPaths[i])) {
+				mIndexByPath.put(mPaths[i], i);
+			}
+		}
+	}
+
+	/**
+	 * Obtain the user visible description of a volume, from the description
+	 * resource or from the description provided by the platform.
+	 */
+	private static String getDescription(MountVolume volume, Context context) {
+		if (volume.getDescriptionId() != 0 && context != null) {
+			try {
+				return volume.getDescription(context);
+			} catch (Resources.NotFoundException e) {
+				// the platform resource is not available
+			}
+		}
+		return volume.getDescription();
+	}
+
+	public VolumeSnapshot getSnapshot() {
+		return mSnapshot;
+	}
+
+	/**
+	 * Returns the mount volumes, in the mount service order.
+	 *
+	 * @return An unmodifiable list of mount volumes.
+	 */
+	public List<MountVolume> getVolumes() {
+		return mVolumes;
+	}
+
+	/**
+	 * Obtain the mount volume for a specified storage id.
+	 *
+	 * @param storageId The storage id of the mount volume.
+	 * @return The mount volume or null.
+	 */
+	public MountVolume getVolume(int storageId) {
+		int index = mIndexByStorageId.get(storageId, -1);
+		return index != -1 ? mVolumes.get(index) : null;
+	}
+
+	/**
+	 * Obtain the mount volume for a specified path.
+	 *
+	 * @param path The mount volume path.
+	 * @return The mount volume or null.
+	 */
+	public MountVolume getVolume(String path) {
+		Integer index = mIndexByPath.get(path);
+		return index != null ? mVolumes.get(index) : null;
+	}
+
+	/**
+	 * Check if a path is on the mount volumes list.
+	 *
+	 * @param path Path to be check.
+	 * @return True if the path is on the mount volumes list.
+	 */
+	public boolean containsPath(String path) {
+		return mIndexByPath.containsKey(path);
+	}
+
+	/**
+	 * Returns the paths of all the mount volumes. The array is shared and
+	 * should not be modified.
+	 *
+	 * @return The mount volumes paths.
+	 */
+	public String[] getPaths() {
+		return mPaths;
+	}
+
+	/**
+	 * Obtain the user visible description of a mount volume. The description
+	 * is resolved only on the first request.
+	 *
+	 * @param path The mount volume path.
+	 * @return The volume description or null.
+	 */
+	public String getDescription(String path) {
+		Integer index = mIndexByPath.get(path);
+		if (index == null) {
+			return null;
+		}
+		String description = mDescriptions[index];
+		if (description == null) {
+			description = getDescription(mVolumes.get(index), mContext);
+			mDescriptions[index] = description;
+		}
+		return description;
+	}
+}
@@ -0,0 +1,82 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The mount volumes and their states, obtained at one moment from the mount
+ * service.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public final class VolumeSnapshot {
+	private final List<MountVolume> mVolumes;
+	private final int mIpcCount;
+	private final long mTimestamp;
+
+	/**
+	 * Create a snapshot.
+	 *
+	 * @param volumes   The mount volumes, copied by the snapshot.
+	 * @param ipcCount  The number of mount service calls used to obtain the
+	 *                  volumes.
+	 * @param timestamp The {@link android.os.SystemClock#elapsedRealtime()}
+	 *                  when the volumes were obtained.
+	 */
+	public VolumeSnapshot(List<MountVolume> volumes, int ipcCount, long timestamp) {
+		mVolumes = Collections.unmodifiableList(new ArrayList<MountVolume>(volumes));
+		mIpcCount = ipcCount;
+		mTimestamp = timestamp;
+	}
+
+	/**
+	 * Returns the mount volumes, in the mount service order.
+	 *
+	 * @return An unmodifiable list of mount volumes.
+	 */
+	public List<MountVolume> getVolumes() {
+		return mVolumes;
+	}
+
+	/**
+	 * Returns the number of binder calls to the mount service used to obtain
+	 * this snapshot.
+	 *
+	 * @return The number of binder calls.
+	 */
+	public int getIpcCount() {
+		return mIpcCount;
+	}
+
+	public long getTimestamp() {
+		return mTimestamp;
+	}
+
+	@Override
+	public String toString() {
+		return "VolumeSnapshot{" +
+				"mVolumes=" + mVolumes.size() +
+				", mIpcCount=" + mIpcCount +
+				", mTimestamp=" + mTimestamp +
+				'}';
+	}
+}
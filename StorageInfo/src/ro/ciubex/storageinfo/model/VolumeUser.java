@@ -0,0 +1,79 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A process which holds files of a volume open, found by the
+ * {@link ro.ciubex.storageinfo.util.VolumeUsersScanner}.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class VolumeUser {
+	private final int mPid;
+	private String mName;
+	private final List<String> mOpenFiles = new ArrayList<String>();
+	private final List<String> mMappedFiles = new ArrayList<String>();
+
+	public VolumeUser(int pid) {
+		mPid = pid;
+	}
+
+	public int getPid() {
+		return mPid;
+	}
+
+	/**
+	 * @return The process name, from the command line, or null if it could
+	 * not be read.
+	 */
+	public String getName() {
+		return mName;
+	}
+
+	public void setName(String name) {
+		this.mName = name;
+	}
+
+	/**
+	 * @return The files opened through file descriptors.
+	 */
+	public List<String> getOpenFiles() {
+		return mOpenFiles;
+	}
+
+	/**
+	 * @return The files mapped in the process memory.
+	 */
+	public List<String> getMappedFiles() {
+		return mMappedFiles;
+	}
+
+	@Override
+	public String toString() {
+		return "VolumeUser{" +
+				"pid=" + mPid +
+				", name=" + mName +
+				", openFiles=" + mOpenFiles +
+				", mappedFiles=" + mMappedFiles +
+				'}';
+	}
+}
@@ -0,0 +1,335 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.util.List;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.task.MountOperationExecutor.Operation;
+
+import android.os.SystemClock;
+
+/**
+ * Eject several volumes at once. Each volume is ejected by a
+ * {@link SafeEjectTask}, all the independent volumes at the same time. A
+ * volume mounted inside another one is ejected first, its parent is ejected
+ * only after it was ejected successfully, otherwise the parent is skipped.
+ * <p/>
+ * The task is driven by the operations events, all its methods should be
+ * invoked on the main thread.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class BulkEjectTask implements SafeEjectTask.OperationListener {
+	/**
+	 * The volume was not ejected yet.
+	 */
+	public static final int STATUS_PENDING = -1;
+	/**
+	 * The cached data was not written before the safe eject deadline, the
+	 * volume was not ejected.
+	 */
+	public static final int STATUS_NOT_DRAINED = -2;
+	/**
+	 * A volume mounted inside this one was not ejected, so this volume was
+	 * left mounted.
+	 */
+	public static final int STATUS_SKIPPED = -3;
+
+	/**
+	 * Start the volumes ejects and receive the progress.
+	 */
+	public interface Listener {
+		/**
+		 * Start the safe eject of a volume.
+		 *
+		 * @param mountVolume The volume to be ejected.
+		 * @param listener    The listener of the unmount operation.
+		 * @return The started safe eject.
+		 */
+		public SafeEjectTask startSafeEject(MountVolume mountVolume,
+				SafeEjectTask.OperationListener listener);
+
+		public void onBulkEjectProgress(BulkEjectTask task);
+
+		/**
+		 * Invoked once, when all the volumes were ejected, failed or were
+		 * cancelled.
+		 */
+		public void onBulkEjectFinished(BulkEjectTask task);
+	}
+
+	private final MountVolume[] mVolumes;
+	private final Listener mListener;
+	private final SafeEjectTask[] mTasks;
+	private final int[] mStatus;
+	private final long[] mStartTimes;
+	private final long[] mDurations;
+	private long mStartTime;
+	private long mDuration;
+	private int mFinishedCount;
+	private boolean mCancelled;
+	private boolean mReported;
+
+	/**
+	 * Create the task.
+	 *
+	 * @param volumes  The volumes to be ejected.
+	 * @param listener The listener which starts the ejects and is notified
+	 *                 about the progress.
+	 */
+	public BulkEjectTask(List<MountVolume> volumes, Listener listener) {
+		int count = volumes.size();
+		mVolumes = volumes.toArray(new MountVolume[count]);
+		mListener = listener;
+		mTasks = new SafeEjectTask[count];
+		mStatus = new int[count];
+		mStartTimes = new long[count];
+		mDurations = new long[count];
+		for (int i = 0; i < count; i++) {
+			mStatus[i] = STATUS_PENDING;
+		}
+	}
+
+	/**
+	 * Start the ejects of all the independent volumes.
+	 */
+	public void start() {
+		mStartTime = SystemClock.elapsedRealtime();
+		if (mVolumes.length == 0) {
+			finish();
+		} else {
+			startReady();
+		}
+	}
+
+	/**
+	 * Cancel the ejects which are running and do not start the others.
+	 */
+	public void cancel() {
+		mCancelled = true;
+		for (int i = 0; i < mVolumes.length; i++) {
+			if (mStatus[i] == STATUS_PENDING) {
+				if (mTasks[i] != null) {
+					mTasks[i].cancel();
+				}
+				setStatus(i, MountOperationExecutor.STATUS_CANCELLED);
+			}
+		}
+		finish();
+	}
+
+	public boolean isFinished() {
+		return mFinishedCount == mVolumes.length;
+	}
+
+	public boolean isCancelled() {
+		return mCancelled;
+	}
+
+	public int getVolumeCount() {
+		return mVolumes.length;
+	}
+
+	public int getFinishedCount() {
+		return mFinishedCount;
+	}
+
+	/**
+	 * @return The number of volumes successfully ejected.
+	 */
+	public int getEjectedCount() {
+		int count = 0;
+		for (int status : mStatus) {
+			if (status == MountOperationExecutor.STATUS_SUCCESS) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public MountVolume getVolume(int index) {
+		return mVolumes[index];
+	}
+
+	/**
+	 * @return The volume eject status, {@link #STATUS_PENDING},
+	 * {@link #STATUS_NOT_DRAINED}, {@link #STATUS_SKIPPED} or one of the
+	 * {@link MountOperationExecutor} final statuses.
+	 */
+	public int getStatus(int index) {
+		return mStatus[index];
+	}
+
+	/**
+	 * @return The volume eject duration in milliseconds, including the wait
+	 * for the cached data.
+	 */
+	public long getDuration(int index) {
+		return mDurations[index];
+	}
+
+	/**
+	 * @return The whole operation duration in milliseconds.
+	 */
+	public long getDuration() {
+		return mDuration;
+	}
+
+	/**
+	 * Invoked when a safe eject was cancelled before the unmount was
+	 * submitted, for example because the volume was removed.
+	 *
+	 * @param task The cancelled safe eject.
+	 */
+	@Override
+	public void onSafeEjectCancelled(SafeEjectTask task) {
+		for (int i = 0; i < mTasks.length; i++) {
+			if (mTasks[i] == task && mStatus[i] == STATUS_PENDING) {
+				volumeFinished(i, MountOperationExecutor.STATUS_CANCELLED);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Invoked when a safe eject reached the deadline with the data still
+	 * being written, the volume is left mounted.
+	 *
+	 * @param task The safe eject which was not unmounted.
+	 */
+	@Override
+	public void onSafeEjectNotDrained(SafeEjectTask task) {
+		for (int i = 0; i < mTasks.length; i++) {
+			if (mTasks[i] == task && mStatus[i] == STATUS_PENDING) {
+				volumeFinished(i, STATUS_NOT_DRAINED);
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void onOperationStarted(Operation operation) {
+		// the progress is reported by volume
+	}
+
+	@Override
+	public void onOperationFinished(Operation operation) {
+		for (int i = 0; i < mTasks.length; i++) {
+			if (mTasks[i] != null && mTasks[i].getOperation() == operation
+					&& mStatus[i] == STATUS_PENDING) {
+				volumeFinished(i, operation.getStatus());
+				return;
+			}
+		}
+	}
+
+	private void volumeFinished(int index, int status) {
+		setStatus(index, status);
+		if (!mCancelled) {
+			startReady();
+		}
+		if (isFinished()) {
+			finish();
+		} else {
+			mListener.onBulkEjectProgress(this);
+		}
+	}
+
+	private void setStatus(int index, int status) {
+		mStatus[index] = status;
+		mDurations[index] = mTasks[index] != null ?
+				SystemClock.elapsedRealtime() - mStartTimes[index] : 0;
+		mFinishedCount++;
+	}
+
+	private void finish() {
+		if (!mReported) {
+			mReported = true;
+			mDuration = SystemClock.elapsedRealtime() - mStartTime;
+			mListener.onBulkEjectFinished(this);
+		}
+	}
+
+	/**
+	 * Start the volumes whose inner volumes were all ejected. A volume with
+	 * an inner volume which was not ejected is skipped, unmounting it would
+	 * force the unmount of the inner volume too. The skipped volumes are
+	 * checked again, they can skip their own parents.
+	 */
+	private void startReady() {
+		boolean skipped = true;
+		while (skipped) {
+			skipped = false;
+			for (int i = 0; i < mVolumes.length; i++) {
+				if (mTasks[i] != null || mStatus[i] != STATUS_PENDING) {
+					continue;
+				}
+				switch (getChildrenStatus(i)) {
+					case MountOperationExecutor.STATUS_SUCCESS:
+						mStartTimes[i] = SystemClock.elapsedRealtime();
+						mTasks[i] = mListener.startSafeEject(mVolumes[i], this);
+						break;
+					case STATUS_SKIPPED:
+						setStatus(i, STATUS_SKIPPED);
+						skipped = true;
+						break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check the volumes mounted inside a volume.
+	 *
+	 * @return {@link #STATUS_PENDING} if one is not finished yet,
+	 * {@link #STATUS_SKIPPED} if one was not ejected, otherwise
+	 * {@link MountOperationExecutor#STATUS_SUCCESS}.
+	 */
+	private int getChildrenStatus(int index) {
+		String parent = mVolumes[index].getPath() + "/";
+		int status = MountOperationExecutor.STATUS_SUCCESS;
+		for (int i = 0; i < mVolumes.length; i++) {
+			if (i != index && mVolumes[i].getPath().startsWith(parent)) {
+				if (mStatus[i] == STATUS_PENDING) {
+					return STATUS_PENDING;
+				} else if (mStatus[i] != MountOperationExecutor.STATUS_SUCCESS) {
+					status = STATUS_SKIPPED;
+				}
+			}
+		}
+		return status;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder("BulkEjectTask{volumes=[");
+		for (int i = 0; i < mVolumes.length; i++) {
+			if (i > 0) {
+				text.append(", ");
+			}
+			text.append(mVolumes[i].getPath()).append(':').append(mStatus[i])
+					.append('/').append(mDurations[i]).append("ms");
+		}
+		return text.append("], finished=").append(mFinishedCount)
+				.append(", cancelled=").append(mCancelled)
+				.append(", duration=").append(mDuration)
+				.append('}').toString();
+	}
+}
@@ -0,0 +1,230 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import ro.ciubex.storageinfo.model.CapacityHistory;
+import ro.ciubex.storageinfo.model.MountVolume;
+
+import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.StatFs;
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.SparseArray;
+
+/**
+ * Sample the capacity of the mounted volumes on a background thread. A volume
+ * is sampled when it is mounted and then periodically, but not more often
+ * than {@link #MIN_SAMPLE_INTERVAL}. The samples are kept per storage ID on a
+ * {@link CapacityHistory}.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class CapacitySampler implements Closeable {
+	private static final String TAG = CapacitySampler.class.getName();
+	public static final int HISTORY_SIZE = 64;
+	public static final long SAMPLE_INTERVAL = 5 * 60 * 1000;
+	public static final long MIN_SAMPLE_INTERVAL = 30 * 1000;
+
+	/**
+	 * Receive the new samples notification, on the main thread.
+	 */
+	public interface Listener {
+		public void onCapacitySampled();
+	}
+
+	private final Listener mListener;
+	private final Handler mHandler;
+	private final ScheduledThreadPoolExecutor mExecutor;
+	private final SparseArray<CapacityHistory> mHistories = new SparseArray<CapacityHistory>();
+	private volatile List<MountVolume> mVolumes = Collections.emptyList();
+	// accessed only from the sampler thread
+	private final Set<Integer> mMountedIds = new HashSet<Integer>();
+
+	private final Runnable mSampleTask = new Runnable() {
+		@Override
+		public void run() {
+			sampleVolumes();
+		}
+	};
+
+	private final Runnable mNotifyListener = new Runnable() {
+		@Override
+		public void run() {
+			mListener.onCapacitySampled();
+		}
+	};
+
+	/**
+	 * Create the sampler and schedule the periodic sampling.
+	 *
+	 * @param listener The listener notified on the main thread.
+	 */
+	public CapacitySampler(Listener listener) {
+		mListener = listener;
+		mHandler = new Handler(Looper.getMainLooper());
+		mExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "CapacitySampler");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		mExecutor.scheduleWithFixedDelay(mSampleTask, SAMPLE_INTERVAL,
+				SAMPLE_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Set the volumes to be sampled and sample the newly mounted volumes.
+	 *
+	 * @param volumes An immutable list of volumes.
+	 */
+	public void setVolumes(List<MountVolume> volumes) {
+		mVolumes = volumes;
+		if (!mExecutor.isShutdown()) {
+			mExecutor.execute(mSampleTask);
+		}
+	}
+
+	/**
+	 * Obtain the capacity history of a volume.
+	 *
+	 * @param storageId The volume storage ID.
+	 * @return The history, or null if the volume was never sampled.
+	 */
+	public CapacityHistory getHistory(int storageId) {
+		synchronized (mHistories) {
+			return mHistories.get(storageId);
+		}
+	}
+
+	@Override
+	public void close() {
+		mExecutor.shutdownNow();
+		mHandler.removeCallbacks(mNotifyListener);
+	}
+
+	/**
+	 * Sample the mounted volumes which were just mounted or which were not
+	 * sampled for {@link #MIN_SAMPLE_INTERVAL}.
+	 */
+	private void sampleVolumes() {
+		boolean sampled = false;
+		Set<Integer> mountedIds = new HashSet<Integer>();
+		long now;
+		for (MountVolume volume : mVolumes) {
+			if (!Environment.MEDIA_MOUNTED.equals(volume.getVolumeState())) {
+				continue;
+			}
+			int storageId = volume.getStorageId();
+			mountedIds.add(storageId);
+			CapacityHistory history = getOrCreateHistory(storageId);
+			now = SystemClock.elapsedRealtime();
+			if (mMountedIds.contains(storageId)
+					&& now - history.getLatestTimestamp() < MIN_SAMPLE_INTERVAL) {
+				continue;
+			}
+			if (sample(volume.getPath(), history, now)) {
+				sampled = true;
+			}
+		}
+		mMountedIds.clear();
+		mMountedIds.addAll(mountedIds);
+		if (sampled) {
+			mHandler.post(mNotifyListener);
+		}
+	}
+
+	private CapacityHistory getOrCreateHistory(int storageId) {
+		synchronized (mHistories) {
+			CapacityHistory history = mHistories.get(storageId);
+			if (history == null) {
+				history = new CapacityHistory(HISTORY_SIZE);
+				mHistories.put(storageId, history);
+			}
+			return history;
+		}
+	}
+
+	/**
+	 * Read the volume capacity. The int block counters are used because the
+	 * long versions are not available before Android 4.3.
+	 *
+	 * @return False if the volume could not be read.
+	 */
+	private static boolean sample(String path, CapacityHistory history, long timestamp) {
+		try {
+			StatFs statFs = new StatFs(path);
+			long blockSize = statFs.getBlockSize();
+			history.add(timestamp,
+					blockSize * statFs.getBlockCount(),
+					blockSize * statFs.getFreeBlocks(),
+					blockSize * statFs.getAvailableBlocks());
+			return true;
+		} catch (Exception e) {
+			Log.e(TAG, "sample(" + path + "): " + e.getMessage(), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Write the capacity histories, used for the debug report.
+	 *
+	 * @param writer The writer.
+	 * @throws IOException If the history could not be written.
+	 */
+	public void writeHistory(Writer writer) throws IOException {
+		long[] sample = new long[CapacityHistory.SAMPLE_LENGTH];
+		int[] storageIds;
+		CapacityHistory[] histories;
+		synchronized (mHistories) {
+			storageIds = new int[mHistories.size()];
+			histories = new CapacityHistory[storageIds.length];
+			for (int i = 0; i < storageIds.length; i++) {
+				storageIds[i] = mHistories.keyAt(i);
+				histories[i] = mHistories.valueAt(i);
+			}
+		}
+		for (int i = 0; i < storageIds.length; i++) {
+			CapacityHistory history = histories[i];
+			writer.write("Capacity storageId=" + storageIds[i] + ", samples=" + history.size());
+			writer.write('\n');
+			for (int j = 0; history.getSample(j, sample); j++) {
+				writer.write(sample[CapacityHistory.SAMPLE_TIMESTAMP] + " total="
+						+ sample[CapacityHistory.SAMPLE_TOTAL_BYTES] + " free="
+						+ sample[CapacityHistory.SAMPLE_FREE_BYTES] + " available="
+						+ sample[CapacityHistory.SAMPLE_AVAILABLE_BYTES]);
+				writer.write('\n');
+			}
+		}
+	}
+}
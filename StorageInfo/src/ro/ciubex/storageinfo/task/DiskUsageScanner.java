@@ -0,0 +1,376 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ro.ciubex.storageinfo.model.DiskUsageTree;
+import ro.ciubex.storageinfo.util.DiskUsageIndex;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Scan the disk usage of a directory tree on a pool of worker threads. Each
+ * directory is listed by one task, which adds its files to the
+ * {@link DiskUsageTree} and submits a task for each subdirectory. The pool
+ * queue is used as a stack, so the workers go deep on the tree and the number
+ * of pending directories stays low.
+ * <p/>
+ * If a {@link DiskUsageIndex} is provided, the directories which were not
+ * modified since the previous scan are not listed again: their files are
+ * taken from the index and only their subdirectories are checked. The
+ * changes of the files size which do not modify the directory are not
+ * detected.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DiskUsageScanner {
+	private static final String TAG = DiskUsageScanner.class.getName();
+	public static final long PROGRESS_INTERVAL = 250;
+
+	/**
+	 * Receive the scan progress, on the main thread.
+	 */
+	public interface Listener {
+		/**
+		 * Invoked periodically while the scan is running, the tree already
+		 * contains the scanned directories.
+		 */
+		public void onScanProgress(DiskUsageScanner scanner);
+
+		/**
+		 * Invoked once, when the scan is finished or cancelled.
+		 */
+		public void onScanFinished(DiskUsageScanner scanner);
+	}
+
+	private final File mRoot;
+	private final DiskUsageTree mTree;
+	private final DiskUsageIndex mIndex;
+	private DiskUsageTree mPrevious;
+	private final Listener mListener;
+	private final Handler mHandler;
+	private final ThreadPoolExecutor mExecutor;
+	private final AtomicInteger mPending = new AtomicInteger();
+	private final AtomicLong mDirectories = new AtomicLong();
+	private final AtomicLong mFiles = new AtomicLong();
+	private final AtomicLong mReusedDirectories = new AtomicLong();
+	private final AtomicLong mLastProgress = new AtomicLong();
+	private volatile boolean mCancelled;
+	private volatile boolean mFinished;
+	private long mStartTime;
+	private volatile long mElapsedTime;
+
+	private final Runnable mNotifyProgress = new Runnable() {
+		@Override
+		public void run() {
+			if (!mFinished) {
+				mListener.onScanProgress(DiskUsageScanner.this);
+			}
+		}
+	};
+
+	private final Runnable mNotifyFinished = new Runnable() {
+		@Override
+		public void run() {
+			mListener.onScanFinished(DiskUsageScanner.this);
+		}
+	};
+
+	/**
+	 * Create a scanner.
+	 *
+	 * @param root     The root directory, usually a mount volume path.
+	 * @param threads  The number of worker threads.
+	 * @param index    The index of the previous scan, which is updated when
+	 *                 the scan is finished, or null.
+	 * @param listener The listener notified on the main thread.
+	 */
+	public DiskUsageScanner(File root, int threads, DiskUsageIndex index, Listener listener) {
+		mRoot = root;
+		mTree = new DiskUsageTree(root.getPath(), root.lastModified());
+		mIndex = index;
+		mListener = listener;
+		mHandler = new Handler(Looper.getMainLooper());
+		mExecutor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingDeque<Runnable>() {
+					@Override
+					public boolean offer(Runnable runnable) {
+						return offerFirst(runnable);
+					}
+				}, new ThreadFactory() {
+			private final AtomicInteger mCounter = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "DiskUsageScanner-" + mCounter.incrementAndGet());
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Create a scanner with one worker thread for each processor core.
+	 *
+	 * @param root     The root directory.
+	 * @param index    The index of the previous scan, or null.
+	 * @param listener The listener notified on the main thread.
+	 */
+	public DiskUsageScanner(File root, DiskUsageIndex index, Listener listener) {
+		this(root, Runtime.getRuntime().availableProcessors(), index, listener);
+	}
+
+	/**
+	 * Start the scan. The index is loaded on a worker thread.
+	 *
+	 * @return The tree which is filled by the scan.
+	 */
+	public DiskUsageTree start() {
+		mStartTime = SystemClock.elapsedRealtime();
+		mPending.incrementAndGet();
+		mExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					if (mIndex != null && !mCancelled) {
+						mPrevious = mIndex.load();
+					}
+					submit(mRoot, DiskUsageTree.ROOT,
+							mPrevious != null ? DiskUsageTree.ROOT : DiskUsageTree.NONE);
+				} finally {
+					if (mPending.decrementAndGet() == 0) {
+						finish();
+					}
+				}
+			}
+		});
+		return mTree;
+	}
+
+	/**
+	 * Stop the scan, for example when the volume is unmounted. The listener
+	 * is still notified that the scan is finished.
+	 */
+	public void cancel() {
+		mCancelled = true;
+	}
+
+	public boolean isCancelled() {
+		return mCancelled;
+	}
+
+	public boolean isFinished() {
+		return mFinished;
+	}
+
+	public DiskUsageTree getTree() {
+		return mTree;
+	}
+
+	public File getRoot() {
+		return mRoot;
+	}
+
+	public long getScannedDirectories() {
+		return mDirectories.get();
+	}
+
+	public long getScannedFiles() {
+		return mFiles.get();
+	}
+
+	/**
+	 * Returns the number of directories which were taken from the index,
+	 * without being listed.
+	 */
+	public long getReusedDirectories() {
+		return mReusedDirectories.get();
+	}
+
+	/**
+	 * Returns the scan duration in milliseconds, until now if the scan is
+	 * still running.
+	 */
+	public long getElapsedTime() {
+		return mFinished ? mElapsedTime : SystemClock.elapsedRealtime() - mStartTime;
+	}
+
+	@Override
+	public String toString() {
+		return "DiskUsageScanner{" +
+				"root=" + mRoot +
+				", directories=" + mDirectories.get() +
+				", files=" + mFiles.get() +
+				", reused=" + mReusedDirectories.get() +
+				", elapsed=" + getElapsedTime() +
+				", cancelled=" + mCancelled +
+				", finished=" + mFinished +
+				'}';
+	}
+
+	private void submit(final File directory, final int node, final int cachedNode) {
+		mPending.incrementAndGet();
+		mExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					if (!mCancelled) {
+						scanDirectory(directory, node, cachedNode);
+					}
+				} catch (Exception e) {
+					Log.e(TAG, "scanDirectory(" + directory + "): " + e.getMessage(), e);
+				} finally {
+					if (mPending.decrementAndGet() == 0) {
+						finish();
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * List a directory, add its files to the tree and submit its
+	 * subdirectories. The symbolic links to directories are not followed.
+	 *
+	 * @param directory  The directory to scan.
+	 * @param node       The directory index on the tree.
+	 * @param cachedNode The directory index on the previous tree, or
+	 *                   {@link DiskUsageTree#NONE}.
+	 */
+	private void scanDirectory(File directory, int node, int cachedNode) throws IOException {
+		long modified = directory.lastModified();
+		mTree.setModified(node, modified);
+		mDirectories.incrementAndGet();
+		if (cachedNode != DiskUsageTree.NONE && modified != 0
+				&& modified == mPrevious.getModified(cachedNode)) {
+			reuseDirectory(directory, node, cachedNode);
+			return;
+		}
+		File[] children = directory.listFiles();
+		if (children == null) {
+			return;
+		}
+		Map<String, Integer> cachedChildren = getCachedChildren(cachedNode);
+		File canonicalDirectory = directory.getCanonicalFile();
+		String name;
+		Integer cachedChild;
+		int files = 0;
+		long bytes = 0;
+		for (File child : children) {
+			if (mCancelled) {
+				break;
+			}
+			if (child.isDirectory()) {
+				name = child.getName();
+				if (!isSymbolicLink(canonicalDirectory, name)) {
+					cachedChild = cachedChildren != null ? cachedChildren.get(name) : null;
+					submit(child, mTree.addDirectory(node, name, 0),
+							cachedChild != null ? cachedChild : DiskUsageTree.NONE);
+				}
+			} else {
+				files++;
+				bytes += child.length();
+			}
+		}
+		mTree.addFiles(node, files, bytes);
+		mFiles.addAndGet(files);
+		postProgress();
+	}
+
+	/**
+	 * Add a directory which was not modified since the previous scan, with
+	 * the files from the index, and submit its indexed subdirectories.
+	 */
+	private void reuseDirectory(File directory, int node, int cachedNode) {
+		mReusedDirectories.incrementAndGet();
+		int files = mPrevious.getOwnFileCount(cachedNode);
+		mTree.addFiles(node, files, mPrevious.getOwnSize(cachedNode));
+		mFiles.addAndGet(files);
+		String name;
+		for (int child = mPrevious.getFirstChild(cachedNode); child != DiskUsageTree.NONE;
+				child = mPrevious.getNextSibling(child)) {
+			if (mCancelled) {
+				break;
+			}
+			name = mPrevious.getName(child);
+			submit(new File(directory, name), mTree.addDirectory(node, name, 0), child);
+		}
+		postProgress();
+	}
+
+	/**
+	 * Map the names of the subdirectories from the previous tree.
+	 *
+	 * @param cachedNode The directory index on the previous tree.
+	 * @return The subdirectories indexes by name, or null.
+	 */
+	private Map<String, Integer> getCachedChildren(int cachedNode) {
+		if (cachedNode == DiskUsageTree.NONE) {
+			return null;
+		}
+		Map<String, Integer> children = new HashMap<String, Integer>();
+		for (int child = mPrevious.getFirstChild(cachedNode); child != DiskUsageTree.NONE;
+				child = mPrevious.getNextSibling(child)) {
+			children.put(mPrevious.getName(child), child);
+		}
+		return children;
+	}
+
+	/**
+	 * Check if a directory entry is a symbolic link, comparing its path on the
+	 * canonical parent with its own canonical path.
+	 */
+	private static boolean isSymbolicLink(File canonicalParent, String name) throws IOException {
+		File file = new File(canonicalParent, name);
+		return !file.getCanonicalFile().equals(file);
+	}
+
+	private void postProgress() {
+		long now = SystemClock.elapsedRealtime();
+		long last = mLastProgress.get();
+		if (now - last >= PROGRESS_INTERVAL && mLastProgress.compareAndSet(last, now)) {
+			mHandler.post(mNotifyProgress);
+		}
+	}
+
+	private void finish() {
+		mExecutor.shutdown();
+		if (mIndex != null && !mCancelled) {
+			mIndex.save(mTree);
+		}
+		mElapsedTime = SystemClock.elapsedRealtime() - mStartTime;
+		mFinished = true;
+		mHandler.removeCallbacks(mNotifyProgress);
+		mHandler.post(mNotifyFinished);
+	}
+}
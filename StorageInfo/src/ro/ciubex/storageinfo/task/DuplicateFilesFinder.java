@@ -0,0 +1,738 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ro.ciubex.storageinfo.util.Utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.AndroidRuntimeException;
+import android.util.Log;
+
+/**
+ * Find the duplicate files of one or more directory trees, in stages:
+ * <ol>
+ * <li>the trees are walked and the files are grouped by size;</li>
+ * <li>the files with the same size are hashed on the first and the last
+ * {@link #PARTIAL_BLOCK_SIZE} bytes;</li>
+ * <li>only the files with the same size and partial hash are fully
+ * hashed.</li>
+ * </ol>
+ * The files are kept on primitive arrays, with the paths on a shared char
+ * pool. The hashing stages run on a pool of worker threads, and the number of
+ * files read at the same time is bounded.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DuplicateFilesFinder implements Runnable {
+	private static final String TAG = DuplicateFilesFinder.class.getName();
+	public static final int PARTIAL_BLOCK_SIZE = 4096;
+	public static final int READ_BUFFER_SIZE = 64 * 1024;
+	public static final long PROGRESS_INTERVAL = 250;
+
+	public static final int STAGE_WALK = 0;
+	public static final int STAGE_PARTIAL_HASH = 1;
+	public static final int STAGE_FULL_HASH = 2;
+	public static final int STAGES = 3;
+
+	/**
+	 * Receive the search progress, on the main thread.
+	 */
+	public interface Listener {
+		public void onSearchProgress(DuplicateFilesFinder finder);
+
+		/**
+		 * Invoked once, when the search is finished or cancelled. The
+		 * duplicate groups are available only if the search was not
+		 * cancelled.
+		 */
+		public void onSearchFinished(DuplicateFilesFinder finder);
+	}
+
+	private final File[] mRoots;
+	private final int mThreads;
+	private final Listener mListener;
+	private final Handler mHandler;
+	private volatile boolean mCancelled;
+	private volatile boolean mFinished;
+	private volatile int mStage;
+	private final AtomicLong mLastProgress = new AtomicLong();
+
+	// all the walked files
+	private int mFileCount;
+	private long[] mSizes = new long[1024];
+	private int[] mPathStarts = new int[1024];
+	private int[] mPathLengths = new int[1024];
+	private char[] mPaths = new char[1024 * 64];
+	private int mPathsLength;
+
+	// the candidates, indexed by ordinal
+	private int[] mCandidates;
+	private long[] mHashHigh;
+	private long[] mHashLow;
+	private boolean[] mFailed;
+
+	// the duplicates groups, as ranges of file indexes
+	private int[] mGroupStarts = new int[0];
+	private int[] mGroupFiles = new int[0];
+	private int mGroupCount;
+
+	private final long[] mStageFiles = new long[STAGES];
+	private final long[] mStageBytes = new long[STAGES];
+	private final long[] mStageNanos = new long[STAGES];
+	private final AtomicLong mProcessedFiles = new AtomicLong();
+	private final AtomicLong mProcessedBytes = new AtomicLong();
+
+	private final Runnable mNotifyProgress = new Runnable() {
+		@Override
+		public void run() {
+			if (!mFinished) {
+				mListener.onSearchProgress(DuplicateFilesFinder.this);
+			}
+		}
+	};
+
+	private final Runnable mNotifyFinished = new Runnable() {
+		@Override
+		public void run() {
+			mListener.onSearchFinished(DuplicateFilesFinder.this);
+		}
+	};
+
+	/**
+	 * Create a finder.
+	 *
+	 * @param roots    The root directories, usually mount volumes paths.
+	 * @param threads  The number of worker threads used to hash the files.
+	 * @param listener The listener notified on the main thread.
+	 */
+	public DuplicateFilesFinder(File[] roots, int threads, Listener listener) {
+		mRoots = roots;
+		mThreads = threads;
+		mListener = listener;
+		mHandler = new Handler(Looper.getMainLooper());
+	}
+
+	/**
+	 * Create a finder with one worker thread for each processor core.
+	 *
+	 * @param roots    The root directories.
+	 * @param listener The listener notified on the main thread.
+	 */
+	public DuplicateFilesFinder(File[] roots, Listener listener) {
+		this(roots, Runtime.getRuntime().availableProcessors(), listener);
+	}
+
+	/**
+	 * Start the search on a background thread.
+	 */
+	public void start() {
+		Thread thread = new Thread(this, "DuplicateFilesFinder");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.start();
+	}
+
+	/**
+	 * Stop the search, for example when a volume is unmounted.
+	 */
+	public void cancel() {
+		mCancelled = true;
+	}
+
+	public boolean isCancelled() {
+		return mCancelled;
+	}
+
+	public boolean isFinished() {
+		return mFinished;
+	}
+
+	/**
+	 * Check if a path is one of the searched trees.
+	 *
+	 * @param path The path to check.
+	 * @return True if the path is a root of this search.
+	 */
+	public boolean hasRoot(String path) {
+		for (File root : mRoots) {
+			if (root.getPath().equals(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the running stage, {@link #STAGE_WALK},
+	 * {@link #STAGE_PARTIAL_HASH} or {@link #STAGE_FULL_HASH}.
+	 */
+	public int getStage() {
+		return mStage;
+	}
+
+	/**
+	 * Returns the number of files processed by the running stage.
+	 */
+	public long getProcessedFiles() {
+		return mProcessedFiles.get();
+	}
+
+	/**
+	 * Returns the number of files processed by a finished stage.
+	 */
+	public long getStageFiles(int stage) {
+		return mStageFiles[stage];
+	}
+
+	/**
+	 * Returns the number of bytes read by a finished stage.
+	 */
+	public long getStageBytes(int stage) {
+		return mStageBytes[stage];
+	}
+
+	/**
+	 * Returns the read throughput of a finished stage.
+	 *
+	 * @param stage The stage.
+	 * @return The throughput in MB/s.
+	 */
+	public double getStageThroughput(int stage) {
+		if (mStageNanos[stage] == 0) {
+			return 0;
+		}
+		return mStageBytes[stage] * 1000000000.0 / mStageNanos[stage] / (1024 * 1024);
+	}
+
+	/**
+	 * Returns the number of duplicate groups, available when the search is
+	 * finished.
+	 */
+	public int getGroupCount() {
+		return mFinished ? mGroupCount : 0;
+	}
+
+	/**
+	 * Returns the number of files of a duplicate group.
+	 */
+	public int getGroupLength(int group) {
+		return mGroupStarts[group + 1] - mGroupStarts[group];
+	}
+
+	/**
+	 * Returns the size of each file of a duplicate group.
+	 */
+	public long getGroupFileSize(int group) {
+		return mSizes[mGroupFiles[mGroupStarts[group]]];
+	}
+
+	/**
+	 * Returns the path of a file of a duplicate group.
+	 *
+	 * @param group The group index.
+	 * @param index The file index in the group.
+	 * @return The file path.
+	 */
+	public String getGroupFilePath(int group, int index) {
+		int file = mGroupFiles[mGroupStarts[group] + index];
+		return new String(mPaths, mPathStarts[file], mPathLengths[file]);
+	}
+
+	/**
+	 * Returns the space which would be freed keeping only one file of each
+	 * duplicate group.
+	 */
+	public long getDuplicateBytes() {
+		long bytes = 0;
+		int count = getGroupCount();
+		for (int group = 0; group < count; group++) {
+			bytes += getGroupFileSize(group) * (getGroupLength(group) - 1);
+		}
+		return bytes;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder("DuplicateFilesFinder{");
+		text.append("roots=").append(Arrays.toString(mRoots));
+		text.append(", stage=").append(mStage);
+		for (int stage = 0; stage < STAGES; stage++) {
+			text.append(", stage").append(stage).append("={files=").append(mStageFiles[stage]);
+			text.append(", bytes=").append(mStageBytes[stage]);
+			text.append(", ms=").append(mStageNanos[stage] / 1000000);
+			text.append(", MB/s=").append(String.format("%.1f", getStageThroughput(stage)));
+			text.append('}');
+		}
+		text.append(", groups=").append(getGroupCount());
+		text.append(", cancelled=").append(mCancelled);
+		text.append(", finished=").append(mFinished);
+		return text.append('}').toString();
+	}
+
+	@Override
+	public void run() {
+		ExecutorService executor = Executors.newFixedThreadPool(mThreads, new ThreadFactory() {
+			private final AtomicInteger mCounter = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "DuplicateFilesFinder-" + mCounter.incrementAndGet());
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+		});
+		try {
+			long start = System.nanoTime();
+			walk();
+			endStage(STAGE_WALK, start);
+			selectSameSize();
+			if (!mCancelled) {
+				start = System.nanoTime();
+				hashCandidates(executor, STAGE_PARTIAL_HASH);
+				endStage(STAGE_PARTIAL_HASH, start);
+			}
+			if (!mCancelled) {
+				start = System.nanoTime();
+				hashCandidates(executor, STAGE_FULL_HASH);
+				endStage(STAGE_FULL_HASH, start);
+			}
+			if (!mCancelled) {
+				buildGroups();
+			}
+		} catch (Exception e) {
+			Log.e(TAG, "run: " + e.getMessage(), e);
+		} finally {
+			executor.shutdownNow();
+		}
+		mFinished = true;
+		mHandler.removeCallbacks(mNotifyProgress);
+		mHandler.post(mNotifyFinished);
+	}
+
+	private void endStage(int stage, long start) {
+		mStageNanos[stage] = System.nanoTime() - start;
+		mStageFiles[stage] = mProcessedFiles.getAndSet(0);
+		mStageBytes[stage] = mProcessedBytes.getAndSet(0);
+		mStage = stage + 1;
+	}
+
+	/**
+	 * Returns the canonical roots which are not inside another root. A
+	 * volume mounted inside another chosen volume is walked only once, with
+	 * its parent.
+	 *
+	 * @param roots The chosen roots.
+	 * @return The distinct canonical roots.
+	 */
+	static File[] getDistinctRoots(File[] roots) throws IOException {
+		String[] paths = new String[roots.length];
+		for (int i = 0; i < roots.length; i++) {
+			paths[i] = roots[i].getCanonicalPath();
+		}
+		// a parent path is sorted before its children
+		Arrays.sort(paths);
+		File[] distinct = new File[paths.length];
+		int count = 0;
+		String last = null;
+		for (String path : paths) {
+			if (last == null || !isInside(path, last)) {
+				distinct[count++] = new File(path);
+				last = path;
+			}
+		}
+		return Arrays.copyOf(distinct, count);
+	}
+
+	private static boolean isInside(String path, String parent) {
+		if (!path.startsWith(parent)) {
+			return false;
+		}
+		return path.length() == parent.length() || parent.endsWith(File.separator)
+				|| path.charAt(parent.length()) == File.separatorChar;
+	}
+
+	/**
+	 * Walk the trees and store the not empty files. Only the canonical paths
+	 * are walked, so the symbolic links are not followed and each file is
+	 * stored once, even if it can be reached from more roots.
+	 */
+	private void walk() throws IOException {
+		File[] roots = getDistinctRoots(mRoots);
+		File[] stack = new File[Math.max(64, roots.length)];
+		int top = 0;
+		for (File root : roots) {
+			stack[top++] = root;
+		}
+		File directory, canonical;
+		File[] children;
+		long size;
+		while (top > 0 && !mCancelled) {
+			directory = stack[--top];
+			stack[top] = null;
+			children = directory.listFiles();
+			if (children == null) {
+				continue;
+			}
+			for (File child : children) {
+				// the directory is canonical, so only a link has another path
+				canonical = child.getCanonicalFile();
+				if (!canonical.equals(child)) {
+					continue;
+				}
+				if (child.isDirectory()) {
+					if (top == stack.length) {
+						stack = Arrays.copyOf(stack, top * 2);
+					}
+					stack[top++] = child;
+				} else {
+					size = child.length();
+					if (size > 0) {
+						addFile(size, child.getPath());
+					}
+				}
+			}
+			mProcessedFiles.set(mFileCount);
+			postProgress();
+		}
+	}
+
+	private void addFile(long size, String path) {
+		if (mFileCount == mSizes.length) {
+			int capacity = mFileCount * 2;
+			mSizes = Arrays.copyOf(mSizes, capacity);
+			mPathStarts = Arrays.copyOf(mPathStarts, capacity);
+			mPathLengths = Arrays.copyOf(mPathLengths, capacity);
+		}
+		int length = path.length();
+		if (mPathsLength + length > mPaths.length) {
+			mPaths = Arrays.copyOf(mPaths, Math.max(mPaths.length * 2, mPathsLength + length));
+		}
+		path.getChars(0, length, mPaths, mPathsLength);
+		mSizes[mFileCount] = size;
+		mPathStarts[mFileCount] = mPathsLength;
+		mPathLengths[mFileCount] = length;
+		mPathsLength += length;
+		mFileCount++;
+	}
+
+	/**
+	 * Keep as candidates only the files which have the same size with at
+	 * least another file.
+	 */
+	private void selectSameSize() {
+		int[] order = new int[mFileCount];
+		for (int i = 0; i < mFileCount; i++) {
+			order[i] = i;
+		}
+		sort(order, 0, mFileCount, mSizes, null, null);
+		int count = 0;
+		int[] candidates = new int[mFileCount];
+		int start = 0, end;
+		while (start < mFileCount) {
+			end = start + 1;
+			while (end < mFileCount && mSizes[order[end]] == mSizes[order[start]]) {
+				end++;
+			}
+			if (end - start > 1) {
+				System.arraycopy(order, start, candidates, count, end - start);
+				count += end - start;
+			}
+			start = end;
+		}
+		mCandidates = Arrays.copyOf(candidates, count);
+		mHashHigh = new long[count];
+		mHashLow = new long[count];
+		mFailed = new boolean[count];
+	}
+
+	/**
+	 * Hash the candidates which are still in a group of at least two files.
+	 * The partial hash covers the whole file if the file is not larger than
+	 * two blocks, so these files are not hashed again.
+	 *
+	 * @param executor The worker threads.
+	 * @param stage    The hashing stage.
+	 */
+	private void hashCandidates(ExecutorService executor, final int stage) throws InterruptedException {
+		int count = mCandidates.length;
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		if (stage == STAGE_FULL_HASH) {
+			long[] sizes = new long[count];
+			for (int i = 0; i < count; i++) {
+				sizes[i] = mSizes[mCandidates[i]];
+			}
+			sort(order, 0, count, sizes, mHashHigh, mHashLow);
+		}
+		// at most two files read ahead by each worker
+		final Semaphore readAhead = new Semaphore(mThreads * 2);
+		int start = 0, end;
+		while (start < count && !mCancelled) {
+			end = nextGroupEnd(order, start, count);
+			if (end - start > 1) {
+				for (int i = start; i < end && !mCancelled; i++) {
+					final int ordinal = order[i];
+					final long size = mSizes[mCandidates[ordinal]];
+					if (stage == STAGE_FULL_HASH && size <= 2 * PARTIAL_BLOCK_SIZE) {
+						continue;
+					}
+					readAhead.acquire();
+					executor.execute(new Runnable() {
+						@Override
+						public void run() {
+							try {
+								if (!mCancelled) {
+									hashFile(ordinal, size, stage == STAGE_FULL_HASH);
+								}
+							} finally {
+								readAhead.release();
+							}
+						}
+					});
+				}
+			}
+			start = end;
+		}
+		// wait for all the workers
+		readAhead.acquire(mThreads * 2);
+		readAhead.release(mThreads * 2);
+	}
+
+	/**
+	 * Find the end of the group which starts at a position. On the partial
+	 * hash stage the candidates are grouped only by size.
+	 */
+	private int nextGroupEnd(int[] order, int start, int count) {
+		int first = order[start];
+		long size = mSizes[mCandidates[first]];
+		int end = start + 1;
+		int ordinal;
+		while (end < count) {
+			ordinal = order[end];
+			if (mSizes[mCandidates[ordinal]] != size || mFailed[ordinal] != mFailed[first]
+					|| mHashHigh[ordinal] != mHashHigh[first]
+					|| mHashLow[ordinal] != mHashLow[first]) {
+				break;
+			}
+			end++;
+		}
+		return mFailed[first] ? start + 1 : end;
+	}
+
+	private static final ThreadLocal<MessageDigest> sDigest = new ThreadLocal<MessageDigest>() {
+		@Override
+		protected MessageDigest initialValue() {
+			try {
+				return MessageDigest.getInstance("MD5");
+			} catch (NoSuchAlgorithmException e) {
+				throw new AndroidRuntimeException(e);
+			}
+		}
+	};
+
+	private static final ThreadLocal<ByteBuffer> sBuffer = new ThreadLocal<ByteBuffer>() {
+		@Override
+		protected ByteBuffer initialValue() {
+			return ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+		}
+	};
+
+	/**
+	 * Hash a candidate file, the first and the last blocks or the whole
+	 * file.
+	 */
+	private void hashFile(int ordinal, long size, boolean full) {
+		int file = mCandidates[ordinal];
+		String path = new String(mPaths, mPathStarts[file], mPathLengths[file]);
+		MessageDigest digest = sDigest.get();
+		ByteBuffer buffer = sBuffer.get();
+		FileInputStream input = null;
+		long read = 0;
+		try {
+			input = new FileInputStream(path);
+			FileChannel channel = input.getChannel();
+			digest.reset();
+			if (full) {
+				read = update(digest, channel, buffer, 0, size);
+			} else if (size <= 2 * PARTIAL_BLOCK_SIZE) {
+				read = update(digest, channel, buffer, 0, size);
+			} else {
+				read = update(digest, channel, buffer, 0, PARTIAL_BLOCK_SIZE);
+				read += update(digest, channel, buffer, size - PARTIAL_BLOCK_SIZE, PARTIAL_BLOCK_SIZE);
+			}
+			byte[] hash = digest.digest();
+			mHashHigh[ordinal] = toLong(hash, 0);
+			mHashLow[ordinal] = toLong(hash, 8);
+		} catch (IOException e) {
+			Log.e(TAG, "hashFile(" + path + "): " + e.getMessage());
+			mFailed[ordinal] = true;
+		} finally {
+			Utils.doClose(input);
+		}
+		mProcessedFiles.incrementAndGet();
+		mProcessedBytes.addAndGet(read);
+		postProgress();
+	}
+
+	/**
+	 * Read a file region on the digest.
+	 *
+	 * @return The number of read bytes.
+	 */
+	private long update(MessageDigest digest, FileChannel channel, ByteBuffer buffer,
+			long position, long length) throws IOException {
+		long read = 0;
+		int count;
+		while (read < length && !mCancelled) {
+			buffer.clear();
+			if (length - read < buffer.capacity()) {
+				buffer.limit((int) (length - read));
+			}
+			count = channel.read(buffer, position + read);
+			if (count <= 0) {
+				break;
+			}
+			buffer.flip();
+			digest.update(buffer);
+			read += count;
+		}
+		return read;
+	}
+
+	private static long toLong(byte[] bytes, int offset) {
+		long value = 0;
+		for (int i = offset; i < offset + 8; i++) {
+			value = (value << 8) | (bytes[i] & 0xFF);
+		}
+		return value;
+	}
+
+	/**
+	 * Group the candidates with the same size and the same hash.
+	 */
+	private void buildGroups() {
+		int count = mCandidates.length;
+		int[] order = new int[count];
+		long[] sizes = new long[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+			sizes[i] = mSizes[mCandidates[i]];
+		}
+		sort(order, 0, count, sizes, mHashHigh, mHashLow);
+		int[] groupStarts = new int[count / 2 + 1];
+		int[] groupFiles = new int[count];
+		int groups = 0, files = 0;
+		int start = 0, end;
+		while (start < count) {
+			end = nextGroupEnd(order, start, count);
+			if (end - start > 1) {
+				groupStarts[groups++] = files;
+				for (int i = start; i < end; i++) {
+					groupFiles[files++] = mCandidates[order[i]];
+				}
+			}
+			start = end;
+		}
+		groupStarts[groups] = files;
+		mGroupStarts = Arrays.copyOf(groupStarts, groups + 1);
+		mGroupFiles = Arrays.copyOf(groupFiles, files);
+		mGroupCount = groups;
+	}
+
+	/**
+	 * Sort indexes by up to three keys, the keys are indexed by the sorted
+	 * values.
+	 */
+	private static void sort(int[] order, int from, int to, long[] key1, long[] key2, long[] key3) {
+		while (to - from > 16) {
+			int pivot = order[(from + to) >>> 1];
+			int i = from, j = to - 1;
+			while (i <= j) {
+				while (compare(order[i], pivot, key1, key2, key3) < 0) {
+					i++;
+				}
+				while (compare(order[j], pivot, key1, key2, key3) > 0) {
+					j--;
+				}
+				if (i <= j) {
+					int value = order[i];
+					order[i++] = order[j];
+					order[j--] = value;
+				}
+			}
+			// recurse on the smaller part
+			if (j + 1 - from < to - i) {
+				sort(order, from, j + 1, key1, key2, key3);
+				from = i;
+			} else {
+				sort(order, i, to, key1, key2, key3);
+				to = j + 1;
+			}
+		}
+		for (int i = from + 1; i < to; i++) {
+			int value = order[i];
+			int j = i - 1;
+			while (j >= from && compare(order[j], value, key1, key2, key3) > 0) {
+				order[j + 1] = order[j];
+				j--;
+			}
+			order[j + 1] = value;
+		}
+	}
+
+	private static int compare(int a, int b, long[] key1, long[] key2, long[] key3) {
+		if (key1[a] != key1[b]) {
+			return key1[a] < key1[b] ? -1 : 1;
+		}
+		if (key2 != null && key2[a] != key2[b]) {
+			return key2[a] < key2[b] ? -1 : 1;
+		}
+		if (key3 != null && key3[a] != key3[b]) {
+			return key3[a] < key3[b] ? -1 : 1;
+		}
+		return 0;
+	}
+
+	private void postProgress() {
+		long now = System.nanoTime() / 1000000;
+		long last = mLastProgress.get();
+		if (now - last >= PROGRESS_INTERVAL && mLastProgress.compareAndSet(last, now)) {
+			mHandler.post(mNotifyProgress);
+		}
+	}
+}
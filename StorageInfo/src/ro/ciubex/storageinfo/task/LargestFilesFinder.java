@@ -0,0 +1,339 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Find the largest files of a directory tree. The files are walked on a
+ * background thread and only the largest files found so far are kept, on a
+ * bounded min-heap of sizes and path offsets. The paths of the kept files are
+ * stored on a char pool which is compacted when it is full, so the memory
+ * does not depend on the number of files.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class LargestFilesFinder implements Runnable {
+	private static final String TAG = LargestFilesFinder.class.getName();
+	public static final long PROGRESS_INTERVAL = 250;
+
+	/**
+	 * Receive the search progress, on the main thread.
+	 */
+	public interface Listener {
+		public void onSearchProgress(LargestFilesFinder finder);
+
+		/**
+		 * Invoked once, when the search is finished or cancelled. The results
+		 * are sorted only if the search was not cancelled.
+		 */
+		public void onSearchFinished(LargestFilesFinder finder);
+	}
+
+	private final File mRoot;
+	private final int mLimit;
+	private final Listener mListener;
+	private final Handler mHandler;
+	private final long[] mSizes;
+	private final int[] mPathStarts;
+	private final int[] mPathLengths;
+	private char[] mPaths;
+	private int mPathsLength;
+	private int mCount;
+	private volatile boolean mCancelled;
+	private volatile boolean mFinished;
+	private volatile long mScannedFiles;
+	private volatile long mScannedBytes;
+	private long mLastProgress;
+
+	private final Runnable mNotifyProgress = new Runnable() {
+		@Override
+		public void run() {
+			if (!mFinished) {
+				mListener.onSearchProgress(LargestFilesFinder.this);
+			}
+		}
+	};
+
+	private final Runnable mNotifyFinished = new Runnable() {
+		@Override
+		public void run() {
+			mListener.onSearchFinished(LargestFilesFinder.this);
+		}
+	};
+
+	/**
+	 * Create a finder.
+	 *
+	 * @param root     The root directory, usually a mount volume path.
+	 * @param limit    The number of largest files to be found.
+	 * @param listener The listener notified on the main thread.
+	 */
+	public LargestFilesFinder(File root, int limit, Listener listener) {
+		mRoot = root;
+		mLimit = limit;
+		mListener = listener;
+		mHandler = new Handler(Looper.getMainLooper());
+		mSizes = new long[limit];
+		mPathStarts = new int[limit];
+		mPathLengths = new int[limit];
+		mPaths = new char[limit * 64];
+	}
+
+	/**
+	 * Start the search on a background thread.
+	 */
+	public void start() {
+		Thread thread = new Thread(this, "LargestFilesFinder");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.start();
+	}
+
+	/**
+	 * Stop the search, for example when the volume is unmounted.
+	 */
+	public void cancel() {
+		mCancelled = true;
+	}
+
+	public boolean isCancelled() {
+		return mCancelled;
+	}
+
+	public boolean isFinished() {
+		return mFinished;
+	}
+
+	public File getRoot() {
+		return mRoot;
+	}
+
+	public long getScannedFiles() {
+		return mScannedFiles;
+	}
+
+	public long getScannedBytes() {
+		return mScannedBytes;
+	}
+
+	/**
+	 * Returns the number of found files, available when the search is
+	 * finished.
+	 */
+	public int getResultCount() {
+		return mFinished ? mCount : 0;
+	}
+
+	/**
+	 * Returns the size of a found file.
+	 *
+	 * @param index The result index, 0 is the largest file.
+	 */
+	public long getResultSize(int index) {
+		return mSizes[index];
+	}
+
+	/**
+	 * Returns the path of a found file.
+	 *
+	 * @param index The result index, 0 is the largest file.
+	 */
+	public String getResultPath(int index) {
+		return new String(mPaths, mPathStarts[index], mPathLengths[index]);
+	}
+
+	@Override
+	public String toString() {
+		return "LargestFilesFinder{" +
+				"root=" + mRoot +
+				", limit=" + mLimit +
+				", files=" + mScannedFiles +
+				", bytes=" + mScannedBytes +
+				", cancelled=" + mCancelled +
+				", finished=" + mFinished +
+				'}';
+	}
+
+	@Override
+	public void run() {
+		try {
+			walk();
+			if (!mCancelled) {
+				sortResults();
+			}
+		} catch (Exception e) {
+			Log.e(TAG, "run(" + mRoot + "): " + e.getMessage(), e);
+		}
+		mFinished = true;
+		mHandler.removeCallbacks(mNotifyProgress);
+		mHandler.post(mNotifyFinished);
+	}
+
+	/**
+	 * Walk the tree depth first. The symbolic links to directories are not
+	 * followed.
+	 */
+	private void walk() throws IOException {
+		Deque<File> directories = new ArrayDeque<File>();
+		directories.push(mRoot);
+		File directory, canonicalDirectory;
+		File[] children;
+		long files = 0, bytes = 0, size;
+		while (!directories.isEmpty() && !mCancelled) {
+			directory = directories.pop();
+			children = directory.listFiles();
+			if (children == null) {
+				continue;
+			}
+			canonicalDirectory = directory.getCanonicalFile();
+			for (File child : children) {
+				if (child.isDirectory()) {
+					File canonical = new File(canonicalDirectory, child.getName());
+					if (canonical.getCanonicalFile().equals(canonical)) {
+						directories.push(child);
+					}
+				} else {
+					size = child.length();
+					files++;
+					bytes += size;
+					if (mCount < mLimit || (mCount > 0 && size > mSizes[0])) {
+						offer(size, child.getPath());
+					}
+				}
+			}
+			mScannedFiles = files;
+			mScannedBytes = bytes;
+			postProgress();
+		}
+	}
+
+	/**
+	 * Add a file to the heap, replacing the smallest file if the heap is full.
+	 */
+	private void offer(long size, String path) {
+		int start = storePath(path);
+		if (mCount < mLimit) {
+			int index = mCount++;
+			mSizes[index] = size;
+			mPathStarts[index] = start;
+			mPathLengths[index] = path.length();
+			siftUp(index);
+		} else {
+			mSizes[0] = size;
+			mPathStarts[0] = start;
+			mPathLengths[0] = path.length();
+			siftDown(0, mCount);
+		}
+	}
+
+	/**
+	 * Append a path to the char pool. If the pool is full, the paths still
+	 * referenced by the heap are compacted first.
+	 *
+	 * @return The path offset.
+	 */
+	private int storePath(String path) {
+		int length = path.length();
+		if (mPathsLength + length > mPaths.length) {
+			int live = length;
+			for (int i = 0; i < mCount; i++) {
+				live += mPathLengths[i];
+			}
+			char[] paths = new char[Math.max(mPaths.length, live * 2)];
+			int position = 0;
+			for (int i = 0; i < mCount; i++) {
+				System.arraycopy(mPaths, mPathStarts[i], paths, position, mPathLengths[i]);
+				mPathStarts[i] = position;
+				position += mPathLengths[i];
+			}
+			mPaths = paths;
+			mPathsLength = position;
+		}
+		int start = mPathsLength;
+		path.getChars(0, length, mPaths, start);
+		mPathsLength += length;
+		return start;
+	}
+
+	private void siftUp(int index) {
+		int parent;
+		while (index > 0) {
+			parent = (index - 1) / 2;
+			if (mSizes[parent] <= mSizes[index]) {
+				break;
+			}
+			swap(parent, index);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index, int count) {
+		int child;
+		while ((child = 2 * index + 1) < count) {
+			if (child + 1 < count && mSizes[child + 1] < mSizes[child]) {
+				child++;
+			}
+			if (mSizes[index] <= mSizes[child]) {
+				break;
+			}
+			swap(index, child);
+			index = child;
+		}
+	}
+
+	private void swap(int i, int j) {
+		long size = mSizes[i];
+		mSizes[i] = mSizes[j];
+		mSizes[j] = size;
+		int value = mPathStarts[i];
+		mPathStarts[i] = mPathStarts[j];
+		mPathStarts[j] = value;
+		value = mPathLengths[i];
+		mPathLengths[i] = mPathLengths[j];
+		mPathLengths[j] = value;
+	}
+
+	/**
+	 * Sort the heap in place, the smallest files are moved at the end so the
+	 * results are in descending size order.
+	 */
+	private void sortResults() {
+		for (int last = mCount - 1; last > 0; last--) {
+			swap(0, last);
+			siftDown(0, last);
+		}
+	}
+
+	private void postProgress() {
+		long now = SystemClock.elapsedRealtime();
+		if (now - mLastProgress >= PROGRESS_INTERVAL) {
+			mLastProgress = now;
+			mHandler.post(mNotifyProgress);
+		}
+	}
+}
@@ -0,0 +1,431 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.io.Closeable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ro.ciubex.storageinfo.util.MountServiceAdapter;
+import ro.ciubex.storageinfo.util.Utils.MountService;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Run the mount and unmount binder calls on background threads, so a busy
+ * volume does not block the main thread.
+ * <p/>
+ * Each operation has a timeout counted from its submission. The binder calls
+ * can not be interrupted, so when an operation times out or is cancelled
+ * while running, only its listener is released and the call is left to
+ * finish on its thread. The latency of every call is recorded, including the
+ * late ones.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class MountOperationExecutor implements Closeable {
+	private static final String TAG = MountOperationExecutor.class.getName();
+	public static final long DEFAULT_TIMEOUT = 15000;
+	private static final int MAX_THREADS = 4;
+	private static final long KEEP_ALIVE = 30;
+
+	public static final int OPERATION_MOUNT = 0;
+	public static final int OPERATION_UNMOUNT = 1;
+
+	public static final int STATUS_QUEUED = 0;
+	public static final int STATUS_RUNNING = 1;
+	public static final int STATUS_SUCCESS = 2;
+	/**
+	 * The mount call returned an error code, see {@link Operation#getResult()}.
+	 */
+	public static final int STATUS_FAILED = 3;
+	/**
+	 * The call thrown an exception, see {@link Operation#getError()}.
+	 */
+	public static final int STATUS_ERROR = 4;
+	public static final int STATUS_TIMEOUT = 5;
+	public static final int STATUS_CANCELLED = 6;
+
+	/**
+	 * Receive the operation progress, on the main thread.
+	 */
+	public interface Listener {
+		public void onOperationStarted(Operation operation);
+
+		/**
+		 * Invoked once, when the operation is finished, failed, timed out or
+		 * was cancelled.
+		 */
+		public void onOperationFinished(Operation operation);
+	}
+
+	private static final int STATISTIC_CALLS = 0;
+	private static final int STATISTIC_ERRORS = 1;
+	private static final int STATISTIC_TIMEOUTS = 2;
+	private static final int STATISTIC_CANCELLED = 3;
+	private static final int STATISTIC_TOTAL_LATENCY = 4;
+	private static final int STATISTIC_MAX_LATENCY = 5;
+	private static final int STATISTIC_LENGTH = 6;
+
+	private final MountServiceAdapter mAdapter;
+	private final Object mMountService;
+	private final Handler mHandler;
+	private final ThreadPoolExecutor mExecutor;
+	// statistics per operation type, guarded by mStatistics
+	private final long[][] mStatistics = new long[2][STATISTIC_LENGTH];
+
+	/**
+	 * A mount or unmount request.
+	 */
+	public final class Operation implements Runnable {
+		private final int mType;
+		private final String mPath;
+		private final boolean mForce;
+		private final Listener mListener;
+		private final long mSubmitTime;
+		private long mStartTime;
+		private long mEndTime;
+		private int mStatus = STATUS_QUEUED;
+		private int mResult;
+		private Exception mError;
+		private Future<?> mFuture;
+
+		private final Runnable mTimeoutTask = new Runnable() {
+			@Override
+			public void run() {
+				finish(STATUS_TIMEOUT);
+			}
+		};
+
+		private final Runnable mNotifyStarted = new Runnable() {
+			@Override
+			public void run() {
+				if (getStatus() == STATUS_RUNNING) {
+					mListener.onOperationStarted(Operation.this);
+				}
+			}
+		};
+
+		private final Runnable mNotifyFinished = new Runnable() {
+			@Override
+			public void run() {
+				mListener.onOperationFinished(Operation.this);
+			}
+		};
+
+		private Operation(int type, String path, boolean force, Listener listener) {
+			mType = type;
+			mPath = path;
+			mForce = force;
+			mListener = listener;
+			mSubmitTime = SystemClock.elapsedRealtime();
+		}
+
+		public int getType() {
+			return mType;
+		}
+
+		public String getPath() {
+			return mPath;
+		}
+
+		public boolean isForce() {
+			return mForce;
+		}
+
+		public synchronized int getStatus() {
+			return mStatus;
+		}
+
+		public synchronized boolean isDone() {
+			return mStatus > STATUS_RUNNING;
+		}
+
+		/**
+		 * @return The mount call result code, 0 on success.
+		 */
+		public synchronized int getResult() {
+			return mResult;
+		}
+
+		public synchronized Exception getError() {
+			return mError;
+		}
+
+		/**
+		 * @return The time the operation waited to be started, in
+		 * milliseconds.
+		 */
+		public synchronized long getWaitTime() {
+			return (mStartTime > 0 ? mStartTime : SystemClock.elapsedRealtime()) - mSubmitTime;
+		}
+
+		/**
+		 * @return The binder call duration in milliseconds, or -1 if the call
+		 * did not return yet.
+		 */
+		public synchronized long getLatency() {
+			return mEndTime > 0 ? mEndTime - mStartTime : -1;
+		}
+
+		/**
+		 * Cancel the operation. A queued operation is not started anymore, a
+		 * running one only releases the listener.
+		 */
+		public void cancel() {
+			if (mFuture != null) {
+				mFuture.cancel(false);
+			}
+			finish(STATUS_CANCELLED);
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				if (mStatus != STATUS_QUEUED) {
+					return;
+				}
+				mStatus = STATUS_RUNNING;
+				mStartTime = SystemClock.elapsedRealtime();
+			}
+			mHandler.post(mNotifyStarted);
+			int status;
+			int result = 0;
+			Exception error = null;
+			try {
+				if (mType == OPERATION_MOUNT) {
+					result = mAdapter.mountVolume(mMountService, mPath);
+					status = result == 0 ? STATUS_SUCCESS : STATUS_FAILED;
+				} else {
+					mAdapter.unmountVolume(mMountService, mPath, mForce);
+					status = STATUS_SUCCESS;
+				}
+			} catch (Exception e) {
+				Log.e(TAG, "run(" + this + "): " + e.getMessage(), e);
+				error = e;
+				status = STATUS_ERROR;
+			}
+			long latency;
+			boolean finished;
+			synchronized (this) {
+				mEndTime = SystemClock.elapsedRealtime();
+				latency = mEndTime - mStartTime;
+				// a late call does not change the timed out or cancelled status
+				finished = mStatus == STATUS_RUNNING;
+				if (finished) {
+					mStatus = status;
+					mResult = result;
+					mError = error;
+				}
+			}
+			record(mType, finished ? status : STATUS_RUNNING, latency);
+			if (finished) {
+				notifyFinished();
+			}
+		}
+
+		/**
+		 * Set the final status, only once, and notify the listener.
+		 */
+		private void finish(int status) {
+			synchronized (this) {
+				if (mStatus > STATUS_RUNNING) {
+					return;
+				}
+				mStatus = status;
+			}
+			record(mType, status, -1);
+			notifyFinished();
+		}
+
+		private void notifyFinished() {
+			mHandler.removeCallbacks(mTimeoutTask);
+			mHandler.removeCallbacks(mNotifyStarted);
+			mHandler.post(mNotifyFinished);
+		}
+
+		@Override
+		public synchronized String toString() {
+			return "Operation{" +
+					"type=" + (mType == OPERATION_MOUNT ? "mount" : "unmount") +
+					", path=" + mPath +
+					", force=" + mForce +
+					", status=" + mStatus +
+					", result=" + mResult +
+					", wait=" + getWaitTime() +
+					", latency=" + getLatency() +
+					'}';
+		}
+	}
+
+	/**
+	 * Create the executor.
+	 *
+	 * @param mountService The mount service used for the binder calls.
+	 */
+	public MountOperationExecutor(Object mountService) {
+		this(MountService.getAdapter(), mountService);
+	}
+
+	/**
+	 * Create the executor with a specific mount service adapter, for example
+	 * one which simulates the mount service.
+	 *
+	 * @param adapter      The adapter used for the binder calls.
+	 * @param mountService The mount service passed to the adapter.
+	 */
+	public MountOperationExecutor(MountServiceAdapter adapter, Object mountService) {
+		mAdapter = adapter;
+		mMountService = mountService;
+		mHandler = new Handler(Looper.getMainLooper());
+		final AtomicInteger threadCount = new AtomicInteger();
+		mExecutor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, KEEP_ALIVE,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "MountOperation-"
+								+ threadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		mExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Submit a mount operation.
+	 *
+	 * @param path     The volume path.
+	 * @param timeout  The timeout in milliseconds.
+	 * @param listener The listener notified on the main thread.
+	 * @return The submitted operation.
+	 */
+	public Operation mount(String path, long timeout, Listener listener) {
+		return submit(new Operation(OPERATION_MOUNT, path, false, listener), timeout);
+	}
+
+	/**
+	 * Submit an unmount operation.
+	 *
+	 * @param path     The volume path.
+	 * @param force    True to force the unmount even if the volume is busy.
+	 * @param timeout  The timeout in milliseconds.
+	 * @param listener The listener notified on the main thread.
+	 * @return The submitted operation.
+	 */
+	public Operation unmount(String path, boolean force, long timeout, Listener listener) {
+		return submit(new Operation(OPERATION_UNMOUNT, path, force, listener), timeout);
+	}
+
+	private Operation submit(Operation operation, long timeout) {
+		try {
+			mHandler.postDelayed(operation.mTimeoutTask, timeout);
+			operation.mFuture = mExecutor.submit(operation);
+		} catch (RejectedExecutionException e) {
+			Log.e(TAG, "submit(" + operation + "): " + e.getMessage(), e);
+			operation.finish(STATUS_CANCELLED);
+		}
+		return operation;
+	}
+
+	/**
+	 * Record an operation statistics.
+	 *
+	 * @param type    The operation type.
+	 * @param status  The final status of the operation, or
+	 *                {@link #STATUS_RUNNING} to record only the latency of a
+	 *                call which returned after the operation timed out or was
+	 *                cancelled.
+	 * @param latency The call latency, or -1 if the call did not return.
+	 */
+	private void record(int type, int status, long latency) {
+		synchronized (mStatistics) {
+			long[] statistics = mStatistics[type];
+			if (latency >= 0) {
+				statistics[STATISTIC_CALLS]++;
+				statistics[STATISTIC_TOTAL_LATENCY] += latency;
+				if (latency > statistics[STATISTIC_MAX_LATENCY]) {
+					statistics[STATISTIC_MAX_LATENCY] = latency;
+				}
+			}
+			if (status == STATUS_FAILED || status == STATUS_ERROR) {
+				statistics[STATISTIC_ERRORS]++;
+			} else if (status == STATUS_TIMEOUT) {
+				statistics[STATISTIC_TIMEOUTS]++;
+			} else if (status == STATUS_CANCELLED) {
+				statistics[STATISTIC_CANCELLED]++;
+			}
+		}
+	}
+
+	/**
+	 * @return The average binder call latency in milliseconds.
+	 */
+	public long getAverageLatency(int type) {
+		synchronized (mStatistics) {
+			long[] statistics = mStatistics[type];
+			return statistics[STATISTIC_CALLS] > 0 ?
+					statistics[STATISTIC_TOTAL_LATENCY] / statistics[STATISTIC_CALLS] : 0;
+		}
+	}
+
+	/**
+	 * @return The maximum binder call latency in milliseconds.
+	 */
+	public long getMaxLatency(int type) {
+		synchronized (mStatistics) {
+			return mStatistics[type][STATISTIC_MAX_LATENCY];
+		}
+	}
+
+	@Override
+	public void close() {
+		mExecutor.shutdownNow();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder("MountOperationExecutor{");
+		synchronized (mStatistics) {
+			for (int type = OPERATION_MOUNT; type <= OPERATION_UNMOUNT; type++) {
+				long[] statistics = mStatistics[type];
+				text.append(type == OPERATION_MOUNT ? "mount={" : ", unmount={")
+						.append("calls=").append(statistics[STATISTIC_CALLS])
+						.append(", errors=").append(statistics[STATISTIC_ERRORS])
+						.append(", timeouts=").append(statistics[STATISTIC_TIMEOUTS])
+						.append(", cancelled=").append(statistics[STATISTIC_CANCELLED])
+						.append(", avgLatency=").append(getAverageLatency(type))
+						.append(", maxLatency=").append(statistics[STATISTIC_MAX_LATENCY])
+						.append('}');
+			}
+		}
+		return text.append(", active=").append(mExecutor.getActiveCount())
+				.append(", queued=").append(mExecutor.getQueue().size())
+				.append('}').toString();
+	}
+}
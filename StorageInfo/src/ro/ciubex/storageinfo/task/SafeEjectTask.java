@@ -0,0 +1,399 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.io.IOException;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.task.MountOperationExecutor.Operation;
+import ro.ciubex.storageinfo.util.Utils;
+import ro.ciubex.storageinfo.util.WriteBackStats;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Unmount a volume only after the cached data was written. A sync is started
+ * and the dirty and write-back page cache is watched until the sync returns,
+ * the cache is drained or the deadline is reached. The unmount is submitted
+ * to the {@link MountOperationExecutor} only if the sync returned or the
+ * cache was drained, otherwise the owner is told that the data is still
+ * being written and the unmount waits for the user to confirm it, see
+ * {@link #unmountNow()}.
+ * <p/>
+ * The watcher is woken as soon as the sync returns, otherwise the cache is
+ * read every {@link #POLL_INTERVAL}, so the unmount is not delayed more than
+ * needed by the data.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class SafeEjectTask implements Runnable {
+	private static final String TAG = SafeEjectTask.class.getName();
+	public static final long DEFAULT_DEADLINE = 30000;
+	public static final long POLL_INTERVAL = 100;
+	public static final long PROGRESS_INTERVAL = 250;
+	/**
+	 * The page cache is shared by all the devices, so a few dirty pages of
+	 * the internal storage do not delay the unmount.
+	 */
+	public static final long DRAINED_BYTES = 256 * 1024;
+	private static final String SYNC_COMMAND = "sync";
+
+	/**
+	 * Receive the write-back progress, on the main thread.
+	 */
+	public interface Listener {
+		public void onSafeEjectProgress(SafeEjectTask task);
+
+		/**
+		 * Invoked once, when the cache is written and the unmount was
+		 * submitted, when the deadline was reached without unmounting, or
+		 * when the task is cancelled.
+		 */
+		public void onSafeEjectFinished(SafeEjectTask task);
+	}
+
+	/**
+	 * Receive the unmount operation events of the task owner, on the main
+	 * thread.
+	 */
+	public interface OperationListener extends MountOperationExecutor.Listener {
+		/**
+		 * Invoked when the task was cancelled before the unmount was
+		 * submitted, for example because the volume was removed. No
+		 * operation event follows.
+		 */
+		public void onSafeEjectCancelled(SafeEjectTask task);
+
+		/**
+		 * Invoked when the deadline was reached while the data was still
+		 * being written. No unmount was submitted, the owner could start
+		 * the safe eject again or, if the user confirms it, call
+		 * {@link SafeEjectTask#unmountNow()}.
+		 */
+		public void onSafeEjectNotDrained(SafeEjectTask task);
+	}
+
+	private final MountOperationExecutor mExecutor;
+	private final String mSyncCommand;
+	private final MountVolume mMountVolume;
+	private final long mDeadline;
+	private final Listener mListener;
+	private final OperationListener mOperationListener;
+	private final Handler mHandler;
+	private final Object mLock = new Object();
+	private WriteBackStats mStats;
+	private volatile boolean mCancelled;
+	private volatile boolean mFinished;
+	private volatile boolean mSyncFinished;
+	private volatile boolean mDrained;
+	private volatile long mInitialPendingBytes;
+	private volatile long mPendingBytes;
+	private volatile long mDuration;
+	private long mLastProgress;
+	private Operation mOperation;
+
+	private final Runnable mNotifyProgress = new Runnable() {
+		@Override
+		public void run() {
+			if (!mFinished) {
+				mListener.onSafeEjectProgress(SafeEjectTask.this);
+			}
+		}
+	};
+
+	private final Runnable mNotifyFinished = new Runnable() {
+		@Override
+		public void run() {
+			boolean cancelled = mCancelled;
+			// a forced unmount with dirty pages could corrupt the files
+			if (!cancelled && mDrained) {
+				submitUnmount();
+			}
+			mListener.onSafeEjectFinished(SafeEjectTask.this);
+			if (cancelled) {
+				mOperationListener.onSafeEjectCancelled(SafeEjectTask.this);
+			} else if (!mDrained) {
+				mOperationListener.onSafeEjectNotDrained(SafeEjectTask.this);
+			}
+		}
+	};
+
+	/**
+	 * Create the task for a volume, the cache statistics are read for the
+	 * volume block device.
+	 *
+	 * @param executor          The executor used to unmount the volume.
+	 * @param mountVolume       The volume to be unmounted.
+	 * @param deadline          The maximum time to wait for the cache, in
+	 *                          milliseconds.
+	 * @param listener          The listener notified on the main thread.
+	 * @param operationListener The listener of the unmount operation, also
+	 *                          notified if the task is cancelled before the
+	 *                          unmount.
+	 */
+	public SafeEjectTask(MountOperationExecutor executor, MountVolume mountVolume,
+			long deadline, Listener listener, OperationListener operationListener) {
+		this(executor, mountVolume, null, deadline, listener, operationListener);
+	}
+
+	/**
+	 * Create the task.
+	 *
+	 * @param stats The cache statistics reader, if null the reader is
+	 *              created for the volume block device.
+	 */
+	public SafeEjectTask(MountOperationExecutor executor, MountVolume mountVolume,
+			WriteBackStats stats, long deadline, Listener listener,
+			OperationListener operationListener) {
+		this(executor, mountVolume, stats, deadline, listener, operationListener, SYNC_COMMAND);
+	}
+
+	/**
+	 * Create the task with a specific sync command, used by the tests.
+	 */
+	SafeEjectTask(MountOperationExecutor executor, MountVolume mountVolume,
+			WriteBackStats stats, long deadline, Listener listener,
+			OperationListener operationListener, String syncCommand) {
+		mExecutor = executor;
+		mSyncCommand = syncCommand;
+		mMountVolume = mountVolume;
+		mStats = stats;
+		mDeadline = deadline;
+		mListener = listener;
+		mOperationListener = operationListener;
+		mHandler = new Handler(Looper.getMainLooper());
+	}
+
+	/**
+	 * Start the task on a background thread.
+	 */
+	public void start() {
+		Thread thread = new Thread(this, "SafeEjectTask");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Cancel the task, or the unmount operation if it was already submitted.
+	 * Should be invoked on the main thread.
+	 */
+	public void cancel() {
+		mCancelled = true;
+		synchronized (mLock) {
+			mLock.notifyAll();
+		}
+		if (mOperation != null) {
+			mOperation.cancel();
+		}
+	}
+
+	/**
+	 * Submit the unmount of a task finished without the cache drained, only
+	 * when the user confirmed it. Should be invoked on the main thread.
+	 *
+	 * @return The unmount operation, or null if the task is not finished or
+	 * was cancelled.
+	 */
+	public Operation unmountNow() {
+		if (mFinished && !mCancelled && mOperation == null) {
+			submitUnmount();
+		}
+		return mOperation;
+	}
+
+	private void submitUnmount() {
+		mOperation = mExecutor.unmount(mMountVolume.getPath(), true,
+				MountOperationExecutor.DEFAULT_TIMEOUT, mOperationListener);
+	}
+
+	/**
+	 * @return True if the task finished without the cache drained and the
+	 * unmount was not submitted, waiting for the user decision.
+	 */
+	public boolean isWaitingConfirmation() {
+		return mFinished && !mDrained && !mCancelled && mOperation == null;
+	}
+
+	public MountVolume getMountVolume() {
+		return mMountVolume;
+	}
+
+	/**
+	 * @return The unmount operation, or null if it was not submitted yet.
+	 */
+	public Operation getOperation() {
+		return mOperation;
+	}
+
+	public boolean isCancelled() {
+		return mCancelled;
+	}
+
+	public boolean isFinished() {
+		return mFinished;
+	}
+
+	/**
+	 * @return True if the sync returned or the cache was written before the
+	 * deadline.
+	 */
+	public boolean isDrained() {
+		return mDrained;
+	}
+
+	/**
+	 * @return The largest amount of cached data seen, used as the progress
+	 * maximum.
+	 */
+	public long getInitialPendingBytes() {
+		return mInitialPendingBytes;
+	}
+
+	/**
+	 * @return The cached data still to be written.
+	 */
+	public long getPendingBytes() {
+		return mPendingBytes;
+	}
+
+	/**
+	 * @return The time spent waiting for the cache, in milliseconds.
+	 */
+	public long getDuration() {
+		return mDuration;
+	}
+
+	@Override
+	public String toString() {
+		return "SafeEjectTask{" +
+				"path=" + mMountVolume.getPath() +
+				", initialPending=" + mInitialPendingBytes +
+				", pending=" + mPendingBytes +
+				", syncFinished=" + mSyncFinished +
+				", drained=" + mDrained +
+				", cancelled=" + mCancelled +
+				", duration=" + mDuration +
+				", stats=" + mStats +
+				'}';
+	}
+
+	@Override
+	public void run() {
+		long start = SystemClock.elapsedRealtime();
+		long deadline = start + mDeadline;
+		try {
+			if (mStats == null) {
+				mStats = WriteBackStats.forVolume(mMountVolume.getPath());
+			}
+			startSync();
+			long now;
+			while (!mCancelled) {
+				if (mSyncFinished || (readStats() && isCacheDrained())) {
+					mDrained = true;
+					break;
+				}
+				now = SystemClock.elapsedRealtime();
+				if (now >= deadline) {
+					break;
+				}
+				postProgress(now);
+				synchronized (mLock) {
+					if (!mSyncFinished && !mCancelled) {
+						mLock.wait(Math.min(POLL_INTERVAL, deadline - now));
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Log.e(TAG, "run(" + mMountVolume.getPath() + "): " + e.getMessage(), e);
+		}
+		mDuration = SystemClock.elapsedRealtime() - start;
+		mFinished = true;
+		mHandler.removeCallbacks(mNotifyProgress);
+		mHandler.post(mNotifyFinished);
+	}
+
+	/**
+	 * Read the cache statistics.
+	 *
+	 * @return False if the statistics are not available, then only the sync
+	 * end is waited.
+	 */
+	private boolean readStats() {
+		if (mStats.read()) {
+			long pending = mStats.getPendingBytes();
+			mPendingBytes = pending;
+			if (pending > mInitialPendingBytes) {
+				mInitialPendingBytes = pending;
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private boolean isCacheDrained() {
+		return mStats.getPendingBytes() <= DRAINED_BYTES && mStats.getInFlight() == 0;
+	}
+
+	/**
+	 * Run the sync command on its own thread and wake the watcher when the
+	 * command returns. The process streams are closed and the process is
+	 * destroyed even if the wait is interrupted.
+	 */
+	private void startSync() {
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				Process process = null;
+				try {
+					process = Runtime.getRuntime().exec(mSyncCommand);
+					int exitCode = process.waitFor();
+					if (exitCode == 0) {
+						synchronized (mLock) {
+							mSyncFinished = true;
+							mLock.notifyAll();
+						}
+					}
+				} catch (IOException e) {
+					Log.e(TAG, "sync: " + e.getMessage(), e);
+				} catch (InterruptedException e) {
+					Log.e(TAG, "sync: " + e.getMessage(), e);
+				} finally {
+					if (process != null) {
+						Utils.doClose(process.getOutputStream());
+						Utils.doClose(process.getInputStream());
+						Utils.doClose(process.getErrorStream());
+						process.destroy();
+					}
+				}
+			}
+		}, "SafeEjectTask-sync");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void postProgress(long now) {
+		if (now - mLastProgress >= PROGRESS_INTERVAL) {
+			mLastProgress = now;
+			mHandler.post(mNotifyProgress);
+		}
+	}
+}
@@ -0,0 +1,333 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.task.MountOperationExecutor.Operation;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+/**
+ * Repeat the unmount of a busy volume, with an exponential backoff, until
+ * it succeeds or the time budget is spent. The delay before each attempt is
+ * doubled from {@link #INITIAL_DELAY} up to {@link #MAX_DELAY}, and a random
+ * half of it is removed, so the retries do not run at the same time as the
+ * periodic work of the process which keeps the volume busy.
+ * <p/>
+ * The binder call of an attempt which timed out can not be interrupted, so
+ * the next attempt is postponed until that call returns.
+ * <p/>
+ * The retries are scheduled on the main thread, all the methods should be
+ * invoked on the main thread.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class UnmountRetryScheduler implements MountOperationExecutor.Listener {
+	public static final long INITIAL_DELAY = 1000;
+	public static final long MAX_DELAY = 30000;
+	public static final long DEFAULT_BUDGET = 60000;
+	private static final int MAX_SHIFT = 20;
+
+	public static final int STATE_WAITING = 0;
+	public static final int STATE_RUNNING = 1;
+	public static final int STATE_SUCCESS = 2;
+	public static final int STATE_GAVE_UP = 3;
+	public static final int STATE_CANCELLED = 4;
+
+	/**
+	 * Receive the retries changes, on the main thread.
+	 */
+	public interface Listener {
+		/**
+		 * Invoked when a retry is scheduled, started, succeeded, gave up or
+		 * was cancelled. A retry which succeeded, gave up or was cancelled is
+		 * already dropped by the scheduler, this is its last change.
+		 */
+		public void onUnmountRetryChanged(Retry retry);
+	}
+
+	/**
+	 * The retries of one volume.
+	 */
+	public final class Retry {
+		private final MountVolume mMountVolume;
+		private final long mBudget;
+		private final long mStartTime;
+		private long mNextTime;
+		private int mAttempts;
+		private int mState;
+		private Operation mOperation;
+		private Operation mLateOperation;
+		private Exception mLastError;
+
+		private final Runnable mRetryTask = new Runnable() {
+			@Override
+			public void run() {
+				attempt(Retry.this);
+			}
+		};
+
+		private Retry(MountVolume mountVolume, long budget) {
+			mMountVolume = mountVolume;
+			mBudget = budget;
+			mStartTime = SystemClock.elapsedRealtime();
+		}
+
+		public MountVolume getMountVolume() {
+			return mMountVolume;
+		}
+
+		public int getState() {
+			return mState;
+		}
+
+		/**
+		 * @return The number of unmount attempts made by the scheduler.
+		 */
+		public int getAttempts() {
+			return mAttempts;
+		}
+
+		/**
+		 * @return The time until the next attempt, in milliseconds.
+		 */
+		public long getRemainingDelay() {
+			return Math.max(0, mNextTime - SystemClock.elapsedRealtime());
+		}
+
+		/**
+		 * @return The time since the first failure, in milliseconds.
+		 */
+		public long getElapsedTime() {
+			return SystemClock.elapsedRealtime() - mStartTime;
+		}
+
+		public Exception getLastError() {
+			return mLastError;
+		}
+
+		/**
+		 * @return True if the call of an attempt which timed out did not
+		 * return yet; no other attempt is started until it returns.
+		 */
+		public boolean isLateCallRunning() {
+			return mLateOperation != null && mLateOperation.getLatency() < 0;
+		}
+
+		@Override
+		public String toString() {
+			return "Retry{" +
+					"path=" + mMountVolume.getPath() +
+					", state=" + mState +
+					", attempts=" + mAttempts +
+					", elapsed=" + getElapsedTime() +
+					", budget=" + mBudget +
+					", lastError=" + mLastError +
+					'}';
+		}
+	}
+
+	private final MountOperationExecutor mExecutor;
+	private final Listener mListener;
+	private final Random mRandom;
+	private final Handler mHandler;
+	private final Map<String, Retry> mRetries = new HashMap<String, Retry>();
+	private int mSucceeded;
+	private int mGaveUp;
+
+	/**
+	 * Create the scheduler.
+	 *
+	 * @param executor The executor used for the unmount attempts.
+	 * @param listener The listener notified on the main thread.
+	 * @param random   The random generator used for the jitter.
+	 */
+	public UnmountRetryScheduler(MountOperationExecutor executor, Listener listener,
+			Random random) {
+		mExecutor = executor;
+		mListener = listener;
+		mRandom = random;
+		mHandler = new Handler(Looper.getMainLooper());
+	}
+
+	/**
+	 * Start to retry the unmount of a volume, after a failed unmount. The
+	 * previous retries of the same volume are cancelled.
+	 *
+	 * @param mountVolume The busy volume.
+	 * @param budget      The maximum time for the retries, in milliseconds.
+	 * @return The scheduled retry.
+	 */
+	public Retry schedule(MountVolume mountVolume, long budget) {
+		cancel(mountVolume.getPath());
+		Retry retry = new Retry(mountVolume, budget);
+		mRetries.put(mountVolume.getPath(), retry);
+		scheduleNext(retry);
+		return retry;
+	}
+
+	/**
+	 * Obtain the retry of a volume.
+	 *
+	 * @param path The volume path.
+	 * @return The waiting or running retry, or null.
+	 */
+	public Retry getRetry(String path) {
+		return mRetries.get(path);
+	}
+
+	/**
+	 * Stop the retries of a volume, for example when the volume was
+	 * unmounted or removed.
+	 *
+	 * @param path The volume path.
+	 */
+	public void cancel(String path) {
+		Retry retry = mRetries.remove(path);
+		if (retry != null) {
+			mHandler.removeCallbacks(retry.mRetryTask);
+			if (retry.mState == STATE_WAITING || retry.mState == STATE_RUNNING) {
+				if (retry.mOperation != null) {
+					retry.mOperation.cancel();
+				}
+				retry.mState = STATE_CANCELLED;
+				mListener.onUnmountRetryChanged(retry);
+			}
+		}
+	}
+
+	/**
+	 * Compute the delay before an attempt: the exponential backoff capped
+	 * to {@link #MAX_DELAY}, from which a random part up to the half is
+	 * removed.
+	 *
+	 * @param attempt The number of previous attempts.
+	 * @return The delay in milliseconds.
+	 */
+	public long getDelay(int attempt) {
+		long backoff = Math.min(MAX_DELAY, INITIAL_DELAY << Math.min(attempt, MAX_SHIFT));
+		long half = backoff / 2;
+		return half + (long) (mRandom.nextDouble() * half);
+	}
+
+	private void scheduleNext(Retry retry) {
+		long delay = getDelay(retry.mAttempts);
+		if (retry.getElapsedTime() + delay > retry.mBudget) {
+			giveUp(retry);
+		} else {
+			retry.mState = STATE_WAITING;
+			retry.mNextTime = SystemClock.elapsedRealtime() + delay;
+			mHandler.postDelayed(retry.mRetryTask, delay);
+			mListener.onUnmountRetryChanged(retry);
+		}
+	}
+
+	/**
+	 * Stop the retries of a volume which stays busy. The retry is dropped
+	 * and the listener is notified one last time.
+	 */
+	private void giveUp(Retry retry) {
+		mRetries.remove(retry.mMountVolume.getPath());
+		retry.mState = STATE_GAVE_UP;
+		mGaveUp++;
+		mListener.onUnmountRetryChanged(retry);
+	}
+
+	private void attempt(Retry retry) {
+		if (mRetries.get(retry.mMountVolume.getPath()) != retry) {
+			return;
+		}
+		if (retry.isLateCallRunning()) {
+			scheduleNext(retry);
+			return;
+		}
+		retry.mLateOperation = null;
+		retry.mAttempts++;
+		retry.mState = STATE_RUNNING;
+		retry.mOperation = mExecutor.unmount(retry.mMountVolume.getPath(), true,
+				MountOperationExecutor.DEFAULT_TIMEOUT, this);
+		mListener.onUnmountRetryChanged(retry);
+	}
+
+	@Override
+	public void onOperationStarted(Operation operation) {
+		// the attempt was already reported
+	}
+
+	@Override
+	public void onOperationFinished(Operation operation) {
+		Retry retry = mRetries.get(operation.getPath());
+		if (retry == null || retry.mOperation != operation) {
+			return;
+		}
+		retry.mOperation = null;
+		switch (operation.getStatus()) {
+		case MountOperationExecutor.STATUS_SUCCESS:
+			mRetries.remove(operation.getPath());
+			retry.mState = STATE_SUCCESS;
+			mSucceeded++;
+			mListener.onUnmountRetryChanged(retry);
+			break;
+		case MountOperationExecutor.STATUS_ERROR:
+			retry.mLastError = operation.getError();
+			if (isSecurityException(retry.mLastError)) {
+				// not a busy volume, it will never succeed
+				giveUp(retry);
+			} else {
+				scheduleNext(retry);
+			}
+			break;
+		case MountOperationExecutor.STATUS_TIMEOUT:
+			retry.mLateOperation = operation;
+			scheduleNext(retry);
+			break;
+		case MountOperationExecutor.STATUS_CANCELLED:
+			// the executor was closed
+			mRetries.remove(operation.getPath());
+			retry.mState = STATE_CANCELLED;
+			mListener.onUnmountRetryChanged(retry);
+			break;
+		}
+	}
+
+	private static boolean isSecurityException(Throwable error) {
+		while (error != null) {
+			if (error instanceof SecurityException) {
+				return true;
+			}
+			error = error.getCause();
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "UnmountRetryScheduler{" +
+				"retries=" + mRetries.values() +
+				", succeeded=" + mSucceeded +
+				", gaveUp=" + mGaveUp +
+				'}';
+	}
+}
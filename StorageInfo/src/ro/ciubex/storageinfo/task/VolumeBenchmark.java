@@ -0,0 +1,404 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+import ro.ciubex.storageinfo.util.Utils;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.StatFs;
+import android.util.Log;
+
+/**
+ * Measure the sequential and the random 4K read and write speed of a volume,
+ * on a temporary file which is always deleted. The page cache is bypassed as
+ * far as possible: the writes are forced to the device and, from Android 5.0,
+ * the file pages are dropped from the cache before each read test.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class VolumeBenchmark implements Runnable {
+	private static final String TAG = VolumeBenchmark.class.getName();
+	public static final String BENCHMARK_FOLDER_NAME = ".StorageInfoBenchmark";
+	public static final String BENCHMARK_FILE_NAME = "benchmark.tmp";
+
+	public static final int TEST_SEQUENTIAL_WRITE = 0;
+	public static final int TEST_SEQUENTIAL_READ = 1;
+	public static final int TEST_RANDOM_WRITE = 2;
+	public static final int TEST_RANDOM_READ = 3;
+	public static final int TESTS = 4;
+
+	public static final int PERCENTILE_50 = 0;
+	public static final int PERCENTILE_90 = 1;
+	public static final int PERCENTILE_99 = 2;
+	public static final int PERCENTILE_MAX = 3;
+	private static final int[] PERCENTILES = {50, 90, 99, 100};
+
+	public static final long DEFAULT_FILE_SIZE = 32 * 1024 * 1024;
+	public static final int SEQUENTIAL_BLOCK_SIZE = 1024 * 1024;
+	public static final int RANDOM_BLOCK_SIZE = 4096;
+	public static final int MAX_RANDOM_OPERATIONS = 4096;
+	public static final long MAX_RANDOM_NANOS = 5000000000L;
+
+	/**
+	 * Receive the benchmark progress, on the main thread.
+	 */
+	public interface Listener {
+		/**
+		 * Invoked when a test is started.
+		 */
+		public void onBenchmarkProgress(VolumeBenchmark benchmark);
+
+		/**
+		 * Invoked once, when the benchmark is finished, failed or cancelled.
+		 */
+		public void onBenchmarkFinished(VolumeBenchmark benchmark);
+	}
+
+	private final File mRoot;
+	private final long mFileSize;
+	private final Listener mListener;
+	private final Handler mHandler;
+	private volatile boolean mCancelled;
+	private volatile boolean mFinished;
+	private volatile int mTest = -1;
+	private volatile String mError;
+	private boolean mCacheDropped;
+
+	private final long[] mBytes = new long[TESTS];
+	private final long[] mOperations = new long[TESTS];
+	private final long[] mNanos = new long[TESTS];
+	private final long[][] mPercentiles = new long[TESTS][PERCENTILES.length];
+
+	private final Runnable mNotifyProgress = new Runnable() {
+		@Override
+		public void run() {
+			if (!mFinished) {
+				mListener.onBenchmarkProgress(VolumeBenchmark.this);
+			}
+		}
+	};
+
+	private final Runnable mNotifyFinished = new Runnable() {
+		@Override
+		public void run() {
+			mListener.onBenchmarkFinished(VolumeBenchmark.this);
+		}
+	};
+
+	/**
+	 * Create a benchmark.
+	 *
+	 * @param root     The mounted volume path.
+	 * @param fileSize The test file size.
+	 * @param listener The listener notified on the main thread.
+	 */
+	public VolumeBenchmark(File root, long fileSize, Listener listener) {
+		mRoot = root;
+		mFileSize = fileSize - fileSize % SEQUENTIAL_BLOCK_SIZE;
+		mListener = listener;
+		mHandler = new Handler(Looper.getMainLooper());
+	}
+
+	/**
+	 * Start the benchmark on a background thread.
+	 */
+	public void start() {
+		Thread thread = new Thread(this, "VolumeBenchmark");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stop the benchmark, for example when the volume is unmounted.
+	 */
+	public void cancel() {
+		mCancelled = true;
+	}
+
+	public boolean isCancelled() {
+		return mCancelled;
+	}
+
+	public boolean isFinished() {
+		return mFinished;
+	}
+
+	public File getRoot() {
+		return mRoot;
+	}
+
+	/**
+	 * Returns the running test, or -1 before the first test.
+	 */
+	public int getTest() {
+		return mTest;
+	}
+
+	/**
+	 * Returns the failure reason, or null if the benchmark did not fail.
+	 */
+	public String getError() {
+		return mError;
+	}
+
+	/**
+	 * Check if the file pages could be dropped from the page cache before
+	 * the read tests.
+	 */
+	public boolean isCacheDropped() {
+		return mCacheDropped;
+	}
+
+	/**
+	 * Returns the throughput of a test.
+	 *
+	 * @param test The test.
+	 * @return The throughput in MB/s.
+	 */
+	public double getThroughput(int test) {
+		if (mNanos[test] == 0) {
+			return 0;
+		}
+		return mBytes[test] * 1000000000.0 / mNanos[test] / (1024 * 1024);
+	}
+
+	/**
+	 * Returns the number of operations per second of a test.
+	 */
+	public long getIops(int test) {
+		if (mNanos[test] == 0) {
+			return 0;
+		}
+		return mOperations[test] * 1000000000L / mNanos[test];
+	}
+
+	/**
+	 * Returns a latency percentile of a test.
+	 *
+	 * @param test       The test.
+	 * @param percentile {@link #PERCENTILE_50}, {@link #PERCENTILE_90},
+	 *                   {@link #PERCENTILE_99} or {@link #PERCENTILE_MAX}.
+	 * @return The operation latency in microseconds.
+	 */
+	public long getLatency(int test, int percentile) {
+		return mPercentiles[test][percentile] / 1000;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder("VolumeBenchmark{");
+		text.append("root=").append(mRoot);
+		text.append(", fileSize=").append(mFileSize);
+		text.append(", cacheDropped=").append(mCacheDropped);
+		String[] names = {"seqWrite", "seqRead", "rnd4kWrite", "rnd4kRead"};
+		for (int test = 0; test < TESTS; test++) {
+			text.append(", ").append(names[test]).append("={");
+			text.append(String.format("%.2f", getThroughput(test))).append(" MB/s, ");
+			text.append(getIops(test)).append(" IOPS, latency us p50=");
+			text.append(getLatency(test, PERCENTILE_50)).append(" p90=");
+			text.append(getLatency(test, PERCENTILE_90)).append(" p99=");
+			text.append(getLatency(test, PERCENTILE_99)).append(" max=");
+			text.append(getLatency(test, PERCENTILE_MAX)).append('}');
+		}
+		text.append(", error=").append(mError);
+		text.append(", cancelled=").append(mCancelled);
+		return text.append('}').toString();
+	}
+
+	@Override
+	public void run() {
+		File folder = new File(mRoot, BENCHMARK_FOLDER_NAME);
+		File file = new File(folder, BENCHMARK_FILE_NAME);
+		RandomAccessFile randomAccessFile = null;
+		try {
+			// a previous run could be killed before the cleanup
+			file.delete();
+			checkFreeSpace();
+			if (!folder.exists() && !folder.mkdirs()) {
+				throw new IOException("Could not create " + folder);
+			}
+			randomAccessFile = new RandomAccessFile(file, "rw");
+			FileChannel channel = randomAccessFile.getChannel();
+			FileDescriptor fd = randomAccessFile.getFD();
+			ByteBuffer sequential = ByteBuffer.allocateDirect(SEQUENTIAL_BLOCK_SIZE);
+			ByteBuffer random = ByteBuffer.allocateDirect(RANDOM_BLOCK_SIZE);
+			fillRandom(sequential);
+			fillRandom(random);
+			Random offsets = new Random();
+
+			startTest(TEST_SEQUENTIAL_WRITE);
+			runSequential(channel, sequential, true);
+			startTest(TEST_SEQUENTIAL_READ);
+			mCacheDropped = dropCache(fd);
+			runSequential(channel, sequential, false);
+			startTest(TEST_RANDOM_WRITE);
+			runRandom(channel, random, offsets, true);
+			startTest(TEST_RANDOM_READ);
+			dropCache(fd);
+			runRandom(channel, random, offsets, false);
+		} catch (Exception e) {
+			Log.e(TAG, "run(" + mRoot + "): " + e.getMessage(), e);
+			mError = e.getMessage();
+		} finally {
+			Utils.doClose(randomAccessFile);
+			file.delete();
+			folder.delete();
+		}
+		mFinished = true;
+		mHandler.post(mNotifyFinished);
+	}
+
+	private void startTest(int test) throws IOException {
+		if (mCancelled) {
+			throw new IOException("Cancelled");
+		}
+		mTest = test;
+		mHandler.post(mNotifyProgress);
+	}
+
+	private void checkFreeSpace() throws IOException {
+		StatFs statFs = new StatFs(mRoot.getPath());
+		long available = (long) statFs.getBlockSize() * statFs.getAvailableBlocks();
+		if (available < mFileSize * 2) {
+			throw new IOException("Not enough free space: " + available);
+		}
+	}
+
+	private static void fillRandom(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.capacity()];
+		new Random().nextBytes(bytes);
+		buffer.clear();
+		buffer.put(bytes);
+	}
+
+	/**
+	 * Write or read the whole file, with large blocks. The written data is
+	 * forced to the device before the time is measured.
+	 */
+	private void runSequential(FileChannel channel, ByteBuffer buffer, boolean write) throws IOException {
+		int blocks = (int) (mFileSize / SEQUENTIAL_BLOCK_SIZE);
+		int test = write ? TEST_SEQUENTIAL_WRITE : TEST_SEQUENTIAL_READ;
+		long[] latencies = new long[blocks];
+		long start = System.nanoTime(), operation;
+		for (int block = 0; block < blocks; block++) {
+			if (mCancelled) {
+				throw new IOException("Cancelled");
+			}
+			operation = System.nanoTime();
+			transfer(channel, buffer, (long) block * SEQUENTIAL_BLOCK_SIZE, write);
+			latencies[block] = System.nanoTime() - operation;
+		}
+		if (write) {
+			channel.force(true);
+		}
+		finishTest(test, System.nanoTime() - start, mFileSize, blocks, latencies, blocks);
+	}
+
+	/**
+	 * Write or read 4K blocks at random aligned offsets, until
+	 * {@link #MAX_RANDOM_OPERATIONS} or {@link #MAX_RANDOM_NANOS}. Each write
+	 * is forced to the device, so the latency is the device latency.
+	 */
+	private void runRandom(FileChannel channel, ByteBuffer buffer, Random offsets,
+			boolean write) throws IOException {
+		int blocks = (int) (mFileSize / RANDOM_BLOCK_SIZE);
+		int test = write ? TEST_RANDOM_WRITE : TEST_RANDOM_READ;
+		long[] latencies = new long[MAX_RANDOM_OPERATIONS];
+		int operations = 0;
+		long start = System.nanoTime(), operation, now = start;
+		while (operations < MAX_RANDOM_OPERATIONS && now - start < MAX_RANDOM_NANOS) {
+			if (mCancelled) {
+				throw new IOException("Cancelled");
+			}
+			operation = now;
+			transfer(channel, buffer, (long) offsets.nextInt(blocks) * RANDOM_BLOCK_SIZE, write);
+			if (write) {
+				channel.force(false);
+			}
+			now = System.nanoTime();
+			latencies[operations++] = now - operation;
+		}
+		finishTest(test, now - start, (long) operations * RANDOM_BLOCK_SIZE, operations,
+				latencies, operations);
+	}
+
+	private static void transfer(FileChannel channel, ByteBuffer buffer, long position,
+			boolean write) throws IOException {
+		buffer.clear();
+		int count;
+		while (buffer.hasRemaining()) {
+			count = write ? channel.write(buffer, position + buffer.position())
+					: channel.read(buffer, position + buffer.position());
+			if (count < 0) {
+				throw new IOException("Unexpected end of file at " + position);
+			}
+		}
+	}
+
+	private void finishTest(int test, long nanos, long bytes, long operations,
+			long[] latencies, int count) {
+		mNanos[test] = nanos;
+		mBytes[test] = bytes;
+		mOperations[test] = operations;
+		if (count > 0) {
+			Arrays.sort(latencies, 0, count);
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				int index = (int) Math.ceil(PERCENTILES[i] / 100.0 * count) - 1;
+				mPercentiles[test][i] = latencies[Math.max(0, index)];
+			}
+		}
+	}
+
+	/**
+	 * Drop the file pages from the page cache, with posix_fadvise() which is
+	 * available to the applications from Android 5.0, by reflection because
+	 * the compile SDK is older.
+	 *
+	 * @return True if the pages were dropped.
+	 */
+	private static boolean dropCache(FileDescriptor fd) {
+		if (Build.VERSION.SDK_INT < 21) {
+			return false;
+		}
+		try {
+			Class<?> osClass = Class.forName("android.system.Os");
+			int dontNeed = Class.forName("android.system.OsConstants")
+					.getField("POSIX_FADV_DONTNEED").getInt(null);
+			Method fadvise = osClass.getMethod("posix_fadvise", FileDescriptor.class,
+					long.class, long.class, int.class);
+			fadvise.invoke(null, fd, 0L, 0L, dontNeed);
+			return true;
+		} catch (Exception e) {
+			Log.e(TAG, "dropCache: " + e.getMessage(), e);
+		}
+		return false;
+	}
+}
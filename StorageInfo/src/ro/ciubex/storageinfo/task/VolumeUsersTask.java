@@ -0,0 +1,90 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import java.util.List;
+
+import ro.ciubex.storageinfo.model.VolumeUser;
+import ro.ciubex.storageinfo.util.Utils.MountService;
+import ro.ciubex.storageinfo.util.VolumeUsersScanner;
+import android.os.AsyncTask;
+import android.util.Log;
+
+/**
+ * An asynchronous task used to find the processes which are using a volume,
+ * after the volume could not be unmounted.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class VolumeUsersTask extends AsyncTask<Void, Void, List<VolumeUser>> {
+	private static final String TAG = VolumeUsersTask.class.getName();
+	public static final long SCAN_BUDGET = 1500;
+
+	public interface Listener {
+		public void onVolumeUsersFound(VolumeUsersScanner scanner, List<VolumeUser> users);
+	}
+
+	private final Object mMountService;
+	private final String mPath;
+	private final Listener mListener;
+	private VolumeUsersScanner mScanner;
+
+	/**
+	 * Create the task.
+	 *
+	 * @param mountService The mount service, asked for the volume users. Can
+	 *                     be null.
+	 * @param path         The volume path.
+	 * @param listener     The listener notified on the UI thread.
+	 */
+	public VolumeUsersTask(Object mountService, String path, Listener listener) {
+		mMountService = mountService;
+		mPath = path;
+		mListener = listener;
+	}
+
+	/**
+	 * Method invoked on the background thread.
+	 */
+	@Override
+	protected List<VolumeUser> doInBackground(Void... params) {
+		int[] knownPids = null;
+		if (mMountService != null) {
+			try {
+				knownPids = MountService.getStorageUsers(mMountService, mPath);
+			} catch (Exception e) {
+				Log.e(TAG, "getStorageUsers(" + mPath + "): " + e.getMessage(), e);
+			}
+		}
+		mScanner = new VolumeUsersScanner(mPath);
+		List<VolumeUser> users = mScanner.scan(SCAN_BUDGET, 4, knownPids);
+		Log.d(TAG, mScanner.toString());
+		return users;
+	}
+
+	/**
+	 * Method invoked on the UI thread after the background computation
+	 * finishes.
+	 */
+	@Override
+	protected void onPostExecute(List<VolumeUser> result) {
+		super.onPostExecute(result);
+		mListener.onVolumeUsersFound(mScanner, result);
+	}
+}
@@ -0,0 +1,451 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.util.Log;
+
+/**
+ * Reader for the binary devices database asset generated at build time from
+ * the Google Play supported devices list (see the generateDevicesDatabase
+ * task from build.gradle).
+ * <p/>
+ * The asset is memory-mapped when it is stored uncompressed into the APK, then
+ * only the pages touched by the lookups are loaded. Otherwise the whole asset
+ * is read into a byte array, about 298 KB for 7,042 devices, which stays on
+ * the heap until the database is closed; see {@link #isMapped()}.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DevicesDatabase implements Closeable {
+	private static final String TAG = DevicesDatabase.class.getName();
+	public static final String ASSET_NAME = "devices.db";
+	private static final int MAGIC = 0x53494456;
+	private static final int VERSION = 2;
+	private static final int RECORD_SIZE = 16;
+	private static final int BUFFER = 8192;
+
+	private AssetFileDescriptor mAssetFileDescriptor;
+	private FileInputStream mInputStream;
+	private ByteBuffer mBuffer;
+	private int mRecordCount;
+	private int mDeviceModelKeys;
+	private int mDeviceModelBuckets;
+	private int mDeviceKeys;
+	private int mDeviceBuckets;
+	private int mBrandsOffset;
+	private int mRecordsOffset;
+	private int mDeviceModelOffset;
+	private int mDeviceOffset;
+	private int mDeviceValuesOffset;
+	private int mStringsOffset;
+
+	/**
+	 * Create a devices database reader over a buffer with the database content.
+	 *
+	 * @param buffer The database content.
+	 * @throws IOException If the buffer does not contain a valid database.
+	 */
+	DevicesDatabase(ByteBuffer buffer) throws IOException {
+		mBuffer = buffer;
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IOException("Invalid devices database");
+		}
+		mRecordCount = buffer.getInt(8);
+		mDeviceModelKeys = buffer.getInt(16);
+		mDeviceModelBuckets = buffer.getInt(20);
+		mDeviceKeys = buffer.getInt(24);
+		mDeviceBuckets = buffer.getInt(28);
+		mBrandsOffset = buffer.getInt(32);
+		mRecordsOffset = buffer.getInt(36);
+		mDeviceModelOffset = buffer.getInt(40);
+		mDeviceOffset = buffer.getInt(44);
+		mDeviceValuesOffset = buffer.getInt(48);
+		mStringsOffset = buffer.getInt(52);
+	}
+
+	/**
+	 * Open the devices database from the application assets.
+	 *
+	 * @param context The application context.
+	 * @return The opened devices database, which should be closed after use.
+	 * @throws IOException If the database could not be opened.
+	 */
+	public static DevicesDatabase open(Context context) throws IOException {
+		AssetFileDescriptor afd = null;
+		try {
+			afd = context.getAssets().openFd(ASSET_NAME);
+		} catch (FileNotFoundException e) {
+			// the asset is compressed, is not possible to map it
+			Log.w(TAG, "Devices database is compressed: " + e.getMessage());
+		}
+		if (afd != null) {
+			FileInputStream input = null;
+			try {
+				input = afd.createInputStream();
+				FileChannel channel = input.getChannel();
+				ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+						afd.getStartOffset(), afd.getLength());
+				DevicesDatabase database = new DevicesDatabase(buffer);
+				database.mAssetFileDescriptor = afd;
+				database.mInputStream = input;
+				return database;
+			} catch (IOException e) {
+				Utils.doClose(input);
+				close(afd);
+				throw e;
+			}
+		}
+		return new DevicesDatabase(ByteBuffer.wrap(readAsset(context)));
+	}
+
+	/**
+	 * Read the whole database asset into a byte array.
+	 *
+	 * @param context The application context.
+	 * @return The database content.
+	 * @throws IOException If the asset could not be read.
+	 */
+	private static byte[] readAsset(Context context) throws IOException {
+		InputStream input = null;
+		try {
+			input = context.getAssets().open(ASSET_NAME);
+			ByteArrayOutputStream output = new ByteArrayOutputStream(input.available());
+			byte[] buffer = new byte[BUFFER];
+			int count;
+			while ((count = input.read(buffer)) != -1) {
+				output.write(buffer, 0, count);
+			}
+			return output.toByteArray();
+		} finally {
+			Utils.doClose(input);
+		}
+	}
+
+	/**
+	 * Check if the database is memory-mapped, or if it was read on the heap.
+	 *
+	 * @return True if the asset is memory-mapped.
+	 */
+	public boolean isMapped() {
+		return mAssetFileDescriptor != null;
+	}
+
+	/**
+	 * Release the database content.
+	 */
+	@Override
+	public void close() {
+		mBuffer = null;
+		Utils.doClose(mInputStream);
+		close(mAssetFileDescriptor);
+		mInputStream = null;
+		mAssetFileDescriptor = null;
+	}
+
+	/**
+	 * Close an asset file descriptor; is not a Closeable before KitKat.
+	 *
+	 * @param afd The asset file descriptor to close.
+	 */
+	private static void close(AssetFileDescriptor afd) {
+		if (afd != null) {
+			try {
+				afd.close();
+			} catch (IOException e) {
+				Log.e(TAG, "close Exception: " + e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Obtain the number of devices stored on this database.
+	 *
+	 * @return The number of devices.
+	 */
+	public int getRecordCount() {
+		return mRecordCount;
+	}
+
+	/**
+	 * Find the retail branding and the marketing name of a device, based on
+	 * the values of {@link android.os.Build#DEVICE} and
+	 * {@link android.os.Build#MODEL}.
+	 *
+	 * @param device The device codename.
+	 * @param model  The device model.
+	 * @return An array with the retail branding and the marketing name, or null
+	 * if the device is not found.
+	 */
+	public String[] findByDeviceModel(String device, String model) {
+		int record = findRecordByDeviceModel(device, model);
+		return record != -1 ? getNames(mRecordsOffset + record * RECORD_SIZE) : null;
+	}
+
+	/**
+	 * Find the retail branding and the marketing name of a device, based on
+	 * the value of {@link android.os.Build#DEVICE}.
+	 *
+	 * @param device The device codename.
+	 * @return An array with the retail branding and the marketing name, or null
+	 * if the device is not found.
+	 */
+	public String[] findByDevice(String device) {
+		int record = findRecordByDevice(device);
+		return record != -1 ? getNames(mRecordsOffset + record * RECORD_SIZE) : null;
+	}
+
+	/**
+	 * Find the index of a device record, based on the values of
+	 * {@link android.os.Build#DEVICE} and {@link android.os.Build#MODEL}.
+	 * No object is allocated by this lookup.
+	 *
+	 * @param device The device codename.
+	 * @param model  The device model.
+	 * @return The record index, or -1 if the device is not found.
+	 */
+	public int findRecordByDeviceModel(String device, String model) {
+		if (device == null || model == null || mDeviceModelKeys == 0) {
+			return -1;
+		}
+		int slot = getSlot(mDeviceModelOffset, mDeviceModelBuckets,
+				mDeviceModelKeys, device, model);
+		// the records are ordered by the device/model slot
+		int recordOffset = mRecordsOffset + slot * RECORD_SIZE;
+		if (equalsString(mBuffer.getInt(recordOffset + 8), device)
+				&& equalsString(mBuffer.getInt(recordOffset + 12), model)) {
+			return slot;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the index of a device record, based on the value of
+	 * {@link android.os.Build#DEVICE}. No object is allocated by this lookup.
+	 *
+	 * @param device The device codename.
+	 * @return The record index, or -1 if the device is not found.
+	 */
+	public int findRecordByDevice(String device) {
+		if (device == null || mDeviceKeys == 0) {
+			return -1;
+		}
+		int slot = getSlot(mDeviceOffset, mDeviceBuckets, mDeviceKeys, device, null);
+		int record = mBuffer.getInt(mDeviceValuesOffset + slot * 4);
+		int recordOffset = mRecordsOffset + record * RECORD_SIZE;
+		if (equalsString(mBuffer.getInt(recordOffset + 8), device)) {
+			return record;
+		}
+		return -1;
+	}
+
+	/**
+	 * Append the retail branding of a device record to a buffer.
+	 *
+	 * @param record  The record index.
+	 * @param builder The buffer where the retail branding is appended.
+	 */
+	public void appendRetailBranding(int record, StringBuilder builder) {
+		int brandIndex = mBuffer.getInt(mRecordsOffset + record * RECORD_SIZE);
+		appendString(mBuffer.getInt(mBrandsOffset + brandIndex * 4), builder);
+	}
+
+	/**
+	 * Append the marketing name of a device record to a buffer.
+	 *
+	 * @param record  The record index.
+	 * @param builder The buffer where the marketing name is appended.
+	 */
+	public void appendMarketingName(int record, StringBuilder builder) {
+		appendString(mBuffer.getInt(mRecordsOffset + record * RECORD_SIZE + 4), builder);
+	}
+
+	/**
+	 * Compute the minimal perfect hash slot of a key. The result is a valid
+	 * slot for any key, the caller should check if the key is found there.
+	 *
+	 * @param displacementsOffset The offset of the hash displacements.
+	 * @param buckets             The number of buckets.
+	 * @param keys                The number of keys, which is also the number of slots.
+	 * @param first               The first part of the key.
+	 * @param second              The second part of the key, or null.
+	 * @return The key slot.
+	 */
+	private int getSlot(int displacementsOffset, int buckets, int keys,
+			String first, String second) {
+		int bucket = hash(0, first, second) % buckets;
+		int displacement = mBuffer.getInt(displacementsOffset + bucket * 4);
+		if (displacement < 0) {
+			return -displacement - 1;
+		}
+		return hash(displacement, first, second) % keys;
+	}
+
+	/**
+	 * Read a device record.
+	 *
+	 * @param index The record index, from 0 to {@link #getRecordCount()} - 1.
+	 * @return An array with the retail branding, the marketing name, the
+	 * device codename and the model.
+	 */
+	public String[] getRecord(int index) {
+		int recordOffset = mRecordsOffset + index * RECORD_SIZE;
+		String[] names = getNames(recordOffset);
+		return new String[]{names[0], names[1],
+				readString(mBuffer.getInt(recordOffset + 8)),
+				readString(mBuffer.getInt(recordOffset + 12))};
+	}
+
+	/**
+	 * Read the retail branding and the marketing name of a record.
+	 *
+	 * @param recordOffset The record offset.
+	 * @return An array with the retail branding and the marketing name.
+	 */
+	private String[] getNames(int recordOffset) {
+		int brandIndex = mBuffer.getInt(recordOffset);
+		int brand = mBuffer.getInt(mBrandsOffset + brandIndex * 4);
+		return new String[]{readString(brand),
+				readString(mBuffer.getInt(recordOffset + 4))};
+	}
+
+	/**
+	 * Read a string from the strings area.
+	 *
+	 * @param offset The string offset, relative to the strings area.
+	 * @return The decoded string.
+	 */
+	private String readString(int offset) {
+		StringBuilder builder = new StringBuilder(
+				mBuffer.getShort(mStringsOffset + offset) & 0xFFFF);
+		appendString(offset, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Decode a stored string into a buffer.
+	 *
+	 * @param offset  The string offset, relative to the strings area.
+	 * @param builder The buffer where the string is appended.
+	 */
+	private void appendString(int offset, StringBuilder builder) {
+		int position = mStringsOffset + offset;
+		int end = position + 2 + (mBuffer.getShort(position) & 0xFFFF);
+		position += 2;
+		while (position < end) {
+			builder.appendCodePoint(decodeCodePoint(position));
+			position += getSequenceLength(mBuffer.get(position) & 0xFF);
+		}
+	}
+
+	/**
+	 * Compare a stored string with another string, without decoding it.
+	 *
+	 * @param offset The stored string offset, relative to the strings area.
+	 * @param value  The string to compare.
+	 * @return True if the strings are equal.
+	 */
+	private boolean equalsString(int offset, String value) {
+		int position = mStringsOffset + offset;
+		int end = position + 2 + (mBuffer.getShort(position) & 0xFFFF);
+		int length = value.length();
+		int index = 0;
+		int codePoint;
+		position += 2;
+		while (position < end) {
+			codePoint = decodeCodePoint(position);
+			if (index >= length || value.codePointAt(index) != codePoint) {
+				return false;
+			}
+			index += Character.charCount(codePoint);
+			position += getSequenceLength(mBuffer.get(position) & 0xFF);
+		}
+		return index == length;
+	}
+
+	/**
+	 * Decode the UTF-8 sequence from a position.
+	 *
+	 * @param position The absolute position of the sequence.
+	 * @return The decoded code point.
+	 */
+	private int decodeCodePoint(int position) {
+		int first = mBuffer.get(position) & 0xFF;
+		switch (getSequenceLength(first)) {
+			case 1:
+				return first;
+			case 2:
+				return ((first & 0x1F) << 6) | (mBuffer.get(position + 1) & 0x3F);
+			case 3:
+				return ((first & 0x0F) << 12) | ((mBuffer.get(position + 1) & 0x3F) << 6)
+						| (mBuffer.get(position + 2) & 0x3F);
+			default:
+				return ((first & 0x07) << 18) | ((mBuffer.get(position + 1) & 0x3F) << 12)
+						| ((mBuffer.get(position + 2) & 0x3F) << 6)
+						| (mBuffer.get(position + 3) & 0x3F);
+		}
+	}
+
+	private static int getSequenceLength(int first) {
+		if (first < 0x80) {
+			return 1;
+		} else if (first < 0xE0) {
+			return 2;
+		} else if (first < 0xF0) {
+			return 3;
+		}
+		return 4;
+	}
+
+	/**
+	 * Compute the FNV-1a hash of a key, using a seed. The same function is used
+	 * by the database generator.
+	 *
+	 * @param seed   The hash seed.
+	 * @param first  The first part of the key.
+	 * @param second The second part of the key, or null. The two parts are
+	 *               hashed as they were separated by a vertical line.
+	 * @return A positive hash value.
+	 */
+	static int hash(int seed, String first, String second) {
+		int h = seed ^ 0x811C9DC5;
+		int i, length = first.length();
+		for (i = 0; i < length; i++) {
+			h = (h ^ first.charAt(i)) * 0x01000193;
+		}
+		if (second != null) {
+			h = (h ^ '|') * 0x01000193;
+			length = second.length();
+			for (i = 0; i < length; i++) {
+				h = (h ^ second.charAt(i)) * 0x01000193;
+			}
+		}
+		return h & 0x7FFFFFFF;
+	}
+}
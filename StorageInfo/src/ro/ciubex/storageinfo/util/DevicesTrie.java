@@ -0,0 +1,277 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A case insensitive trie over the device codenames and models from the
+ * devices database, used to resolve partial or misspelled names.
+ * <p/>
+ * The trie is stored on primitive arrays: the children of a node are
+ * contiguous and sorted by their character, so a child is found with a
+ * binary search.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DevicesTrie {
+	private static final int ROOT = 0;
+
+	private char[] mLabels;
+	private int[] mFirstChild;
+	private int[] mChildCount;
+	private int[] mValuesStart;
+	private int[] mValuesCount;
+	private int[] mValues;
+	private String[] mNames;
+
+	private DevicesTrie() {
+	}
+
+	/**
+	 * Temporary node used only while the trie is built.
+	 */
+	private static class Node {
+		char label;
+		Map<Character, Node> children;
+		List<Integer> values;
+	}
+
+	/**
+	 * Build the trie with all the devices from a devices database.
+	 *
+	 * @param database An opened devices database.
+	 * @return The built trie, which is independent of the database.
+	 */
+	public static DevicesTrie build(DevicesDatabase database) {
+		int count = database.getRecordCount();
+		DevicesTrie trie = new DevicesTrie();
+		trie.mNames = new String[count];
+		Map<String, String> names = new HashMap<String, String>();
+		Node root = new Node();
+		int nodeCount = 1;
+		int valueCount = 0;
+		String[] record;
+		String name;
+		for (int i = 0; i < count; i++) {
+			record = database.getRecord(i);
+			name = record[0] + "|" + record[1];
+			if (names.containsKey(name)) {
+				name = names.get(name);
+			} else {
+				names.put(name, name);
+			}
+			trie.mNames[i] = name;
+			for (int k = 2; k < 4; k++) {
+				Node node = root;
+				String key = record[k].toLowerCase(Locale.ENGLISH);
+				for (int j = 0; j < key.length(); j++) {
+					char c = key.charAt(j);
+					if (node.children == null) {
+						node.children = new HashMap<Character, Node>();
+					}
+					Node child = node.children.get(c);
+					if (child == null) {
+						child = new Node();
+						child.label = c;
+						node.children.put(c, child);
+						nodeCount++;
+					}
+					node = child;
+				}
+				if (node.values == null) {
+					node.values = new ArrayList<Integer>(1);
+				}
+				if (!node.values.contains(i)) {
+					node.values.add(i);
+					valueCount++;
+				}
+			}
+		}
+		trie.flatten(root, nodeCount, valueCount);
+		return trie;
+	}
+
+	/**
+	 * Store the temporary nodes on the primitive arrays, in breadth-first
+	 * order so that the children of each node are contiguous.
+	 */
+	private void flatten(Node root, int nodeCount, int valueCount) {
+		mLabels = new char[nodeCount];
+		mFirstChild = new int[nodeCount];
+		mChildCount = new int[nodeCount];
+		mValuesStart = new int[nodeCount];
+		mValuesCount = new int[nodeCount];
+		mValues = new int[valueCount];
+		Node[] queue = new Node[nodeCount];
+		queue[0] = root;
+		int tail = 1;
+		int values = 0;
+		for (int head = 0; head < tail; head++) {
+			Node node = queue[head];
+			mLabels[head] = node.label;
+			if (node.values != null) {
+				mValuesStart[head] = values;
+				mValuesCount[head] = node.values.size();
+				for (Integer value : node.values) {
+					mValues[values++] = value;
+				}
+			}
+			if (node.children != null) {
+				Character[] keys = node.children.keySet().toArray(
+						new Character[node.children.size()]);
+				Arrays.sort(keys);
+				mFirstChild[head] = tail;
+				mChildCount[head] = keys.length;
+				for (Character key : keys) {
+					queue[tail++] = node.children.get(key);
+				}
+			}
+			queue[head] = null;
+		}
+	}
+
+	/**
+	 * Find the child of a node with the specified character.
+	 *
+	 * @return The child node, or -1 if not found.
+	 */
+	private int findChild(int node, char c) {
+		int low = mFirstChild[node];
+		int high = low + mChildCount[node] - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			char label = mLabels[middle];
+			if (label < c) {
+				low = middle + 1;
+			} else if (label > c) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find all devices with a codename or a model starting with a prefix.
+	 *
+	 * @param prefix The codename or model prefix, case insensitive.
+	 * @return A list of distinct "Retail Branding|Marketing Name" pairs.
+	 */
+	public List<String> findByPrefix(String prefix) {
+		Set<String> result = new LinkedHashSet<String>();
+		String key = prefix.toLowerCase(Locale.ENGLISH);
+		int node = ROOT;
+		for (int i = 0; i < key.length() && node != -1; i++) {
+			node = findChild(node, key.charAt(i));
+		}
+		if (node != -1) {
+			int[] stack = new int[64];
+			int size = 0;
+			stack[size++] = node;
+			while (size > 0) {
+				node = stack[--size];
+				addValues(node, result);
+				if (size + mChildCount[node] > stack.length) {
+					stack = Arrays.copyOf(stack, Math.max(stack.length * 2,
+							size + mChildCount[node]));
+				}
+				// push in reverse order to visit the children sorted
+				for (int child = mFirstChild[node] + mChildCount[node] - 1;
+					 child >= mFirstChild[node]; child--) {
+					stack[size++] = child;
+				}
+			}
+		}
+		return new ArrayList<String>(result);
+	}
+
+	/**
+	 * Find all devices with a codename or a model within an edit distance
+	 * (Levenshtein) from a query.
+	 *
+	 * @param query       The codename or model, case insensitive.
+	 * @param maxDistance The maximum number of inserted, deleted or replaced
+	 *                    characters.
+	 * @return A list of distinct "Retail Branding|Marketing Name" pairs.
+	 */
+	public List<String> findSimilar(String query, int maxDistance) {
+		Set<String> result = new LinkedHashSet<String>();
+		String key = query.toLowerCase(Locale.ENGLISH);
+		int[] firstRow = new int[key.length() + 1];
+		for (int i = 0; i < firstRow.length; i++) {
+			firstRow[i] = i;
+		}
+		if (firstRow[key.length()] <= maxDistance) {
+			addValues(ROOT, result);
+		}
+		int first = mFirstChild[ROOT];
+		for (int child = first; child < first + mChildCount[ROOT]; child++) {
+			findSimilar(child, key, firstRow, maxDistance, result);
+		}
+		return new ArrayList<String>(result);
+	}
+
+	/**
+	 * Compute the next row of the edit distance matrix for a node and
+	 * descend while the distance could still be under the maximum.
+	 */
+	private void findSimilar(int node, String key, int[] previousRow,
+			int maxDistance, Set<String> result) {
+		int columns = key.length() + 1;
+		int[] row = new int[columns];
+		char c = mLabels[node];
+		row[0] = previousRow[0] + 1;
+		int min = row[0];
+		for (int i = 1; i < columns; i++) {
+			int insert = row[i - 1] + 1;
+			int delete = previousRow[i] + 1;
+			int replace = previousRow[i - 1] + (key.charAt(i - 1) == c ? 0 : 1);
+			row[i] = Math.min(insert, Math.min(delete, replace));
+			if (row[i] < min) {
+				min = row[i];
+			}
+		}
+		if (row[columns - 1] <= maxDistance) {
+			addValues(node, result);
+		}
+		if (min <= maxDistance) {
+			int first = mFirstChild[node];
+			for (int child = first; child < first + mChildCount[node]; child++) {
+				findSimilar(child, key, row, maxDistance, result);
+			}
+		}
+	}
+
+	private void addValues(int node, Set<String> result) {
+		int start = mValuesStart[node];
+		int end = start + mValuesCount[node];
+		for (int i = start; i < end; i++) {
+			result.add(mNames[mValues[i]]);
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Match the volumes paths against the disabled paths rules. A rule is a
+ * path, which matches only that path, or a path followed by
+ * {@link #SUBTREE_SUFFIX}, which matches any path under it, for example
+ * "/storage/*" matches all the volumes mounted under /storage even if their
+ * names change.
+ * <p/>
+ * The exact rules are kept on a hash set and the subtree rules on a trie of
+ * path segments, so a path is matched in a time proportional to its length.
+ * The matcher is immutable and should be built again when the rules change.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DisabledPathMatcher {
+	public static final String SUBTREE_SUFFIX = "/*";
+
+	private final Set<String> mExactPaths = new HashSet<String>();
+	private final Node mRoot = new Node();
+	private final int mRulesCount;
+
+	/**
+	 * A path segment of the subtree rules.
+	 */
+	private static class Node {
+		Map<String, Node> children;
+		boolean subtree;
+	}
+
+	/**
+	 * Compile the rules.
+	 *
+	 * @param rules The disabled paths rules.
+	 */
+	public DisabledPathMatcher(Collection<String> rules) {
+		for (String rule : rules) {
+			if (rule.endsWith(SUBTREE_SUFFIX)) {
+				addSubtree(rule.substring(0, rule.length() - SUBTREE_SUFFIX.length()));
+			} else {
+				mExactPaths.add(trimSeparator(rule));
+			}
+		}
+		mRulesCount = rules.size();
+	}
+
+	/**
+	 * Obtain the subtree rule for the parent folder of a path.
+	 *
+	 * @param path A volume path.
+	 * @return The rule which matches the path and its siblings, or null if
+	 * the path has no parent folder.
+	 */
+	public static String getParentRule(String path) {
+		int index = trimSeparator(path).lastIndexOf('/');
+		return index > 0 ? path.substring(0, index) + SUBTREE_SUFFIX : null;
+	}
+
+	private static String trimSeparator(String path) {
+		int end = path.length();
+		while (end > 1 && path.charAt(end - 1) == '/') {
+			end--;
+		}
+		return end < path.length() ? path.substring(0, end) : path;
+	}
+
+	private void addSubtree(String path) {
+		Node node = mRoot;
+		int start = 0, end, length = path.length();
+		while (start < length) {
+			end = path.indexOf('/', start);
+			if (end < 0) {
+				end = length;
+			}
+			if (end > start) {
+				String segment = path.substring(start, end);
+				if (node.children == null) {
+					node.children = new HashMap<String, Node>();
+				}
+				Node child = node.children.get(segment);
+				if (child == null) {
+					child = new Node();
+					node.children.put(segment, child);
+				}
+				node = child;
+			}
+			start = end + 1;
+		}
+		node.subtree = true;
+	}
+
+	/**
+	 * Check if a path is disabled.
+	 *
+	 * @param path The path to check.
+	 * @return True if the path matches a rule.
+	 */
+	public boolean matches(String path) {
+		if (path == null) {
+			return false;
+		}
+		if (mExactPaths.contains(path) || matchesSubtree(path)) {
+			return true;
+		}
+		String trimmed = trimSeparator(path);
+		return trimmed != path && mExactPaths.contains(trimmed);
+	}
+
+	/**
+	 * Walk the path segments on the trie, the path matches if a subtree
+	 * rule is found before its last segment.
+	 */
+	private boolean matchesSubtree(String path) {
+		Node node = mRoot;
+		int start = 0, end, length = path.length();
+		if (node.subtree && trimSeparator(path).length() > 1) {
+			return true;
+		}
+		while (node.children != null) {
+			while (start < length && path.charAt(start) == '/') {
+				start++;
+			}
+			if (start == length) {
+				return false;
+			}
+			end = path.indexOf('/', start);
+			if (end < 0) {
+				end = length;
+			}
+			node = node.children.get(path.substring(start, end));
+			if (node == null) {
+				return false;
+			}
+			start = end;
+			if (node.subtree) {
+				while (start < length && path.charAt(start) == '/') {
+					start++;
+				}
+				if (start < length) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public boolean isEmpty() {
+		return mRulesCount == 0;
+	}
+
+	@Override
+	public String toString() {
+		return "DisabledPathMatcher{" +
+				"rules=" + mRulesCount +
+				", exact=" + mExactPaths +
+				'}';
+	}
+}
@@ -0,0 +1,257 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import ro.ciubex.storageinfo.model.DiskUsageTree;
+import ro.ciubex.storageinfo.model.MountVolume;
+
+import android.os.StatFs;
+import android.util.Log;
+
+/**
+ * Store a {@link DiskUsageTree} on a private file, to be used by the next
+ * scan of the same volume. For each directory are stored the parent, the name,
+ * the last modified time and the files directly in the directory.
+ * <p/>
+ * The index is identified by the volume path, the volume id and the volume
+ * size, and the index of another card inserted at the same path is discarded.
+ * The volume id is the FAT or exFAT serial, like 6A3F-1C2D, or the file system
+ * UUID; see {@link #getVolumeId(String, File, File)}. When no id is found, a
+ * card with the same size is detected only by the directories last modified
+ * times.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DiskUsageIndex {
+	private static final String TAG = DiskUsageIndex.class.getName();
+	public static final String INDEX_FOLDER_NAME = "disk_usage";
+	private static final int MAGIC = 0x53494455; // SIDU
+	private static final int VERSION = 2;
+	private static final int BUFFER_SIZE = 32 * 1024;
+	public static final String DEV_DISK_BY_UUID = "/dev/disk/by-uuid";
+	private static final Pattern VOLUME_ID = Pattern.compile(
+			"[0-9A-Fa-f]{4}-[0-9A-Fa-f]{4}|[0-9A-Fa-f]{16}|[0-9A-Fa-f]{8}-[0-9A-Fa-f]{4}-[0-9A-Fa-f]{4}-[0-9A-Fa-f]{4}-[0-9A-Fa-f]{12}");
+
+	private final File mFile;
+	private final String mRootPath;
+
+	/**
+	 * Create the index of a volume.
+	 *
+	 * @param folder   The folder where the indexes are stored.
+	 * @param rootPath The volume path.
+	 */
+	public DiskUsageIndex(File folder, String rootPath) {
+		mFile = new File(folder, rootPath.replace(File.separatorChar, '_') + ".idx");
+		mRootPath = rootPath;
+	}
+
+	public File getFile() {
+		return mFile;
+	}
+
+	/**
+	 * Obtain the volume size, used to identify the card.
+	 *
+	 * @return The volume size in bytes, or -1 if it could not be obtained.
+	 */
+	private long getVolumeSize() {
+		try {
+			StatFs statFs = new StatFs(mRootPath);
+			return (long) statFs.getBlockSize() * statFs.getBlockCount();
+		} catch (Exception e) {
+			Log.e(TAG, "getVolumeSize(" + mRootPath + "): " + e.getMessage(), e);
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the id of the file system mounted on a path, in order:
+	 * <ol>
+	 * <li>the name of the mount point, or of a bind mount of the same device,
+	 * like /storage/6A3F-1C2D or /mnt/media_rw/6A3F-1C2D, which vold names
+	 * after the FAT or exFAT serial, or after the file system UUID;</li>
+	 * <li>the name of the link to the mount source from the by-uuid folder,
+	 * which is created by udev on the Linux systems.</li>
+	 * </ol>
+	 *
+	 * @param rootPath   The volume path.
+	 * @param mountTable The mountinfo table.
+	 * @param byUuid     The folder with the links named after the file
+	 *                   systems UUIDs.
+	 * @return The volume id, or an empty string if it was not found.
+	 */
+	static String getVolumeId(String rootPath, File mountTable, File byUuid) {
+		String path;
+		try {
+			path = new File(rootPath).getCanonicalPath();
+		} catch (IOException e) {
+			path = rootPath;
+		}
+		String name = new File(path).getName();
+		if (VOLUME_ID.matcher(name).matches()) {
+			return name;
+		}
+		List<MountVolume> mounts;
+		try {
+			mounts = MountTableParser.read(mountTable, MountTableParser.FORMAT_MOUNTINFO, null);
+		} catch (IOException e) {
+			Log.e(TAG, "getVolumeId(" + rootPath + "): " + e.getMessage(), e);
+			return "";
+		}
+		MountVolume volume = null;
+		for (MountVolume mount : mounts) {
+			// the last mount over the same point is the visible one
+			if (path.equals(mount.getPath())) {
+				volume = mount;
+			}
+		}
+		if (volume == null) {
+			return "";
+		}
+		for (MountVolume mount : mounts) {
+			name = mount.getPathFile().getName();
+			if (volume.getDeviceNumber().equals(mount.getDeviceNumber())
+					&& VOLUME_ID.matcher(name).matches()) {
+				return name;
+			}
+		}
+		File[] links = byUuid.listFiles();
+		if (links != null) {
+			try {
+				String source = new File(volume.getSourceDevice()).getCanonicalPath();
+				for (File link : links) {
+					if (source.equals(link.getCanonicalPath())) {
+						return link.getName();
+					}
+				}
+			} catch (IOException e) {
+				Log.e(TAG, "getVolumeId(" + rootPath + "): " + e.getMessage(), e);
+			}
+		}
+		return "";
+	}
+
+	private String getVolumeId() {
+		return getVolumeId(mRootPath, new File(MountTableParser.PROC_SELF_MOUNTINFO),
+				new File(DEV_DISK_BY_UUID));
+	}
+
+	/**
+	 * Load the stored tree.
+	 *
+	 * @return The stored tree, or null if there is no index for the volume
+	 * currently mounted.
+	 */
+	public DiskUsageTree load() {
+		if (!mFile.exists()) {
+			return null;
+		}
+		DataInputStream input = null;
+		try {
+			input = new DataInputStream(new BufferedInputStream(new FileInputStream(mFile), BUFFER_SIZE));
+			if (input.readInt() != MAGIC || input.readInt() != VERSION
+					|| !mRootPath.equals(input.readUTF())
+					|| !getVolumeId().equals(input.readUTF())
+					|| input.readLong() != getVolumeSize()) {
+				Log.d(TAG, "load: discard " + mFile);
+				return null;
+			}
+			int count = input.readInt();
+			DiskUsageTree tree = new DiskUsageTree(mRootPath, input.readLong());
+			tree.addFiles(DiskUsageTree.ROOT, input.readInt(), input.readLong());
+			int node, parent;
+			for (int i = 1; i < count; i++) {
+				parent = input.readInt();
+				if (parent < 0 || parent >= i) {
+					throw new IOException("Invalid parent " + parent + " for " + i);
+				}
+				node = tree.addDirectory(parent, input.readUTF(), input.readLong());
+				tree.addFiles(node, input.readInt(), input.readLong());
+			}
+			return tree;
+		} catch (IOException e) {
+			Log.e(TAG, "load(" + mFile + "): " + e.getMessage(), e);
+		} finally {
+			Utils.doClose(input);
+		}
+		return null;
+	}
+
+	/**
+	 * Store a completely scanned tree. The index is written on a temporary
+	 * file and then renamed, so a previous index is not lost if the process
+	 * is killed.
+	 *
+	 * @param tree The tree to store.
+	 * @return True if the index was stored.
+	 */
+	public boolean save(DiskUsageTree tree) {
+		File folder = mFile.getParentFile();
+		if (!folder.exists() && !folder.mkdirs()) {
+			return false;
+		}
+		File temp = new File(folder, mFile.getName() + ".tmp");
+		DataOutputStream output = null;
+		boolean saved = false;
+		try {
+			output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), BUFFER_SIZE));
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeUTF(mRootPath);
+			output.writeUTF(getVolumeId());
+			output.writeLong(getVolumeSize());
+			int count = tree.size();
+			output.writeInt(count);
+			output.writeLong(tree.getModified(DiskUsageTree.ROOT));
+			output.writeInt(tree.getOwnFileCount(DiskUsageTree.ROOT));
+			output.writeLong(tree.getOwnSize(DiskUsageTree.ROOT));
+			for (int i = 1; i < count; i++) {
+				output.writeInt(tree.getParent(i));
+				output.writeUTF(tree.getName(i));
+				output.writeLong(tree.getModified(i));
+				output.writeInt(tree.getOwnFileCount(i));
+				output.writeLong(tree.getOwnSize(i));
+			}
+			output.flush();
+			saved = true;
+		} catch (IOException e) {
+			Log.e(TAG, "save(" + mFile + "): " + e.getMessage(), e);
+		} finally {
+			Utils.doClose(output);
+		}
+		if (saved) {
+			saved = temp.renameTo(mFile);
+		} else {
+			temp.delete();
+		}
+		return saved;
+	}
+}
@@ -0,0 +1,86 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+
+import android.content.Context;
+
+/**
+ * Access to the hidden IMountService and StorageVolume APIs. An
+ * implementation is chosen only once, for the method signatures available on
+ * the running platform.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public interface MountServiceAdapter {
+
+	/**
+	 * Obtain the IMountService interface of the mount service.
+	 *
+	 * @return The mount service or null if is not available.
+	 */
+	public Object getService();
+
+	/**
+	 * Check if the volume state can be obtained from the mount service, so
+	 * {@link #getVolumeState(Object, String)} makes a binder call.
+	 *
+	 * @return True if the platform has the getVolumeState method.
+	 */
+	public boolean hasVolumeState();
+
+	public String getVolumeState(Object mountService, String mountPoint);
+
+	public int mountVolume(Object mountService, String mountPoint);
+
+	public void unmountVolume(Object mountService, String mountPoint, boolean force);
+
+	public int[] getStorageUsers(Object mountService, String path);
+
+	public boolean isUsbMassStorageEnabled(Object mountService);
+
+	/**
+	 * Check if the volume list can be obtained from the mount service, so
+	 * {@link #getVolumeList(Object)} makes a binder call.
+	 *
+	 * @return True if the platform has a supported getVolumeList method.
+	 */
+	public boolean hasVolumeList();
+
+	/**
+	 * Obtain the StorageVolume objects from the mount service.
+	 *
+	 * @param mountService The mount service.
+	 * @return An array of StorageVolume objects or null.
+	 */
+	public Object[] getVolumeList(Object mountService);
+
+	public String getStorageVolumeDescription(Object storageVolume, Context context);
+
+	/**
+	 * Copy a StorageVolume object to a MountVolume. No binder call is made, so
+	 * the volume state is left null if the StorageVolume does not have it.
+	 *
+	 * @param storageVolume The StorageVolume object.
+	 * @param context       The application context.
+	 * @return The mount volume or null if the object is not a StorageVolume.
+	 */
+	public MountVolume toMountVolume(Object storageVolume, Context context);
+}
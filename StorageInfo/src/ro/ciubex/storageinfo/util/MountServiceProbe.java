@@ -0,0 +1,238 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.os.IBinder;
+import android.util.Log;
+
+/**
+ * Resolve the hidden IMountService and StorageVolume methods. The first run
+ * on a platform build scans the declared methods and stores the found
+ * signatures on private preferences, keyed by {@link Build#FINGERPRINT}. The
+ * next runs on the same build lookup only the stored methods.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class MountServiceProbe {
+	private static final String TAG = MountServiceProbe.class.getName();
+
+	private static final String PREFERENCES_NAME = "mount_service";
+	private static final String KEY_FINGERPRINT = "fingerprint";
+
+	private static final String SERVICE_MANAGER_CLASS = "android.os.ServiceManager";
+	private static final String MOUNT_SERVICE_STUB_CLASS = "android.os.storage.IMountService$Stub";
+	private static final String MOUNT_SERVICE_CLASS = "android.os.storage.IMountService";
+	private static final String STORAGE_VOLUME_CLASS = "android.os.storage.StorageVolume";
+
+	private static final String[] MOUNT_SERVICE_METHODS = {"getVolumeList",
+			"getVolumeState", "mountVolume", "unmountVolume", "getStorageUsers",
+			"isUsbMassStorageEnabled"};
+	private static final String[] STORAGE_VOLUME_METHODS = {"getStorageId",
+			"getDescription", "getDescriptionId", "getPath", "getPathFile",
+			"isRemovable", "isPrimary", "isEmulated", "getState"};
+
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<String, Class<?>>();
+
+	static {
+		PRIMITIVE_TYPES.put("boolean", boolean.class);
+		PRIMITIVE_TYPES.put("byte", byte.class);
+		PRIMITIVE_TYPES.put("char", char.class);
+		PRIMITIVE_TYPES.put("short", short.class);
+		PRIMITIVE_TYPES.put("int", int.class);
+		PRIMITIVE_TYPES.put("long", long.class);
+		PRIMITIVE_TYPES.put("float", float.class);
+		PRIMITIVE_TYPES.put("double", double.class);
+	}
+
+	private MountServiceProbe() {
+	}
+
+	/**
+	 * Resolve the hidden API methods, using the stored signatures if they
+	 * were found on the same platform build.
+	 *
+	 * @param context The application context used to store the signatures, or
+	 *                null to always scan the methods.
+	 * @return The resolved methods, a missing method is null.
+	 */
+	public static ReflectionMountServiceAdapter.Methods resolve(Context context) {
+		Map<String, Method> found = null;
+		SharedPreferences preferences = null;
+		if (context != null) {
+			preferences = context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+			if (Build.FINGERPRINT.equals(preferences.getString(KEY_FINGERPRINT, null))) {
+				found = load(preferences);
+			}
+		}
+		if (found == null) {
+			found = scan();
+			if (preferences != null) {
+				save(preferences, found);
+			}
+		}
+		ReflectionMountServiceAdapter.Methods methods = new ReflectionMountServiceAdapter.Methods();
+		try {
+			methods.serviceManagerGetService = Class.forName(SERVICE_MANAGER_CLASS)
+					.getMethod("getService", String.class);
+			methods.mountServiceAsInterface = Class.forName(MOUNT_SERVICE_STUB_CLASS)
+					.getMethod("asInterface", IBinder.class);
+		} catch (Exception e) {
+			Log.wtf(TAG, e);
+		}
+		methods.mountServiceGetVolumeList = found.get(getKey(MOUNT_SERVICE_CLASS, "getVolumeList"));
+		methods.mountServiceGetVolumeState = found.get(getKey(MOUNT_SERVICE_CLASS, "getVolumeState"));
+		methods.mountServiceMountVolume = found.get(getKey(MOUNT_SERVICE_CLASS, "mountVolume"));
+		methods.mountServiceUnmountVolume = found.get(getKey(MOUNT_SERVICE_CLASS, "unmountVolume"));
+		methods.mountServiceGetStorageUsers = found.get(getKey(MOUNT_SERVICE_CLASS, "getStorageUsers"));
+		methods.mountServiceIsUsbMassStorageEnabled = found.get(getKey(MOUNT_SERVICE_CLASS, "isUsbMassStorageEnabled"));
+		methods.storageVolumeGetStorageId = found.get(getKey(STORAGE_VOLUME_CLASS, "getStorageId"));
+		methods.storageVolumeGetDescription = found.get(getKey(STORAGE_VOLUME_CLASS, "getDescription"));
+		methods.storageVolumeGetDescriptionId = found.get(getKey(STORAGE_VOLUME_CLASS, "getDescriptionId"));
+		methods.storageVolumeGetPath = found.get(getKey(STORAGE_VOLUME_CLASS, "getPath"));
+		methods.storageVolumeGetPathFile = found.get(getKey(STORAGE_VOLUME_CLASS, "getPathFile"));
+		methods.storageVolumeIsRemovable = found.get(getKey(STORAGE_VOLUME_CLASS, "isRemovable"));
+		methods.storageVolumeIsPrimary = found.get(getKey(STORAGE_VOLUME_CLASS, "isPrimary"));
+		methods.storageVolumeIsEmulated = found.get(getKey(STORAGE_VOLUME_CLASS, "isEmulated"));
+		methods.storageVolumeGetState = found.get(getKey(STORAGE_VOLUME_CLASS, "getState"));
+		return methods;
+	}
+
+	/**
+	 * The preference key of a method, for example
+	 * "android.os.storage.IMountService.unmountVolume".
+	 */
+	private static String getKey(String className, String methodName) {
+		return className + "." + methodName;
+	}
+
+	/**
+	 * Scan the declared methods of the hidden classes.
+	 *
+	 * @return The found methods, by their keys.
+	 */
+	private static Map<String, Method> scan() {
+		Map<String, Method> found = new HashMap<String, Method>();
+		scan(MOUNT_SERVICE_CLASS, MOUNT_SERVICE_METHODS, found);
+		scan(STORAGE_VOLUME_CLASS, STORAGE_VOLUME_METHODS, found);
+		return found;
+	}
+
+	private static void scan(String className, String[] methodNames, Map<String, Method> found) {
+		try {
+			Class<?> clazz = Class.forName(className);
+			String methodName;
+			for (Method method : clazz.getDeclaredMethods()) {
+				methodName = method.getName();
+				for (String name : methodNames) {
+					if (name.equals(methodName)) {
+						found.put(getKey(className, methodName), method);
+						break;
+					}
+				}
+			}
+		} catch (Exception e) {
+			Log.wtf(TAG, e);
+		}
+	}
+
+	/**
+	 * Lookup the methods with the stored signatures.
+	 *
+	 * @param preferences The preferences with the stored signatures.
+	 * @return The found methods, or null if a stored method could not be
+	 * found and the methods should be scanned again.
+	 */
+	private static Map<String, Method> load(SharedPreferences preferences) {
+		Map<String, Method> found = new HashMap<String, Method>();
+		try {
+			load(preferences, MOUNT_SERVICE_CLASS, MOUNT_SERVICE_METHODS, found);
+			load(preferences, STORAGE_VOLUME_CLASS, STORAGE_VOLUME_METHODS, found);
+		} catch (Exception e) {
+			Log.e(TAG, "load: " + e.getMessage(), e);
+			return null;
+		}
+		return found;
+	}
+
+	private static void load(SharedPreferences preferences, String className,
+			String[] methodNames, Map<String, Method> found) throws Exception {
+		Class<?> clazz = null;
+		String key, signature;
+		for (String methodName : methodNames) {
+			key = getKey(className, methodName);
+			signature = preferences.getString(key, null);
+			if (signature != null) {
+				if (clazz == null) {
+					clazz = Class.forName(className);
+				}
+				found.put(key, clazz.getDeclaredMethod(methodName, getParameterTypes(signature)));
+			}
+		}
+	}
+
+	/**
+	 * Store the signatures of the found methods. A method which is not stored
+	 * was not found by the scan.
+	 */
+	private static void save(SharedPreferences preferences, Map<String, Method> found) {
+		SharedPreferences.Editor editor = preferences.edit();
+		editor.clear();
+		editor.putString(KEY_FINGERPRINT, Build.FINGERPRINT);
+		for (Map.Entry<String, Method> entry : found.entrySet()) {
+			editor.putString(entry.getKey(), getSignature(entry.getValue()));
+		}
+		editor.commit();
+	}
+
+	/**
+	 * Obtain the comma separated parameter type names of a method.
+	 */
+	private static String getSignature(Method method) {
+		StringBuilder signature = new StringBuilder();
+		for (Class<?> type : method.getParameterTypes()) {
+			if (signature.length() > 0) {
+				signature.append(',');
+			}
+			signature.append(type.getName());
+		}
+		return signature.toString();
+	}
+
+	private static Class<?>[] getParameterTypes(String signature) throws ClassNotFoundException {
+		if (signature.length() == 0) {
+			return new Class<?>[0];
+		}
+		String[] names = signature.split(",");
+		Class<?>[] types = new Class<?>[names.length];
+		for (int i = 0; i < names.length; i++) {
+			types[i] = PRIMITIVE_TYPES.get(names[i]);
+			if (types[i] == null) {
+				types[i] = Class.forName(names[i]);
+			}
+		}
+		return types;
+	}
+}
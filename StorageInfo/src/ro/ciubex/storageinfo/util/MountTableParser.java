@@ -0,0 +1,302 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+
+/**
+ * A streaming parser for the kernel mount table, in the
+ * /proc/self/mountinfo or in the /proc/mounts format. The lines are split on
+ * a reusable byte buffer and only the fields of the accepted mounts are
+ * decoded to strings.
+ * <p/>
+ * The parser uses only plain Java, so it can be used on any Linux system or
+ * with recorded mount tables.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class MountTableParser {
+	public static final String PROC_SELF_MOUNTINFO = "/proc/self/mountinfo";
+	public static final String PROC_MOUNTS = "/proc/mounts";
+
+	/**
+	 * Format of /proc/self/mountinfo: mount id, parent id, major:minor, root,
+	 * mount point, mount options, optional fields, "-", file system type,
+	 * mount source and super options.
+	 */
+	public static final int FORMAT_MOUNTINFO = 0;
+	/**
+	 * Format of /proc/mounts: mount source, mount point, file system type,
+	 * mount options, dump and pass.
+	 */
+	public static final int FORMAT_MOUNTS = 1;
+
+	private static final int MOUNTINFO_DEVICE_FIELD = 2;
+	private static final int BUFFER_SIZE = 8192;
+	private static final String UTF_8 = "UTF-8";
+
+	/**
+	 * Used to select the mounts which are returned.
+	 */
+	public interface Filter {
+		/**
+		 * Check if a mount should be returned.
+		 *
+		 * @param mountPoint The mount point.
+		 * @param fsType     The file system type.
+		 * @return True if the mount is accepted.
+		 */
+		public boolean accept(String mountPoint, String fsType);
+	}
+
+	private final InputStream mInput;
+	private final int mFormat;
+	private byte[] mBuffer = new byte[BUFFER_SIZE];
+	private int mStart;
+	private int mEnd;
+	private int[] mFieldStarts = new int[16];
+	private int[] mFieldEnds = new int[16];
+	private int mFieldCount;
+	private byte[] mScratch = new byte[256];
+
+	/**
+	 * Create a parser.
+	 *
+	 * @param input  The mount table stream, is not closed by the parser.
+	 * @param format The mount table format, {@link #FORMAT_MOUNTINFO} or
+	 *               {@link #FORMAT_MOUNTS}.
+	 */
+	public MountTableParser(InputStream input, int format) {
+		mInput = input;
+		mFormat = format;
+	}
+
+	/**
+	 * Read the mount table of the current process, from
+	 * /proc/self/mountinfo or, if it is not available, from /proc/mounts.
+	 *
+	 * @param filter The mounts filter, or null to accept all the mounts.
+	 * @return The accepted mounts, in the mount table order.
+	 * @throws IOException If none of the mount tables could be read.
+	 */
+	public static List<MountVolume> readMountTable(Filter filter) throws IOException {
+		File mountInfo = new File(PROC_SELF_MOUNTINFO);
+		if (mountInfo.canRead()) {
+			return read(mountInfo, FORMAT_MOUNTINFO, filter);
+		}
+		return read(new File(PROC_MOUNTS), FORMAT_MOUNTS, filter);
+	}
+
+	/**
+	 * Read a mount table file.
+	 *
+	 * @param file   The mount table file.
+	 * @param format The mount table format.
+	 * @param filter The mounts filter, or null to accept all the mounts.
+	 * @return The accepted mounts, in the mount table order.
+	 * @throws IOException If the file could not be read.
+	 */
+	public static List<MountVolume> read(File file, int format, Filter filter) throws IOException {
+		InputStream input = null;
+		try {
+			input = new FileInputStream(file);
+			return new MountTableParser(input, format).parse(filter);
+		} finally {
+			Utils.doClose(input);
+		}
+	}
+
+	/**
+	 * Parse the mount table. The malformed lines are ignored.
+	 *
+	 * @param filter The mounts filter, or null to accept all the mounts.
+	 * @return The accepted mounts, in the mount table order.
+	 * @throws IOException If the stream could not be read.
+	 */
+	public List<MountVolume> parse(Filter filter) throws IOException {
+		List<MountVolume> volumes = new ArrayList<MountVolume>();
+		int mountPointField, optionsField, fsTypeField, sourceField;
+		while (nextLine()) {
+			if (mFormat == FORMAT_MOUNTINFO) {
+				int separator = findSeparator();
+				if (separator < 6 || separator + 2 >= mFieldCount) {
+					continue;
+				}
+				mountPointField = 4;
+				optionsField = 5;
+				fsTypeField = separator + 1;
+				sourceField = separator + 2;
+			} else {
+				if (mFieldCount < 4) {
+					continue;
+				}
+				sourceField = 0;
+				mountPointField = 1;
+				fsTypeField = 2;
+				optionsField = 3;
+			}
+			String mountPoint = decodeField(mountPointField);
+			String fsType = decodeField(fsTypeField);
+			if (filter == null || filter.accept(mountPoint, fsType)) {
+				MountVolume volume = new MountVolume();
+				volume.setPathFile(new File(mountPoint));
+				volume.setFsType(fsType);
+				volume.setSourceDevice(decodeField(sourceField));
+				volume.setMountOptions(decodeField(optionsField));
+				if (mFormat == FORMAT_MOUNTINFO) {
+					volume.setDeviceNumber(decodeField(MOUNTINFO_DEVICE_FIELD));
+				}
+				volumes.add(volume);
+			}
+		}
+		return volumes;
+	}
+
+	/**
+	 * Find the "-" field which ends the optional fields of a mountinfo line.
+	 *
+	 * @return The separator field index, or -1 if not found.
+	 */
+	private int findSeparator() {
+		for (int i = 6; i < mFieldCount; i++) {
+			if (mFieldEnds[i] - mFieldStarts[i] == 1 && mBuffer[mFieldStarts[i]] == '-') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Read the next line and split it on fields.
+	 *
+	 * @return False if there are no more lines.
+	 * @throws IOException If the stream could not be read.
+	 */
+	private boolean nextLine() throws IOException {
+		int lineEnd;
+		while ((lineEnd = indexOfNewLine(mStart)) == -1) {
+			if (!fill()) {
+				if (mStart >= mEnd) {
+					return false;
+				}
+				// the last line does not end with a new line
+				lineEnd = mEnd;
+				break;
+			}
+		}
+		split(mStart, lineEnd);
+		mStart = lineEnd < mEnd ? lineEnd + 1 : mEnd;
+		return true;
+	}
+
+	private int indexOfNewLine(int from) {
+		for (int i = from; i < mEnd; i++) {
+			if (mBuffer[i] == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Read more bytes, moving the incomplete line at the buffer start and
+	 * growing the buffer if the line does not fit.
+	 *
+	 * @return False if the end of the stream was reached.
+	 */
+	private boolean fill() throws IOException {
+		if (mStart > 0) {
+			System.arraycopy(mBuffer, mStart, mBuffer, 0, mEnd - mStart);
+			mEnd -= mStart;
+			mStart = 0;
+		}
+		if (mEnd == mBuffer.length) {
+			mBuffer = Arrays.copyOf(mBuffer, mBuffer.length * 2);
+		}
+		int count = mInput.read(mBuffer, mEnd, mBuffer.length - mEnd);
+		if (count <= 0) {
+			return false;
+		}
+		mEnd += count;
+		return true;
+	}
+
+	/**
+	 * Split a line on space separated fields.
+	 */
+	private void split(int start, int end) {
+		mFieldCount = 0;
+		int i = start;
+		while (i < end) {
+			while (i < end && (mBuffer[i] == ' ' || mBuffer[i] == '\t')) {
+				i++;
+			}
+			if (i == end) {
+				break;
+			}
+			if (mFieldCount == mFieldStarts.length) {
+				mFieldStarts = Arrays.copyOf(mFieldStarts, mFieldCount * 2);
+				mFieldEnds = Arrays.copyOf(mFieldEnds, mFieldCount * 2);
+			}
+			mFieldStarts[mFieldCount] = i;
+			while (i < end && mBuffer[i] != ' ' && mBuffer[i] != '\t') {
+				i++;
+			}
+			mFieldEnds[mFieldCount++] = i;
+		}
+	}
+
+	/**
+	 * Decode a field, replacing the octal escapes used by the kernel for the
+	 * space, tab, new line and backslash characters.
+	 */
+	private String decodeField(int field) throws UnsupportedEncodingException {
+		int start = mFieldStarts[field];
+		int end = mFieldEnds[field];
+		if (mScratch.length < end - start) {
+			mScratch = new byte[end - start];
+		}
+		int length = 0;
+		byte b;
+		for (int i = start; i < end; i++) {
+			b = mBuffer[i];
+			if (b == '\\' && i + 3 < end && isOctal(mBuffer[i + 1])
+					&& isOctal(mBuffer[i + 2]) && isOctal(mBuffer[i + 3])) {
+				b = (byte) (((mBuffer[i + 1] - '0') << 6) | ((mBuffer[i + 2] - '0') << 3)
+						| (mBuffer[i + 3] - '0'));
+				i += 3;
+			}
+			mScratch[length++] = b;
+		}
+		return new String(mScratch, 0, length, UTF_8);
+	}
+
+	private static boolean isOctal(byte b) {
+		return b >= '0' && b <= '7';
+	}
+}
@@ -0,0 +1,364 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.io.File;
+import java.lang.reflect.Method;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+
+import android.content.Context;
+import android.util.AndroidRuntimeException;
+import android.util.Log;
+
+/**
+ * Base of the mount service adapters. All the methods are resolved before the
+ * adapter is created, and each subclass calls the IMountService methods with
+ * the exact arguments of one platform signature set, so no call has to check
+ * the method arity again.
+ * <p>
+ * The calls still go through {@link Method#invoke} with boxed argument arrays,
+ * there is no typed invoker to cache because the method handles are not
+ * available on the supported platforms. The only gain is that the parameter
+ * types are no longer copied on each call to check the arity; the binder
+ * transaction behind each call costs much more than both.
+ * </p>
+ *
+ * @author Claudiu Ciobotariu
+ */
+public abstract class ReflectionMountServiceAdapter implements MountServiceAdapter {
+	static final String TAG = ReflectionMountServiceAdapter.class.getName();
+	static final String SERVICE_MOUNT = "mount";
+	static final String STORAGE_VOLUME_CLASS = "android.os.storage.StorageVolume";
+	static final Object[] NO_ARGS = new Object[0];
+
+	/**
+	 * The resolved hidden API methods, a missing method is null.
+	 */
+	public static class Methods {
+		public Method serviceManagerGetService;
+		public Method mountServiceAsInterface;
+		public Method mountServiceGetVolumeList;
+		public Method mountServiceGetVolumeState;
+		public Method mountServiceMountVolume;
+		public Method mountServiceUnmountVolume;
+		public Method mountServiceGetStorageUsers;
+		public Method mountServiceIsUsbMassStorageEnabled;
+
+		public Method storageVolumeGetStorageId;
+		public Method storageVolumeGetDescriptionId;
+		public Method storageVolumeGetDescription;
+		public Method storageVolumeGetPathFile;
+		public Method storageVolumeGetPath;
+		public Method storageVolumeIsRemovable;
+		public Method storageVolumeIsPrimary;
+		public Method storageVolumeIsEmulated;
+		public Method storageVolumeGetState;
+	}
+
+	protected final Method mGetService;
+	protected final Method mAsInterface;
+	protected final Method mGetVolumeList;
+	protected final Method mGetVolumeState;
+	protected final Method mMountVolume;
+	protected final Method mUnmountVolume;
+	protected final Method mGetStorageUsers;
+	protected final Method mIsUsbMassStorageEnabled;
+
+	private final Method mGetStorageId;
+	private final Method mGetDescriptionId;
+	private final Method mGetDescription;
+	private final boolean mDescriptionWithContext;
+	private final Method mGetPathFile;
+	private final Method mGetPath;
+	private final Method mIsRemovable;
+	private final Method mIsPrimary;
+	private final Method mIsEmulated;
+	private final Method mGetState;
+
+	protected ReflectionMountServiceAdapter(Methods methods) {
+		mGetService = methods.serviceManagerGetService;
+		mAsInterface = methods.mountServiceAsInterface;
+		mGetVolumeList = methods.mountServiceGetVolumeList;
+		mGetVolumeState = methods.mountServiceGetVolumeState;
+		mMountVolume = methods.mountServiceMountVolume;
+		mUnmountVolume = methods.mountServiceUnmountVolume;
+		mGetStorageUsers = methods.mountServiceGetStorageUsers;
+		mIsUsbMassStorageEnabled = methods.mountServiceIsUsbMassStorageEnabled;
+		mGetStorageId = methods.storageVolumeGetStorageId;
+		mGetDescriptionId = methods.storageVolumeGetDescriptionId;
+		mGetDescription = methods.storageVolumeGetDescription;
+		mDescriptionWithContext = getArity(mGetDescription) == 1;
+		mGetPathFile = methods.storageVolumeGetPathFile;
+		mGetPath = methods.storageVolumeGetPath;
+		mIsRemovable = methods.storageVolumeIsRemovable;
+		mIsPrimary = methods.storageVolumeIsPrimary;
+		mIsEmulated = methods.storageVolumeIsEmulated;
+		mGetState = methods.storageVolumeGetState;
+	}
+
+	/**
+	 * Choose the adapter for the signatures of the resolved methods.
+	 *
+	 * @param methods The resolved hidden API methods.
+	 * @return The adapter to be used for all the mount service calls.
+	 */
+	public static MountServiceAdapter create(Methods methods) {
+		int unmountArity = getArity(methods.mountServiceUnmountVolume);
+		int volumeListArity = getArity(methods.mountServiceGetVolumeList);
+		if (volumeListArity == 0) {
+			if (unmountArity == 3) {
+				return new IceCreamSandwichAdapter(methods);
+			} else if (unmountArity == 2) {
+				return new HoneycombAdapter(methods);
+			}
+		} else if (volumeListArity == 3 && unmountArity == 3) {
+			return new MarshmallowAdapter(methods);
+		}
+		return new GenericAdapter(methods);
+	}
+
+	/**
+	 * Obtain the number of parameters of a method.
+	 *
+	 * @param method The method.
+	 * @return The number of parameters, or -1 if the method is missing.
+	 */
+	static int getArity(Method method) {
+		return method != null ? method.getParameterTypes().length : -1;
+	}
+
+	/**
+	 * Invoke a method, wrapping the reflection exceptions.
+	 *
+	 * @param method   The method to invoke, or null if is not available.
+	 * @param receiver The object on which the method is invoked.
+	 * @param args     The method arguments.
+	 * @return The method result, or null if the method is not available.
+	 */
+	static Object invoke(Method method, Object receiver, Object[] args) {
+		if (method == null) {
+			return null;
+		}
+		try {
+			return method.invoke(receiver, args);
+		} catch (Exception e) {
+			Log.e(TAG, e.getMessage(), e);
+			throw new AndroidRuntimeException(e);
+		}
+	}
+
+	private static boolean invokeBoolean(Method method, Object receiver) {
+		Object result = invoke(method, receiver, NO_ARGS);
+		return result != null && ((Boolean) result).booleanValue();
+	}
+
+	@Override
+	public Object getService() {
+		Object service = invoke(mGetService, null, new Object[]{SERVICE_MOUNT});
+		if (service != null) {
+			return invoke(mAsInterface, null, new Object[]{service});
+		}
+		return null;
+	}
+
+	@Override
+	public boolean hasVolumeState() {
+		return mGetVolumeState != null;
+	}
+
+	@Override
+	public boolean hasVolumeList() {
+		return mGetVolumeList != null;
+	}
+
+	@Override
+	public String getVolumeState(Object mountService, String mountPoint) {
+		String state = Utils.INVALID_STATE;
+		try {
+			state = (String) invoke(mGetVolumeState, mountService, new Object[]{mountPoint});
+		} catch (Exception e) {
+			Log.e(TAG, "getVolumeState(" + mountPoint + ")", e);
+		}
+		return state;
+	}
+
+	@Override
+	public int mountVolume(Object mountService, String mountPoint) {
+		return (Integer) invoke(mMountVolume, mountService, new Object[]{mountPoint});
+	}
+
+	@Override
+	public int[] getStorageUsers(Object mountService, String path) {
+		return (int[]) invoke(mGetStorageUsers, mountService, new Object[]{path});
+	}
+
+	@Override
+	public boolean isUsbMassStorageEnabled(Object mountService) {
+		return (Boolean) invoke(mIsUsbMassStorageEnabled, mountService, NO_ARGS);
+	}
+
+	@Override
+	public String getStorageVolumeDescription(Object storageVolume, Context context) {
+		if (mDescriptionWithContext) {
+			return (String) invoke(mGetDescription, storageVolume, new Object[]{context});
+		}
+		return (String) invoke(mGetDescription, storageVolume, NO_ARGS);
+	}
+
+	@Override
+	public MountVolume toMountVolume(Object storageVolume, Context context) {
+		MountVolume volume = null;
+		if (STORAGE_VOLUME_CLASS.equals(storageVolume.getClass().getName())) {
+			try {
+				volume = new MountVolume();
+				volume.setStorageId((Integer) invoke(mGetStorageId, storageVolume, NO_ARGS));
+				if (mGetPathFile != null) {
+					volume.setPathFile((File) invoke(mGetPathFile, storageVolume, NO_ARGS));
+				} else if (mGetPath != null) {
+					volume.setPathFile(new File((String) invoke(mGetPath, storageVolume, NO_ARGS)));
+				}
+				volume.setPrimary(invokeBoolean(mIsPrimary, storageVolume));
+				volume.setEmulated(invokeBoolean(mIsEmulated, storageVolume));
+				volume.setRemovable(invokeBoolean(mIsRemovable, storageVolume));
+				if (mGetDescriptionId != null) {
+					volume.setDescriptionId((Integer) invoke(mGetDescriptionId, storageVolume, NO_ARGS));
+				} else if (mGetDescription != null) {
+					volume.setDescription(getStorageVolumeDescription(storageVolume, context));
+				}
+				if (mGetState != null) {
+					volume.setVolumeState((String) invoke(mGetState, storageVolume, NO_ARGS));
+				}
+			} catch (Exception e) {
+				Log.e(TAG, "Exception: " + e.getMessage() + " volume: " + volume, e);
+				throw new AndroidRuntimeException(e);
+			}
+		}
+		return volume;
+	}
+
+	/**
+	 * Android 3.x: unmountVolume(String, boolean) and getVolumeList().
+	 */
+	static final class HoneycombAdapter extends ReflectionMountServiceAdapter {
+
+		HoneycombAdapter(Methods methods) {
+			super(methods);
+		}
+
+		@Override
+		public void unmountVolume(Object mountService, String mountPoint, boolean force) {
+			invoke(mUnmountVolume, mountService, new Object[]{mountPoint, force});
+		}
+
+		@Override
+		public Object[] getVolumeList(Object mountService) {
+			return (Object[]) invoke(mGetVolumeList, mountService, NO_ARGS);
+		}
+	}
+
+	/**
+	 * Android 4.0 to 5.1: unmountVolume(String, boolean, boolean) and
+	 * getVolumeList().
+	 */
+	static final class IceCreamSandwichAdapter extends ReflectionMountServiceAdapter {
+
+		IceCreamSandwichAdapter(Methods methods) {
+			super(methods);
+		}
+
+		@Override
+		public void unmountVolume(Object mountService, String mountPoint, boolean force) {
+			invoke(mUnmountVolume, mountService, new Object[]{mountPoint, force, force});
+		}
+
+		@Override
+		public Object[] getVolumeList(Object mountService) {
+			return (Object[]) invoke(mGetVolumeList, mountService, NO_ARGS);
+		}
+	}
+
+	/**
+	 * Android 6.0 and newer: unmountVolume(String, boolean, boolean) and
+	 * getVolumeList(int uid, String packageName, int flags).
+	 */
+	static final class MarshmallowAdapter extends ReflectionMountServiceAdapter {
+		private static final Object[] VOLUME_LIST_ARGS = new Object[]{0, "/", 0};
+
+		MarshmallowAdapter(Methods methods) {
+			super(methods);
+		}
+
+		@Override
+		public void unmountVolume(Object mountService, String mountPoint, boolean force) {
+			invoke(mUnmountVolume, mountService, new Object[]{mountPoint, force, force});
+		}
+
+		@Override
+		public Object[] getVolumeList(Object mountService) {
+			return (Object[]) invoke(mGetVolumeList, mountService, VOLUME_LIST_ARGS);
+		}
+	}
+
+	/**
+	 * Any other signature set, for example vendor modified platforms or
+	 * missing methods. The arities are still resolved only once.
+	 */
+	static final class GenericAdapter extends ReflectionMountServiceAdapter {
+		private final int mUnmountArity;
+		private final int mVolumeListArity;
+
+		GenericAdapter(Methods methods) {
+			super(methods);
+			mUnmountArity = getArity(mUnmountVolume);
+			mVolumeListArity = getArity(mGetVolumeList);
+		}
+
+		@Override
+		public boolean hasVolumeList() {
+			return mVolumeListArity == 0 || mVolumeListArity == 3;
+		}
+
+		@Override
+		public void unmountVolume(Object mountService, String mountPoint, boolean force) {
+			switch (mUnmountArity) {
+				case 1:
+					invoke(mUnmountVolume, mountService, new Object[]{mountPoint});
+					break;
+				case 2:
+					invoke(mUnmountVolume, mountService, new Object[]{mountPoint, force});
+					break;
+				case 3:
+					invoke(mUnmountVolume, mountService, new Object[]{mountPoint, force, force});
+					break;
+			}
+		}
+
+		@Override
+		public Object[] getVolumeList(Object mountService) {
+			switch (mVolumeListArity) {
+				case 0:
+					return (Object[]) invoke(mGetVolumeList, mountService, NO_ARGS);
+				case 3:
+					return (Object[]) invoke(mGetVolumeList, mountService, MarshmallowAdapter.VOLUME_LIST_ARGS);
+			}
+			return null;
+		}
+	}
+}
@@ -20,21 +20,27 @@ package ro.ciubex.storageinfo.util;
 
 import java.io.Closeable;
 import java.io.File;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import ro.ciubex.storageinfo.model.AppInfo;
 import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.model.VolumeSnapshot;
 
 import android.content.Context;
 import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.PackageManager.NameNotFoundException;
 import android.database.Cursor;
-import android.os.IBinder;
-import android.util.AndroidRuntimeException;
+import android.os.Environment;
+import android.os.SystemClock;
 import android.util.Log;
 
 /**
@@ -43,206 +49,231 @@ import android.util.Log;
  */
 public class Utils {
 	static final String TAG = Utils.class.getName();
-	static final String SERVICE_MOUNT = "mount";
 	public static final String INVALID_STATE = "invalid_state";
-	private static Method METHOD_ServiceManager_getService;
-	private static Method METHOD_IMountService_asInterface;
-	private static Method METHOD_IMountService_getVolumeList;
-	private static Method METHOD_IMountService_getVolumeState;
-	private static Method METHOD_IMountService_mountVolume;
-	private static Method METHOD_IMountService_unmountVolume;
-	private static Method METHOD_IMountService_getStorageUsers;
-	private static Method METHOD_IMountService_isUsbMassStorageEnabled;
+	private static final Set<String> STORAGE_FS_TYPES = new HashSet<String>(Arrays.asList(
+			"vfat", "exfat", "texfat", "sdfat", "ntfs", "fuseblk", "tntfs", "ufsd",
+			"fuse", "sdcardfs", "esdfs"));
+	private static final Set<String> EMULATED_FS_TYPES = new HashSet<String>(Arrays.asList(
+			"fuse", "sdcardfs", "esdfs"));
+	private static final String[] STORAGE_MOUNT_ROOTS = {"/storage/", "/mnt/"};
+	private static final String[] PRIVATE_MOUNT_ROOTS = {"/mnt/media_rw/",
+			"/mnt/runtime/", "/mnt/secure", "/mnt/asec", "/mnt/obb", "/mnt/user/",
+			"/mnt/expand/", "/mnt/shell/", "/storage/self"};
 
-	private static Method METHOD_StorageVolume_getStorageId;
-	private static Method METHOD_StorageVolume_getDescriptionId;
-	private static Method METHOD_StorageVolume_getDescription;
-	private static Method METHOD_StorageVolume_getPathFile;
-	private static Method METHOD_StorageVolume_getPath;
-	private static Method METHOD_StorageVolume_isRemovable;
-	private static Method METHOD_StorageVolume_isPrimary;
-	private static Method METHOD_StorageVolume_isEmulated;
-	private static Method METHOD_StorageVolume_getState;
-
-	static {
-		try {
-			Class<?> clazz;
-
-			clazz = Class.forName("android.os.ServiceManager");
-			METHOD_ServiceManager_getService = clazz.getMethod("getService",
-					String.class);
-
-			clazz = Class.forName("android.os.storage.IMountService$Stub");
-			METHOD_IMountService_asInterface = clazz.getMethod("asInterface",
-					IBinder.class);
-
-			clazz = Class.forName("android.os.storage.IMountService");
-			String methodName;
-			for (Method method : clazz.getDeclaredMethods()) {
-				methodName = method.getName();
-				if ("getVolumeList".equals(methodName)) {
-					METHOD_IMountService_getVolumeList = method;
-				} else if ("getVolumeState".equals(methodName)) {
-					METHOD_IMountService_getVolumeState = method;
-				} else if ("mountVolume".equals(methodName)) {
-					METHOD_IMountService_mountVolume = method;
-				} else if ("unmountVolume".equals(methodName)) {
-					METHOD_IMountService_unmountVolume = method;
-				} else if ("getStorageUsers".equals(methodName)) {
-					METHOD_IMountService_getStorageUsers = method;
-				} else if ("isUsbMassStorageEnabled".equals(methodName)) {
-					METHOD_IMountService_isUsbMassStorageEnabled = method;
+	/**
+	 * Accept the user visible storage mounts from the kernel mount table.
+	 */
+	private static final MountTableParser.Filter STORAGE_MOUNTS_FILTER = new MountTableParser.Filter() {
+		@Override
+		public boolean accept(String mountPoint, String fsType) {
+			if (!STORAGE_FS_TYPES.contains(fsType)) {
+				return false;
+			}
+			for (String root : PRIVATE_MOUNT_ROOTS) {
+				if (mountPoint.startsWith(root)) {
+					return false;
 				}
 			}
-
-			clazz = Class.forName("android.os.storage.StorageVolume");
-			for (Method method : clazz.getDeclaredMethods()) {
-				methodName = method.getName();
-				if ("getStorageId".equals(methodName)) {
-					METHOD_StorageVolume_getStorageId = method;
-				} else if ("getDescription".equals(methodName)) {
-					METHOD_StorageVolume_getDescription = method;
-				} else if ("getDescriptionId".equals(methodName)) {
-					METHOD_StorageVolume_getDescriptionId = method;
-				} else if ("getPath".equals(methodName)) {
-					METHOD_StorageVolume_getPath = method;
-				} else if ("getPathFile".equals(methodName)) {
-					METHOD_StorageVolume_getPathFile = method;
-				} else if ("isRemovable".equals(methodName)) {
-					METHOD_StorageVolume_isRemovable = method;
-				} else if ("isPrimary".equals(methodName)) {
-					METHOD_StorageVolume_isPrimary = method;
-				} else if ("isEmulated".equals(methodName)) {
-					METHOD_StorageVolume_isEmulated = method;
-				} else if ("getState".equals(methodName)) {
-					METHOD_StorageVolume_getState = method;
+			for (String root : STORAGE_MOUNT_ROOTS) {
+				if (mountPoint.startsWith(root)) {
+					return true;
 				}
 			}
-		} catch (Exception e) {
-			Log.wtf(TAG, e);
+			return false;
 		}
-	}
+	};
+	private static Context sContext;
+	private static volatile MountServiceAdapter sMountServiceAdapter;
 
-	private static Object invoke(Method method, Object receiver, Object... args) {
-		try {
-			if (method != null) {
-				return method.invoke(receiver, args);
-			}
-		} catch (IllegalArgumentException e) {
-			Log.e(TAG, e.getMessage(), e);
-			throw new AndroidRuntimeException(e);
-		} catch (IllegalAccessException e) {
-			Log.e(TAG, e.getMessage(), e);
-			throw new AndroidRuntimeException(e);
-		} catch (InvocationTargetException e) {
-			Log.e(TAG, e.getMessage(), e);
-			throw new AndroidRuntimeException(e);
-		} catch (Exception e) {
-			Log.e(TAG, e.getMessage(), e);
-			throw new AndroidRuntimeException(e);
+	public static class MountService {
+
+		/**
+		 * Set the application context, used to store the resolved hidden API
+		 * signatures. The methods are resolved only on the first mount service
+		 * call.
+		 *
+		 * @param context The application context.
+		 */
+		public static void init(Context context) {
+			sContext = context.getApplicationContext();
 		}
-		return null;
-	}
 
-	public static class MountService {
+		/**
+		 * Obtain the mount service adapter chosen for this platform.
+		 *
+		 * @return The mount service adapter.
+		 */
+		public static MountServiceAdapter getAdapter() {
+			MountServiceAdapter adapter = sMountServiceAdapter;
+			if (adapter == null) {
+				synchronized (MountService.class) {
+					adapter = sMountServiceAdapter;
+					if (adapter == null) {
+						adapter = ReflectionMountServiceAdapter.create(MountServiceProbe.resolve(sContext));
+						sMountServiceAdapter = adapter;
+					}
+				}
+			}
+			return adapter;
+		}
 
 		public static Object getService() {
-			Object service = invoke(METHOD_ServiceManager_getService, null,
-					SERVICE_MOUNT);
-			if (service != null) {
-				return invoke(METHOD_IMountService_asInterface, null, service);
-			}
-			return null;
+			return getAdapter().getService();
 		}
 
 		public static String getVolumeState(Object mountService,
 				String mountPoint) {
-			String state = Utils.INVALID_STATE;
-			try {
-				state = (String) invoke(METHOD_IMountService_getVolumeState,
-						mountService, mountPoint);
-			} catch (Exception e) {
-				Log.e(TAG, "getVolumeState(" + mountPoint + ")", e);
-			}
-			return state;
+			return getAdapter().getVolumeState(mountService, mountPoint);
 		}
 
 		public static int mountVolume(Object mountService, String mountPoint) {
-			return (Integer) invoke(METHOD_IMountService_mountVolume,
-					mountService, mountPoint);
+			return getAdapter().mountVolume(mountService, mountPoint);
 		}
 
 		public static void unmountVolume(Object mountService,
 				String mountPoint, boolean force) {
-			if (METHOD_IMountService_unmountVolume != null) {
-				switch (METHOD_IMountService_unmountVolume.getParameterTypes().length) {
-				case 1:
-					invoke(METHOD_IMountService_unmountVolume, mountService,
-							mountPoint);
-					break;
-				case 2:
-					invoke(METHOD_IMountService_unmountVolume, mountService,
-							mountPoint, force);
-					break;
-				case 3:
-					invoke(METHOD_IMountService_unmountVolume, mountService,
-							mountPoint, force, force);
-					break;
-				}
-			}
+			getAdapter().unmountVolume(mountService, mountPoint, force);
 		}
 
 		public static int[] getStorageUsers(Object mountService, String path) {
-			return (int[]) invoke(METHOD_IMountService_getStorageUsers,
-					mountService, path);
+			return getAdapter().getStorageUsers(mountService, path);
 		}
 
 		public static boolean isUsbMassStorageEnabled(Object mountService) {
-			return (Boolean) invoke(
-					METHOD_IMountService_isUsbMassStorageEnabled, mountService);
+			return getAdapter().isUsbMassStorageEnabled(mountService);
 		}
 
 		public static String getStorageVolumeDescription(Object obj, Context context) {
-			String result = null;
-			if (METHOD_StorageVolume_getDescription != null) {
-				switch (METHOD_StorageVolume_getDescription.getParameterTypes().length) {
-					case 0: result = (String) invoke(METHOD_StorageVolume_getDescription, obj);
-						break;
-					case 1: result = (String) invoke(METHOD_StorageVolume_getDescription, obj, context);
-						break;
-				}
-			}
-			return result;
+			return getAdapter().getStorageVolumeDescription(obj, context);
 		}
 
 		public static List<MountVolume> getVolumeList(Object mountService, Context context) {
-			Object[] arr = null;
-			if (METHOD_IMountService_getVolumeList != null) {
-				switch (METHOD_IMountService_getVolumeList.getParameterTypes().length) {
-					case 0: arr = (Object[]) invoke(METHOD_IMountService_getVolumeList, mountService);
-						break;
-					case 3: arr = (Object[]) invoke(METHOD_IMountService_getVolumeList, mountService, 0, "/", 0);
-						break;
-				}
-			}
-			return prepareMountVolumes(mountService, arr, context);
+			return getVolumeSnapshot(mountService, context).getVolumes();
 		}
 
-		private static List<MountVolume> prepareMountVolumes(Object mountService, Object[] arr, Context context) {
-			int len = arr != null ? arr.length : 0;
+		/**
+		 * Obtain the mount volumes and their states with as few binder calls
+		 * as possible: one call for the volume list and, only on platforms
+		 * where StorageVolume does not have the state, one call for each volume
+		 * which is not found mounted on the kernel mount table.
+		 *
+		 * @param mountService The mount service.
+		 * @param context      The application context.
+		 * @return The volumes snapshot.
+		 */
+		public static VolumeSnapshot getVolumeSnapshot(Object mountService, Context context) {
+			MountServiceAdapter adapter = getAdapter();
+			int ipcCount = 0;
+			Object[] arr = null;
+			// only the calls which reach the mount service are counted
+			if (mountService != null && adapter.hasVolumeList()) {
+				arr = adapter.getVolumeList(mountService);
+				ipcCount++;
+			}
 			List<MountVolume> volumes = new ArrayList<MountVolume>();
-			if (len > 0) {
+			if (arr != null && arr.length > 0) {
 				MountVolume volume;
+				Set<String> paths = new HashSet<String>();
 				for (Object obj : arr) {
-					volume = prepareMountVolume(mountService, obj, context);
+					volume = adapter.toMountVolume(obj, context);
 					if (volume != null) {
 						volumes.add(volume);
+						if (volume.getVolumeState() == null && !volume.isEmulated()) {
+							paths.add(volume.getPath());
+						}
+					}
+				}
+				Map<String, String> mountTable = paths.isEmpty() ? null : readMountTable(paths);
+				String state;
+				for (MountVolume mountVolume : volumes) {
+					if (mountVolume.getVolumeState() == null) {
+						state = mountTable != null ? mountTable.get(mountVolume.getPath()) : null;
+						if (state == null && adapter.hasVolumeState()) {
+							state = adapter.getVolumeState(mountService, mountVolume.getPath());
+							ipcCount++;
+						}
+						mountVolume.setVolumeState(state);
 					}
 				}
 			} else {
-				prepareVolumeStorages(volumes);
+				prepareMountTableVolumes(volumes);
+				if (volumes.isEmpty()) {
+					prepareVolumeStorages(volumes);
+				}
+			}
+			return new VolumeSnapshot(volumes, ipcCount, SystemClock.elapsedRealtime());
+		}
+
+		/**
+		 * Read the states of some paths from the kernel mount table. A mounted
+		 * path is reported as {@link Environment#MEDIA_MOUNTED} or
+		 * {@link Environment#MEDIA_MOUNTED_READ_ONLY}, as the mount service
+		 * would report it.
+		 *
+		 * @param paths The paths to check.
+		 * @return The states of the mounted paths.
+		 */
+		private static Map<String, String> readMountTable(final Set<String> paths) {
+			Map<String, String> mountTable = new HashMap<String, String>();
+			try {
+				List<MountVolume> mounts = MountTableParser.readMountTable(new MountTableParser.Filter() {
+					@Override
+					public boolean accept(String mountPoint, String fsType) {
+						return paths.contains(mountPoint);
+					}
+				});
+				for (MountVolume mount : mounts) {
+					mountTable.put(mount.getPath(), mount.isReadOnly()
+							? Environment.MEDIA_MOUNTED_READ_ONLY
+							: Environment.MEDIA_MOUNTED);
+				}
+			} catch (IOException e) {
+				Log.e(TAG, "readMountTable: " + e.getMessage(), e);
+			}
+			return mountTable;
+		}
+
+		/**
+		 * Obtain the storage volumes from the kernel mount table, used when the
+		 * mount service does not provide the volumes list.
+		 *
+		 * @param volumes The list where the found volumes are added.
+		 */
+		private static void prepareMountTableVolumes(List<MountVolume> volumes) {
+			List<MountVolume> mounts;
+			try {
+				mounts = MountTableParser.readMountTable(STORAGE_MOUNTS_FILTER);
+			} catch (IOException e) {
+				Log.e(TAG, "prepareMountTableVolumes: " + e.getMessage(), e);
+				return;
+			}
+			String primaryPath = Environment.getExternalStorageDirectory().getPath();
+			// a mount point can be mounted over, the last mount is the visible one
+			Map<String, MountVolume> byPath = new LinkedHashMap<String, MountVolume>();
+			boolean emulated;
+			for (MountVolume volume : mounts) {
+				emulated = EMULATED_FS_TYPES.contains(volume.getFsType())
+						&& (volume.getPath().contains("emulated")
+						|| volume.getSourceDevice().startsWith("/data/media"));
+				if (emulated && primaryPath.startsWith(volume.getPath() + "/")) {
+					// the emulated root contains the primary storage of the user
+					volume.setPathFile(new File(primaryPath));
+				}
+				volume.setEmulated(emulated);
+				volume.setRemovable(!emulated);
+				volume.setPrimary(primaryPath.equals(volume.getPath()));
+				volume.setVolumeState(volume.isReadOnly()
+						? Environment.MEDIA_MOUNTED_READ_ONLY
+						: Environment.MEDIA_MOUNTED);
+				byPath.remove(volume.getPath());
+				byPath.put(volume.getPath(), volume);
+			}
+			int index = 0;
+			for (MountVolume volume : byPath.values()) {
+				// same storage id scheme as the platform MTP storage ids
+				volume.setStorageId(((++index) << 16) | 1);
+				volumes.add(volume);
 			}
-			return volumes;
 		}
 
 		private static void prepareVolumeStorages(List<MountVolume> volumes) {
@@ -263,53 +294,6 @@ public class Utils {
 				}
 			}
 		}
-
-		private static MountVolume prepareMountVolume(Object mountService,
-				Object obj, Context context) {
-			MountVolume volume = null;
-			if ("android.os.storage.StorageVolume".equals(obj.getClass()
-					.getName())) {
-				try {
-					volume = new MountVolume();
-					volume.setStorageId((Integer) invoke(
-							METHOD_StorageVolume_getStorageId, obj));
-					if (METHOD_StorageVolume_getPathFile != null) {
-						volume.setPathFile((File) invoke(
-								METHOD_StorageVolume_getPathFile, obj));
-					} else if (METHOD_StorageVolume_getPath != null) {
-						String path = (String) invoke(
-								METHOD_StorageVolume_getPath, obj);
-						volume.setPathFile(new File(path));
-					}
-					if (METHOD_StorageVolume_isPrimary != null) {
-						volume.setPrimary((Boolean) invoke(
-								METHOD_StorageVolume_isPrimary, obj));
-					}
-					if (METHOD_StorageVolume_isEmulated != null) {
-						volume.setEmulated((Boolean) invoke(
-								METHOD_StorageVolume_isEmulated, obj));
-					}
-					volume.setRemovable((Boolean) invoke(
-							METHOD_StorageVolume_isRemovable, obj));
-					if (METHOD_StorageVolume_getDescriptionId != null) {
-						volume.setDescriptionId((Integer) invoke(
-								METHOD_StorageVolume_getDescriptionId, obj));
-					} else if (METHOD_StorageVolume_getDescription != null) {
-						volume.setDescription(getStorageVolumeDescription(obj, context));
-					}
-					if (METHOD_StorageVolume_getState != null) {
-						volume.setVolumeState((String) invoke(METHOD_StorageVolume_getState, obj));
-					} else if (METHOD_IMountService_getVolumeState != null) {
-						volume.setVolumeState(getVolumeState(mountService,
-								volume.getPath()));
-					}
-				} catch (Exception e) {
-					Log.e(TAG, "Exception: " + e.getMessage() + " volume: " + volume, e);
-					throw new AndroidRuntimeException(e);
-				}
-			}
-			return volume;
-		}
 	}
 
 	/**
@@ -0,0 +1,89 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.model.VolumeDelta;
+
+/**
+ * Compare two mount volume lists. A volume is identified by its path and its
+ * storage id, so a different card mounted on the same path is reported as a
+ * removed volume followed by an added one.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class VolumeDiff {
+
+	private VolumeDiff() {
+	}
+
+	/**
+	 * Compute the changes from a previous volume list to a current one. The
+	 * removed volumes are reported first, then the added and the changed
+	 * volumes in the current list order.
+	 *
+	 * @param previous The previous volumes, or null if there were no volumes.
+	 * @param current  The current volumes, or null if there are no volumes.
+	 * @return The list of changes, empty if the lists are equivalent.
+	 */
+	public static List<VolumeDelta> compare(List<MountVolume> previous, List<MountVolume> current) {
+		List<VolumeDelta> deltas = new ArrayList<VolumeDelta>();
+		int previousSize = previous != null ? previous.size() : 0;
+		int currentSize = current != null ? current.size() : 0;
+		Map<String, MountVolume> previousByPath = new HashMap<String, MountVolume>(previousSize * 2);
+		for (int i = 0; i < previousSize; i++) {
+			MountVolume volume = previous.get(i);
+			previousByPath.put(volume.getPath(), volume);
+		}
+		Map<String, MountVolume> currentByPath = new HashMap<String, MountVolume>(currentSize * 2);
+		for (int i = 0; i < currentSize; i++) {
+			MountVolume volume = current.get(i);
+			currentByPath.put(volume.getPath(), volume);
+		}
+		for (int i = 0; i < previousSize; i++) {
+			MountVolume volume = previous.get(i);
+			if (!isSameVolume(volume, currentByPath.get(volume.getPath()))) {
+				deltas.add(new VolumeDelta(VolumeDelta.TYPE_REMOVED, volume, null));
+			}
+		}
+		for (int i = 0; i < currentSize; i++) {
+			MountVolume volume = current.get(i);
+			MountVolume old = previousByPath.get(volume.getPath());
+			if (!isSameVolume(old, volume)) {
+				deltas.add(new VolumeDelta(VolumeDelta.TYPE_ADDED, null, volume));
+			} else if (!equals(old.getVolumeState(), volume.getVolumeState())) {
+				deltas.add(new VolumeDelta(VolumeDelta.TYPE_STATE_CHANGED, old, volume));
+			}
+		}
+		return deltas;
+	}
+
+	private static boolean isSameVolume(MountVolume first, MountVolume second) {
+		return first != null && second != null && first.getStorageId() == second.getStorageId();
+	}
+
+	private static boolean equals(String first, String second) {
+		return first == null ? second == null : first.equals(second);
+	}
+}
@@ -0,0 +1,406 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ro.ciubex.storageinfo.model.VolumeUser;
+
+/**
+ * Find the processes which hold files of a volume open, the reason why a
+ * volume cannot be unmounted. For each process are checked the file
+ * descriptor links from /proc/[pid]/fd and the mapped files from
+ * /proc/[pid]/maps.
+ * <p/>
+ * The processes are split between a few daemon threads and the scan is
+ * stopped when the time budget is spent, the processes found so far are
+ * returned and the scan is marked as not complete. The processes which can
+ * not be read, usually owned by other users, are only counted.
+ * <p/>
+ * The scanner uses only plain Java, so it can be used with a synthetic proc
+ * tree.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class VolumeUsersScanner {
+	public static final String PROC = "/proc";
+	private static final int DEFAULT_THREADS = 4;
+	private static final int CMDLINE_SIZE = 256;
+
+	private final File mProcRoot;
+	private final String[] mPrefixes;
+	private final List<VolumeUser> mUsers = new ArrayList<VolumeUser>();
+	private final AtomicInteger mNextProcess = new AtomicInteger();
+	private final AtomicInteger mScannedProcesses = new AtomicInteger();
+	private final AtomicInteger mUnreadableProcesses = new AtomicInteger();
+	private String[] mPids;
+	private volatile long mDeadline;
+	private volatile boolean mComplete;
+	private long mDuration;
+
+	/**
+	 * Create a scanner for the system proc file system.
+	 *
+	 * @param volumePath The volume path.
+	 */
+	public VolumeUsersScanner(String volumePath) {
+		this(new File(PROC), volumePath);
+	}
+
+	/**
+	 * Create a scanner.
+	 *
+	 * @param procRoot   The proc file system root.
+	 * @param volumePath The volume path.
+	 */
+	public VolumeUsersScanner(File procRoot, String volumePath) {
+		mProcRoot = procRoot;
+		String canonicalPath = volumePath;
+		try {
+			canonicalPath = new File(volumePath).getCanonicalPath();
+		} catch (IOException e) {
+			// use the volume path as it is
+		}
+		if (canonicalPath.equals(volumePath)) {
+			mPrefixes = new String[]{volumePath};
+		} else {
+			mPrefixes = new String[]{volumePath, canonicalPath};
+		}
+	}
+
+	/**
+	 * Scan the processes with the default number of threads.
+	 *
+	 * @param budget The time budget in milliseconds.
+	 * @return The processes found, ordered by pid.
+	 */
+	public List<VolumeUser> scan(long budget) {
+		return scan(budget, DEFAULT_THREADS, null);
+	}
+
+	/**
+	 * Scan the processes.
+	 *
+	 * @param budget    The time budget in milliseconds.
+	 * @param threads   The number of scanning threads.
+	 * @param knownPids The processes reported by the mount service as using
+	 *                  the volume, added to the result even if their files
+	 *                  could not be read. Can be null.
+	 * @return The processes found, ordered by pid.
+	 */
+	public List<VolumeUser> scan(long budget, int threads, int[] knownPids) {
+		long start = System.nanoTime();
+		mDeadline = start + TimeUnit.MILLISECONDS.toNanos(budget);
+		mPids = listPids();
+		final CountDownLatch latch = new CountDownLatch(threads);
+		Runnable worker = new Runnable() {
+			@Override
+			public void run() {
+				try {
+					scanProcesses();
+				} finally {
+					latch.countDown();
+				}
+			}
+		};
+		for (int i = 0; i < threads; i++) {
+			Thread thread = new Thread(worker, "VolumeUsersScanner-" + i);
+			thread.setDaemon(true);
+			thread.start();
+		}
+		boolean finished = false;
+		try {
+			finished = latch.await(budget, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		// the late workers stop at their next process
+		mDeadline = start;
+		List<VolumeUser> users;
+		synchronized (mUsers) {
+			mComplete = finished && mScannedProcesses.get() == mPids.length;
+			users = new ArrayList<VolumeUser>(mUsers);
+		}
+		if (knownPids != null) {
+			addKnownPids(users, knownPids);
+		}
+		Collections.sort(users, new Comparator<VolumeUser>() {
+			@Override
+			public int compare(VolumeUser lhs, VolumeUser rhs) {
+				return lhs.getPid() < rhs.getPid() ? -1 : (lhs.getPid() == rhs.getPid() ? 0 : 1);
+			}
+		});
+		mDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		return users;
+	}
+
+	/**
+	 * @return True if all the processes were scanned within the time budget.
+	 */
+	public boolean isComplete() {
+		return mComplete;
+	}
+
+	public int getScannedProcesses() {
+		return mScannedProcesses.get();
+	}
+
+	public int getUnreadableProcesses() {
+		return mUnreadableProcesses.get();
+	}
+
+	/**
+	 * @return The last scan duration in milliseconds.
+	 */
+	public long getDuration() {
+		return mDuration;
+	}
+
+	@Override
+	public String toString() {
+		return "VolumeUsersScanner{" +
+				"procRoot=" + mProcRoot +
+				", volume=" + mPrefixes[0] +
+				", processes=" + (mPids != null ? mPids.length : 0) +
+				", scanned=" + mScannedProcesses.get() +
+				", unreadable=" + mUnreadableProcesses.get() +
+				", complete=" + mComplete +
+				", duration=" + mDuration +
+				'}';
+	}
+
+	/**
+	 * Obtain the numeric directories of the proc file system.
+	 */
+	private String[] listPids() {
+		String[] names = mProcRoot.list();
+		if (names == null) {
+			return new String[0];
+		}
+		int count = 0;
+		for (String name : names) {
+			if (isNumber(name)) {
+				names[count++] = name;
+			}
+		}
+		String[] pids = new String[count];
+		System.arraycopy(names, 0, pids, 0, count);
+		return pids;
+	}
+
+	private static boolean isNumber(String name) {
+		int length = name.length();
+		if (length == 0) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			char c = name.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Take the next process until all are scanned or the time is over.
+	 */
+	private void scanProcesses() {
+		int index;
+		while ((index = mNextProcess.getAndIncrement()) < mPids.length
+				&& System.nanoTime() < mDeadline) {
+			VolumeUser user = scanProcess(mPids[index]);
+			synchronized (mUsers) {
+				if (System.nanoTime() < mDeadline) {
+					if (user != null) {
+						mUsers.add(user);
+					}
+					mScannedProcesses.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check the files of a process.
+	 *
+	 * @param pid The process id.
+	 * @return The process, or null if it does not use the volume.
+	 */
+	private VolumeUser scanProcess(String pid) {
+		File processDir = new File(mProcRoot, pid);
+		File fdDir = new File(processDir, "fd");
+		String[] fds = fdDir.list();
+		if (fds == null) {
+			mUnreadableProcesses.incrementAndGet();
+			return null;
+		}
+		Set<String> openFiles = new LinkedHashSet<String>();
+		String path;
+		for (String fd : fds) {
+			try {
+				path = new File(fdDir, fd).getCanonicalPath();
+				if (isOnVolume(path)) {
+					openFiles.add(path);
+				}
+			} catch (IOException e) {
+				// the descriptor was closed meanwhile
+			}
+		}
+		Set<String> mappedFiles = readMaps(new File(processDir, "maps"));
+		if (openFiles.isEmpty() && mappedFiles.isEmpty()) {
+			return null;
+		}
+		VolumeUser user = new VolumeUser(Integer.parseInt(pid));
+		user.setName(readName(processDir));
+		user.getOpenFiles().addAll(openFiles);
+		user.getMappedFiles().addAll(mappedFiles);
+		return user;
+	}
+
+	/**
+	 * Read the mapped files of the volume. Each maps line has the address,
+	 * permissions, offset, device, inode and the optional path, which can
+	 * contain spaces.
+	 */
+	private Set<String> readMaps(File maps) {
+		Set<String> mappedFiles = new LinkedHashSet<String>();
+		BufferedReader reader = null;
+		try {
+			reader = new BufferedReader(new FileReader(maps));
+			String line, path;
+			int position;
+			while ((line = reader.readLine()) != null) {
+				position = skipFields(line, 5);
+				if (position < line.length() && line.charAt(position) == '/') {
+					path = line.substring(position);
+					if (path.endsWith(" (deleted)")) {
+						path = path.substring(0, path.length() - 10);
+					}
+					if (isOnVolume(path)) {
+						mappedFiles.add(path);
+					}
+				}
+			}
+		} catch (IOException e) {
+			// the process is not readable or is gone
+		} finally {
+			Utils.doClose(reader);
+		}
+		return mappedFiles;
+	}
+
+	/**
+	 * @return The position of the first non blank character after the given
+	 * number of fields.
+	 */
+	private static int skipFields(String line, int fields) {
+		int position = 0, length = line.length();
+		for (int i = 0; i <= fields; i++) {
+			while (position < length && line.charAt(position) == ' ') {
+				position++;
+			}
+			if (i < fields) {
+				while (position < length && line.charAt(position) != ' ') {
+					position++;
+				}
+			}
+		}
+		return position;
+	}
+
+	private boolean isOnVolume(String path) {
+		for (String prefix : mPrefixes) {
+			if (path.startsWith(prefix) && (path.length() == prefix.length()
+					|| prefix.endsWith("/") || path.charAt(prefix.length()) == '/')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Read the process name, the first command line argument or the command
+	 * name for the kernel threads.
+	 */
+	private static String readName(File processDir) {
+		String name = readString(new File(processDir, "cmdline"));
+		if (name == null || name.length() == 0) {
+			name = readString(new File(processDir, "comm"));
+		}
+		return name;
+	}
+
+	private static String readString(File file) {
+		InputStream input = null;
+		try {
+			input = new FileInputStream(file);
+			byte[] buffer = new byte[CMDLINE_SIZE];
+			int length = 0, read;
+			while (length < buffer.length
+					&& (read = input.read(buffer, length, buffer.length - length)) > 0) {
+				length += read;
+			}
+			int end = 0;
+			while (end < length && buffer[end] != 0 && buffer[end] != '\n') {
+				end++;
+			}
+			return new String(buffer, 0, end, "UTF-8");
+		} catch (IOException e) {
+			return null;
+		} finally {
+			Utils.doClose(input);
+		}
+	}
+
+	/**
+	 * Add the processes reported by the mount service which were not found,
+	 * usually because their files are not readable.
+	 */
+	private void addKnownPids(List<VolumeUser> users, int[] knownPids) {
+		for (int pid : knownPids) {
+			boolean found = false;
+			for (VolumeUser user : users) {
+				if (user.getPid() == pid) {
+					found = true;
+					break;
+				}
+			}
+			if (!found) {
+				VolumeUser user = new VolumeUser(pid);
+				user.setName(readName(new File(mProcRoot, String.valueOf(pid))));
+				users.add(user);
+			}
+		}
+	}
+}
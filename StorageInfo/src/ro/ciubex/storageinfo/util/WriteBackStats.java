@@ -0,0 +1,220 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.List;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+
+/**
+ * Read the amount of data not yet written to the storages. The page cache
+ * totals are read from the Dirty and Writeback lines of /proc/meminfo, these
+ * are for all the devices. When the block device of a volume can be found,
+ * the number of requests in flight are read from its sysfs stat file.
+ * <p/>
+ * The class uses only plain Java, so it can be used with synthetic files.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class WriteBackStats {
+	public static final String PROC_MEMINFO = "/proc/meminfo";
+	public static final String SYS_DEV_BLOCK = "/sys/dev/block";
+	private static final String DIRTY = "Dirty:";
+	private static final String WRITEBACK = "Writeback:";
+	private static final int STAT_IN_FLIGHT = 8;
+
+	private final File mMeminfo;
+	private final File mDeviceStat;
+	private long mDirtyBytes;
+	private long mWritebackBytes;
+	private long mInFlight;
+
+	/**
+	 * Create the statistics reader.
+	 *
+	 * @param meminfo    The meminfo file.
+	 * @param deviceStat The block device stat file, can be null.
+	 */
+	public WriteBackStats(File meminfo, File deviceStat) {
+		mMeminfo = meminfo;
+		mDeviceStat = deviceStat != null && deviceStat.canRead() ? deviceStat : null;
+	}
+
+	/**
+	 * Create the statistics reader for a volume.
+	 *
+	 * @param volumePath The volume path.
+	 * @return The statistics reader, with the volume block device if it was
+	 * found on the mount table.
+	 */
+	public static WriteBackStats forVolume(String volumePath) {
+		String device = findDevice(new File(MountTableParser.PROC_SELF_MOUNTINFO), volumePath);
+		return new WriteBackStats(new File(PROC_MEMINFO),
+				device != null ? new File(new File(SYS_DEV_BLOCK, device), "stat") : null);
+	}
+
+	/**
+	 * Find the block device of a mount point. The mount point can be a
+	 * symbolic link to the mounted directory, like /sdcard.
+	 *
+	 * @param mountinfo  The mountinfo file.
+	 * @param mountPoint The mount point.
+	 * @return The device major:minor numbers, or null if the mount point was
+	 * not found.
+	 */
+	public static String findDevice(File mountinfo, final String mountPoint) {
+		String canonicalPath;
+		try {
+			canonicalPath = new File(mountPoint).getCanonicalPath();
+		} catch (IOException e) {
+			canonicalPath = mountPoint;
+		}
+		final String path = canonicalPath;
+		try {
+			List<MountVolume> mounts = MountTableParser.read(mountinfo,
+					MountTableParser.FORMAT_MOUNTINFO, new MountTableParser.Filter() {
+						@Override
+						public boolean accept(String point, String fsType) {
+							return point.equals(path) || point.equals(mountPoint);
+						}
+					});
+			// the last mount over the same point is the visible one
+			if (!mounts.isEmpty()) {
+				return mounts.get(mounts.size() - 1).getDeviceNumber();
+			}
+		} catch (IOException e) {
+			// the device stays unknown
+		}
+		return null;
+	}
+
+	/**
+	 * Read the current values.
+	 *
+	 * @return True if the page cache values could be read.
+	 */
+	public boolean read() {
+		boolean read = readMeminfo();
+		mInFlight = mDeviceStat != null ? readInFlight() : 0;
+		return read;
+	}
+
+	private boolean readMeminfo() {
+		BufferedReader reader = null;
+		int found = 0;
+		try {
+			reader = new BufferedReader(new FileReader(mMeminfo));
+			String line;
+			while (found < 2 && (line = reader.readLine()) != null) {
+				if (line.startsWith(DIRTY)) {
+					mDirtyBytes = parseKilobytes(line, DIRTY.length());
+					found++;
+				} else if (line.startsWith(WRITEBACK)) {
+					mWritebackBytes = parseKilobytes(line, WRITEBACK.length());
+					found++;
+				}
+			}
+		} catch (IOException e) {
+			// the values are not available
+		} finally {
+			Utils.doClose(reader);
+		}
+		return found == 2;
+	}
+
+	/**
+	 * Parse a meminfo value, a number of kilobytes followed by the "kB" unit.
+	 */
+	private static long parseKilobytes(String line, int start) {
+		long value = 0;
+		int length = line.length();
+		char c;
+		for (int i = start; i < length; i++) {
+			c = line.charAt(i);
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+			} else if (c != ' ' && c != '\t') {
+				break;
+			}
+		}
+		return value * 1024;
+	}
+
+	private long readInFlight() {
+		BufferedReader reader = null;
+		try {
+			reader = new BufferedReader(new FileReader(mDeviceStat));
+			String line = reader.readLine();
+			if (line != null) {
+				String[] fields = line.trim().split("\\s+");
+				if (fields.length > STAT_IN_FLIGHT) {
+					return Long.parseLong(fields[STAT_IN_FLIGHT]);
+				}
+			}
+		} catch (IOException e) {
+			// the device is gone
+		} catch (NumberFormatException e) {
+			// unknown stat format
+		} finally {
+			Utils.doClose(reader);
+		}
+		return 0;
+	}
+
+	public long getDirtyBytes() {
+		return mDirtyBytes;
+	}
+
+	public long getWritebackBytes() {
+		return mWritebackBytes;
+	}
+
+	/**
+	 * @return The bytes waiting to be written, dirty or under write-back.
+	 */
+	public long getPendingBytes() {
+		return mDirtyBytes + mWritebackBytes;
+	}
+
+	/**
+	 * @return The requests in flight on the volume block device, 0 if the
+	 * device is not known.
+	 */
+	public long getInFlight() {
+		return mInFlight;
+	}
+
+	public boolean hasDevice() {
+		return mDeviceStat != null;
+	}
+
+	@Override
+	public String toString() {
+		return "WriteBackStats{" +
+				"dirty=" + mDirtyBytes +
+				", writeback=" + mWritebackBytes +
+				", device=" + mDeviceStat +
+				", inFlight=" + mInFlight +
+				'}';
+	}
+}
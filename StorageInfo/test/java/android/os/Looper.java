@@ -0,0 +1,170 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package android.os;
+
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * The main looper of the JVM unit tests, it replaces the android.jar stub.
+ * The messages are run on the test thread only when the test drives the
+ * looper, and the time is virtual, {@link SystemClock} returns the looper
+ * time. The messages can be posted from any thread.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public final class Looper {
+	private static final Looper sMainLooper = new Looper();
+
+	private final PriorityQueue<Message> mQueue = new PriorityQueue<Message>();
+	private long mTime;
+	private long mSequence;
+
+	/**
+	 * A posted runnable, ordered by its time and then by the post order.
+	 */
+	private static final class Message implements Comparable<Message> {
+		private final Handler mHandler;
+		private final Runnable mRunnable;
+		private final long mWhen;
+		private final long mSequence;
+
+		private Message(Handler handler, Runnable runnable, long when, long sequence) {
+			mHandler = handler;
+			mRunnable = runnable;
+			mWhen = when;
+			mSequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Message other) {
+			if (mWhen != other.mWhen) {
+				return mWhen < other.mWhen ? -1 : 1;
+			}
+			return mSequence < other.mSequence ? -1 : (mSequence == other.mSequence ? 0 : 1);
+		}
+	}
+
+	private Looper() {
+	}
+
+	public static Looper getMainLooper() {
+		return sMainLooper;
+	}
+
+	public static Looper myLooper() {
+		return sMainLooper;
+	}
+
+	/**
+	 * Drop all the messages and set the time back to zero, should be
+	 * invoked before each test.
+	 */
+	public static void reset() {
+		synchronized (sMainLooper) {
+			sMainLooper.mQueue.clear();
+			sMainLooper.mTime = 0;
+		}
+	}
+
+	/**
+	 * @return The virtual time, in milliseconds.
+	 */
+	public static long now() {
+		synchronized (sMainLooper) {
+			return sMainLooper.mTime;
+		}
+	}
+
+	/**
+	 * Run the messages which are due, without moving the time.
+	 *
+	 * @return True if a message was run.
+	 */
+	public static boolean runDue() {
+		boolean ran = false;
+		Message message;
+		while ((message = sMainLooper.next(false)) != null) {
+			message.mRunnable.run();
+			ran = true;
+		}
+		return ran;
+	}
+
+	/**
+	 * Move the time to the first delayed message and run it.
+	 *
+	 * @return False if there is no message.
+	 */
+	public static boolean runNext() {
+		Message message = sMainLooper.next(true);
+		if (message != null) {
+			message.mRunnable.run();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Run the messages due in the next milliseconds, in order, moving the
+	 * time to each message and at the end to the requested time.
+	 *
+	 * @param millis The time to advance.
+	 */
+	public static void advance(long millis) {
+		long end = now() + millis;
+		Message message;
+		while (true) {
+			synchronized (sMainLooper) {
+				message = sMainLooper.mQueue.peek();
+				if (message == null || message.mWhen > end) {
+					sMainLooper.mTime = end;
+					return;
+				}
+				sMainLooper.mQueue.poll();
+				sMainLooper.mTime = Math.max(sMainLooper.mTime, message.mWhen);
+			}
+			message.mRunnable.run();
+		}
+	}
+
+	private synchronized Message next(boolean moveTime) {
+		Message message = mQueue.peek();
+		if (message == null || (!moveTime && message.mWhen > mTime)) {
+			return null;
+		}
+		mTime = Math.max(mTime, message.mWhen);
+		return mQueue.poll();
+	}
+
+	synchronized void post(Handler handler, Runnable runnable, long delay) {
+		mQueue.add(new Message(handler, runnable, mTime + Math.max(0, delay), mSequence++));
+	}
+
+	synchronized void remove(Handler handler, Runnable runnable) {
+		Iterator<Message> iterator = mQueue.iterator();
+		Message message;
+		while (iterator.hasNext()) {
+			message = iterator.next();
+			if (message.mHandler == handler && message.mRunnable == runnable) {
+				iterator.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package android.os;
+
+/**
+ * The clock of the JVM unit tests, it replaces the android.jar stub and
+ * returns the virtual time of the test {@link Looper}.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public final class SystemClock {
+
+	private SystemClock() {
+	}
+
+	public static long elapsedRealtime() {
+		return Looper.now();
+	}
+
+	public static long uptimeMillis() {
+		return Looper.now();
+	}
+}
@@ -0,0 +1,194 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.background;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.util.MountTableParser;
+
+import android.os.Looper;
+
+/**
+ * Test the periodic mount table watcher against a mount table file changed by
+ * the test. The watcher reads the file on its own thread, with short
+ * intervals, and the listener is called when the test runs the looper.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class MountTableWatcherTest implements MountTableWatcher.Listener {
+	private static final long MIN_POLL_INTERVAL = 10;
+	private static final long MAX_POLL_INTERVAL = 80;
+	private static final long WAIT_TIMEOUT = 10000;
+	private static final String SYSTEM_MOUNT = "/dev/block/mmcblk0p9 /system ext4 ro,noatime 0 0\n";
+	private static final String SYSTEM_REMOUNT = "/dev/block/mmcblk0p9 /system ext4 rw,noatime 0 0\n";
+	private static final String EMULATED_MOUNT = "/dev/fuse /storage/emulated fuse rw,nosuid 0 0\n";
+	private static final String USB_MOUNT = "/dev/block/vold/8:1 /mnt/media_rw/usb vfat rw,dirsync 0 0\n";
+
+	private File mMountTable;
+	private MountTableWatcher mWatcher;
+	private int mChanges;
+
+	private interface Condition {
+		public boolean isTrue();
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		Looper.reset();
+		mMountTable = File.createTempFile("mounts", null);
+		writeMountTable(SYSTEM_MOUNT + EMULATED_MOUNT);
+		mWatcher = new MountTableWatcher(this, mMountTable, MountTableParser.FORMAT_MOUNTS,
+				MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+	}
+
+	@After
+	public void tearDown() {
+		mWatcher.close();
+		mMountTable.delete();
+	}
+
+	@Override
+	public void onMountTableChanged() {
+		mChanges++;
+	}
+
+	/**
+	 * Replace the mount table, so the watcher never reads a partial file.
+	 */
+	private void writeMountTable(String content) throws IOException {
+		File file = new File(mMountTable.getPath() + ".new");
+		FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		assertTrue(file.renameTo(mMountTable));
+	}
+
+	private static void waitFor(String message, Condition condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (!condition.isTrue()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail(message);
+			}
+			Thread.sleep(5);
+		}
+	}
+
+	private void waitForWakeups(final long count) throws InterruptedException {
+		final long wakeups = mWatcher.getWakeups() + count;
+		waitFor("wakeups " + mWatcher.getWakeups(), new Condition() {
+			@Override
+			public boolean isTrue() {
+				return mWatcher.getWakeups() >= wakeups;
+			}
+		});
+	}
+
+	private void waitForChanges(final long count) throws InterruptedException {
+		waitFor("changes " + mWatcher.getChanges(), new Condition() {
+			@Override
+			public boolean isTrue() {
+				return mWatcher.getChanges() >= count;
+			}
+		});
+	}
+
+	@Test
+	public void testStorageMountChange() throws Exception {
+		mWatcher.start();
+		waitForWakeups(1);
+		assertFalse(mWatcher.isEventDriven());
+		assertEquals(0, mWatcher.getChanges());
+
+		writeMountTable(SYSTEM_MOUNT + EMULATED_MOUNT + USB_MOUNT);
+		waitForChanges(1);
+		Looper.runDue();
+		assertEquals(1, mChanges);
+
+		writeMountTable(SYSTEM_MOUNT + EMULATED_MOUNT);
+		waitForChanges(2);
+		Looper.runDue();
+		assertEquals(2, mChanges);
+	}
+
+	@Test
+	public void testOtherMountChangeIgnored() throws Exception {
+		mWatcher.start();
+		waitForWakeups(1);
+		writeMountTable(SYSTEM_REMOUNT + EMULATED_MOUNT);
+		waitForWakeups(3);
+		Looper.runDue();
+		assertEquals(0, mWatcher.getChanges());
+		assertEquals(0, mChanges);
+	}
+
+	@Test
+	public void testAdaptiveInterval() throws Exception {
+		mWatcher.start();
+		waitFor("poll interval " + mWatcher.getPollInterval(), new Condition() {
+			@Override
+			public boolean isTrue() {
+				return mWatcher.getPollInterval() == MAX_POLL_INTERVAL;
+			}
+		});
+		long wakeups = mWatcher.getWakeups();
+		// 10, 20, 40 and 80 ms reads until the maximum interval
+		assertTrue("wakeups " + wakeups, wakeups >= 3);
+
+		writeMountTable(SYSTEM_MOUNT + EMULATED_MOUNT + USB_MOUNT);
+		waitForChanges(1);
+		// the next read is done sooner after a change
+		waitFor("poll interval " + mWatcher.getPollInterval(), new Condition() {
+			@Override
+			public boolean isTrue() {
+				return mWatcher.getPollInterval() < MAX_POLL_INTERVAL;
+			}
+		});
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		mWatcher.start();
+		waitForWakeups(1);
+		writeMountTable(SYSTEM_MOUNT + EMULATED_MOUNT + USB_MOUNT);
+		waitForChanges(1);
+		// the change reported before close is not delivered after close
+		mWatcher.close();
+		Looper.runDue();
+		assertEquals(0, mChanges);
+		// let a read which was already running to end
+		Thread.sleep(MAX_POLL_INTERVAL);
+		long wakeups = mWatcher.getWakeups();
+		Thread.sleep(MAX_POLL_INTERVAL * 3);
+		assertEquals(wakeups, mWatcher.getWakeups());
+	}
+}
@@ -0,0 +1,122 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+/**
+ * Test the capacity history ring buffer order, its wrap-around and that
+ * adding samples does not allocate.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class CapacityHistoryTest {
+	private static final int CAPACITY = 8;
+	private static final long GB = 1024L * 1024 * 1024;
+
+	private static void addSample(CapacityHistory history, long timestamp) {
+		history.add(timestamp, 32 * GB, 32 * GB - timestamp, 31 * GB - timestamp);
+	}
+
+	private static void assertSample(long timestamp, long[] sample) {
+		assertEquals(timestamp, sample[CapacityHistory.SAMPLE_TIMESTAMP]);
+		assertEquals(32 * GB, sample[CapacityHistory.SAMPLE_TOTAL_BYTES]);
+		assertEquals(32 * GB - timestamp, sample[CapacityHistory.SAMPLE_FREE_BYTES]);
+		assertEquals(31 * GB - timestamp, sample[CapacityHistory.SAMPLE_AVAILABLE_BYTES]);
+	}
+
+	@Test
+	public void testEmpty() {
+		CapacityHistory history = new CapacityHistory(CAPACITY);
+		long[] sample = new long[CapacityHistory.SAMPLE_LENGTH];
+		assertEquals(CAPACITY, history.getCapacity());
+		assertEquals(0, history.size());
+		assertFalse(history.getLatest(sample));
+		assertFalse(history.getSample(0, sample));
+		assertEquals(-1, history.getLatestTimestamp());
+	}
+
+	@Test
+	public void testPartial() {
+		CapacityHistory history = new CapacityHistory(CAPACITY);
+		long[] sample = new long[CapacityHistory.SAMPLE_LENGTH];
+		for (int i = 1; i <= 3; i++) {
+			addSample(history, i * 1000);
+		}
+		assertEquals(3, history.size());
+		for (int i = 0; i < 3; i++) {
+			assertTrue(history.getSample(i, sample));
+			assertSample((i + 1) * 1000, sample);
+		}
+		assertFalse(history.getSample(3, sample));
+		assertFalse(history.getSample(-1, sample));
+		assertTrue(history.getLatest(sample));
+		assertSample(3000, sample);
+		assertEquals(3000, history.getLatestTimestamp());
+	}
+
+	@Test
+	public void testWrapAround() {
+		CapacityHistory history = new CapacityHistory(CAPACITY);
+		long[] sample = new long[CapacityHistory.SAMPLE_LENGTH];
+		int count = CAPACITY * 3 + 5;
+		for (int i = 1; i <= count; i++) {
+			addSample(history, i * 1000);
+			assertEquals(Math.min(i, CAPACITY), history.size());
+			assertEquals(i * 1000, history.getLatestTimestamp());
+		}
+		// only the newest samples are kept, from the oldest to the newest
+		for (int i = 0; i < CAPACITY; i++) {
+			assertTrue(history.getSample(i, sample));
+			assertSample((count - CAPACITY + 1 + i) * 1000, sample);
+		}
+		assertTrue(history.getLatest(sample));
+		assertSample(count * 1000, sample);
+	}
+
+	@Test
+	public void testAddDoesNotAllocate() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		CapacityHistory history = new CapacityHistory(CAPACITY);
+		long[] sample = new long[CapacityHistory.SAMPLE_LENGTH];
+		long threadId = Thread.currentThread().getId();
+		for (int i = 0; i < 10000; i++) {
+			addSample(history, i);
+			history.getLatest(sample);
+		}
+		long start = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 100000; i++) {
+			addSample(history, i);
+			history.getLatest(sample);
+		}
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+		assertTrue("allocated " + allocated + " bytes", allocated < 256);
+	}
+}
@@ -0,0 +1,130 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+
+import android.os.Looper;
+
+/**
+ * Test the order of a bulk eject with nested volumes. The safe ejects are
+ * created but not started, their outcome is reported directly to the task.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class BulkEjectTaskTest implements BulkEjectTask.Listener {
+	private final List<SafeEjectTask> mStarted = new ArrayList<SafeEjectTask>();
+	private boolean mFinished;
+
+	@Before
+	public void setUp() {
+		Looper.reset();
+	}
+
+	@Override
+	public SafeEjectTask startSafeEject(MountVolume mountVolume,
+			SafeEjectTask.OperationListener listener) {
+		SafeEjectTask task = new SafeEjectTask(null, mountVolume, null,
+				SafeEjectTask.DEFAULT_DEADLINE, null, listener);
+		mStarted.add(task);
+		return task;
+	}
+
+	@Override
+	public void onBulkEjectProgress(BulkEjectTask task) {
+		// not checked
+	}
+
+	@Override
+	public void onBulkEjectFinished(BulkEjectTask task) {
+		mFinished = true;
+	}
+
+	private static MountVolume volume(String path) {
+		MountVolume volume = new MountVolume();
+		volume.setPathFile(new File(path));
+		return volume;
+	}
+
+	private List<String> getStartedPaths() {
+		List<String> paths = new ArrayList<String>();
+		for (SafeEjectTask task : mStarted) {
+			paths.add(task.getMountVolume().getPath());
+		}
+		return paths;
+	}
+
+	@Test
+	public void testInnerVolumeFirst() {
+		BulkEjectTask bulk = new BulkEjectTask(Arrays.asList(volume("/mnt/sdcard"),
+				volume("/mnt/sdcard/external_sd"), volume("/mnt/usb_storage")), this);
+		bulk.start();
+		// the parent waits for the inner volume
+		assertEquals(Arrays.asList("/mnt/sdcard/external_sd", "/mnt/usb_storage"),
+				getStartedPaths());
+		assertEquals(BulkEjectTask.STATUS_PENDING, bulk.getStatus(0));
+	}
+
+	@Test
+	public void testParentSkippedWhenInnerNotEjected() {
+		BulkEjectTask bulk = new BulkEjectTask(Arrays.asList(volume("/mnt/sdcard"),
+				volume("/mnt/sdcard/external_sd"), volume("/mnt/sdcard/external_sd/usb"),
+				volume("/mnt/usb_storage")), this);
+		bulk.start();
+		assertEquals(Arrays.asList("/mnt/sdcard/external_sd/usb", "/mnt/usb_storage"),
+				getStartedPaths());
+
+		bulk.onSafeEjectNotDrained(mStarted.get(0));
+		// both parents are skipped, none of them is unmounted over a mounted volume
+		assertEquals(2, mStarted.size());
+		assertEquals(BulkEjectTask.STATUS_NOT_DRAINED, bulk.getStatus(2));
+		assertEquals(BulkEjectTask.STATUS_SKIPPED, bulk.getStatus(1));
+		assertEquals(BulkEjectTask.STATUS_SKIPPED, bulk.getStatus(0));
+		assertEquals(BulkEjectTask.STATUS_PENDING, bulk.getStatus(3));
+
+		bulk.onSafeEjectCancelled(mStarted.get(1));
+		assertEquals(MountOperationExecutor.STATUS_CANCELLED, bulk.getStatus(3));
+		assertTrue(bulk.isFinished());
+		assertTrue(mFinished);
+		assertEquals(0, bulk.getEjectedCount());
+	}
+
+	@Test
+	public void testParentSkippedWhenInnerCancelled() {
+		BulkEjectTask bulk = new BulkEjectTask(Arrays.asList(volume("/mnt/sdcard"),
+				volume("/mnt/sdcard/external_sd")), this);
+		bulk.start();
+		bulk.onSafeEjectCancelled(mStarted.get(0));
+
+		assertEquals(1, mStarted.size());
+		assertEquals(BulkEjectTask.STATUS_SKIPPED, bulk.getStatus(0));
+		assertTrue(mFinished);
+	}
+}
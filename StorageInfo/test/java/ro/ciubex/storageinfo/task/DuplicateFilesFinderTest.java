@@ -0,0 +1,123 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import android.os.Looper;
+
+/**
+ * Test that the duplicate files search walks each file once, with nested
+ * roots and symbolic links.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DuplicateFilesFinderTest {
+	private File mRoot;
+
+	@Before
+	public void setUp() throws IOException {
+		Looper.reset();
+		mRoot = Files.createTempDirectory("duplicates-test").toFile().getCanonicalFile();
+	}
+
+	@After
+	public void tearDown() {
+		delete(mRoot);
+	}
+
+	private static void delete(File file) {
+		File[] children = file.isDirectory() && !Files.isSymbolicLink(file.toPath()) ?
+				file.listFiles() : null;
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	private static File write(File dir, String name, String content) throws IOException {
+		File file = new File(dir, name);
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content.getBytes("UTF-8"));
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+
+	private static final DuplicateFilesFinder.Listener LISTENER = new DuplicateFilesFinder.Listener() {
+		@Override
+		public void onSearchProgress(DuplicateFilesFinder finder) {
+		}
+
+		@Override
+		public void onSearchFinished(DuplicateFilesFinder finder) {
+		}
+	};
+
+	@Test
+	public void testDistinctRoots() throws IOException {
+		File sd = new File(mRoot, "sd");
+		File sdcard = new File(mRoot, "sdcard");
+		File inner = new File(sdcard, "external_sd");
+		assertTrue(sd.mkdir() && sdcard.mkdir() && inner.mkdir());
+		File[] roots = DuplicateFilesFinder.getDistinctRoots(new File[] {
+				inner, sdcard, sd, new File(sdcard, "../sdcard") });
+		assertArrayEquals(new File[] { sd, sdcard }, roots);
+	}
+
+	@Test
+	public void testNestedRootsAndLinks() throws IOException {
+		File inner = new File(mRoot, "inner");
+		assertTrue(inner.mkdir());
+		File first = write(mRoot, "first.txt", "duplicate");
+		File second = write(inner, "second.txt", "duplicate");
+		write(mRoot, "other.txt", "different");
+		Files.createSymbolicLink(new File(mRoot, "inner-link").toPath(), inner.toPath());
+		Files.createSymbolicLink(new File(mRoot, "first-link.txt").toPath(), first.toPath());
+
+		DuplicateFilesFinder finder = new DuplicateFilesFinder(
+				new File[] { mRoot, inner, mRoot }, 2, LISTENER);
+		finder.run();
+
+		assertTrue(finder.isFinished());
+		assertEquals(3, finder.getStageFiles(DuplicateFilesFinder.STAGE_WALK));
+		assertEquals(1, finder.getGroupCount());
+		assertEquals(2, finder.getGroupLength(0));
+		String[] paths = { finder.getGroupFilePath(0, 0), finder.getGroupFilePath(0, 1) };
+		Arrays.sort(paths);
+		assertArrayEquals(new String[] { first.getPath(), second.getPath() }, paths);
+		assertEquals("duplicate".length(), finder.getDuplicateBytes());
+	}
+}
@@ -0,0 +1,139 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.task.MountOperationExecutor.Operation;
+import ro.ciubex.storageinfo.util.FakeMountServiceAdapter;
+
+import android.os.Looper;
+
+/**
+ * Test the status and the statistics of the operations whose call returns
+ * after a timeout.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class MountOperationExecutorTest implements MountOperationExecutor.Listener {
+	private static final String PATH = "/mnt/usb_storage";
+	private static final long WAIT_TIMEOUT = 10000;
+
+	private FakeMountServiceAdapter mAdapter;
+	private MountOperationExecutor mExecutor;
+	private int mFinished;
+
+	@Before
+	public void setUp() {
+		Looper.reset();
+		mAdapter = new FakeMountServiceAdapter();
+		mExecutor = new MountOperationExecutor(mAdapter, mAdapter);
+	}
+
+	@After
+	public void tearDown() {
+		mExecutor.close();
+	}
+
+	@Override
+	public void onOperationStarted(Operation operation) {
+	}
+
+	@Override
+	public void onOperationFinished(Operation operation) {
+		mFinished++;
+	}
+
+	/**
+	 * A call which fails after the timeout records only its latency; the
+	 * operation is counted once, as timed out.
+	 */
+	@Test
+	public void testLateErrorIsNotCounted() throws InterruptedException {
+		CountDownLatch gate = new CountDownLatch(1);
+		mAdapter.setUnmountGate(gate);
+		mAdapter.setBusy(PATH, 1);
+		Operation operation = mExecutor.unmount(PATH, false, 1000, this);
+		waitFor(new Condition() {
+			@Override
+			public boolean isTrue() {
+				return mAdapter.getUnmountCalls(PATH) == 1;
+			}
+		});
+		Looper.advance(1000);
+		Looper.runDue();
+		assertEquals(MountOperationExecutor.STATUS_TIMEOUT, operation.getStatus());
+		assertEquals(1, mFinished);
+
+		gate.countDown();
+		final Operation late = operation;
+		waitFor(new Condition() {
+			@Override
+			public boolean isTrue() {
+				return late.getLatency() >= 0 && mExecutor.toString().contains("active=0");
+			}
+		});
+		Looper.runDue();
+		assertEquals(MountOperationExecutor.STATUS_TIMEOUT, operation.getStatus());
+		assertNull(operation.getError());
+		assertEquals(1, mFinished);
+		String statistics = mExecutor.toString();
+		assertTrue(statistics, statistics.contains("unmount={calls=1, errors=0, timeouts=1, cancelled=0"));
+	}
+
+	@Test
+	public void testErrorIsCounted() throws InterruptedException {
+		mAdapter.setBusy(PATH, 1);
+		final Operation operation = mExecutor.unmount(PATH, false, 1000, this);
+		waitFor(new Condition() {
+			@Override
+			public boolean isTrue() {
+				return operation.isDone();
+			}
+		});
+		Looper.runDue();
+		assertEquals(MountOperationExecutor.STATUS_ERROR, operation.getStatus());
+		assertEquals(1, mFinished);
+		String statistics = mExecutor.toString();
+		assertTrue(statistics, statistics.contains("unmount={calls=1, errors=1, timeouts=0, cancelled=0"));
+	}
+
+	private interface Condition {
+		boolean isTrue();
+	}
+
+	private static void waitFor(Condition condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (!condition.isTrue()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The condition was not met");
+			}
+			Thread.sleep(1);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.task.MountOperationExecutor.Operation;
+import ro.ciubex.storageinfo.util.FakeMountServiceAdapter;
+import ro.ciubex.storageinfo.util.WriteBackStats;
+
+import android.os.Looper;
+
+/**
+ * Test that the safe eject unmounts only after the sync returned, and never
+ * forces the unmount when the deadline is reached with dirty pages, unless
+ * it is confirmed. The page cache is read from a synthetic meminfo file.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class SafeEjectTaskTest implements SafeEjectTask.Listener,
+		SafeEjectTask.OperationListener {
+	private static final String PATH = "/mnt/usb_storage";
+	private static final long WAIT_TIMEOUT = 10000;
+	private static final String SLOW_SYNC = "sleep 2";
+	private static final String FAST_SYNC = "true";
+
+	private FakeMountServiceAdapter mAdapter;
+	private MountOperationExecutor mExecutor;
+	private MountVolume mMountVolume;
+	private File mMeminfo;
+	private boolean mSafeEjectFinished;
+	private SafeEjectTask mNotDrained;
+	private Operation mFinishedOperation;
+
+	@Before
+	public void setUp() throws IOException {
+		Looper.reset();
+		mAdapter = new FakeMountServiceAdapter();
+		mExecutor = new MountOperationExecutor(mAdapter, mAdapter);
+		mMountVolume = new MountVolume();
+		mMountVolume.setPathFile(new File(PATH));
+		mMeminfo = File.createTempFile("meminfo", null);
+		// far more dirty data than the drained threshold
+		FileWriter writer = new FileWriter(mMeminfo);
+		try {
+			writer.write("MemTotal:        1000000 kB\nDirty:             20480 kB\n"
+					+ "Writeback:          4096 kB\n");
+		} finally {
+			writer.close();
+		}
+	}
+
+	@After
+	public void tearDown() {
+		mExecutor.close();
+		mMeminfo.delete();
+	}
+
+	@Override
+	public void onSafeEjectProgress(SafeEjectTask task) {
+		// not checked
+	}
+
+	@Override
+	public void onSafeEjectFinished(SafeEjectTask task) {
+		mSafeEjectFinished = true;
+	}
+
+	@Override
+	public void onSafeEjectCancelled(SafeEjectTask task) {
+		fail("Cancelled: " + task);
+	}
+
+	@Override
+	public void onSafeEjectNotDrained(SafeEjectTask task) {
+		mNotDrained = task;
+	}
+
+	@Override
+	public void onOperationStarted(Operation operation) {
+		// not checked
+	}
+
+	@Override
+	public void onOperationFinished(Operation operation) {
+		mFinishedOperation = operation;
+	}
+
+	private SafeEjectTask createTask(long deadline, String syncCommand) {
+		return new SafeEjectTask(mExecutor, mMountVolume,
+				new WriteBackStats(mMeminfo, null), deadline, this, this, syncCommand);
+	}
+
+	@Test
+	public void testDeadlineDoesNotForceUnmount() throws InterruptedException {
+		SafeEjectTask task = createTask(0, SLOW_SYNC);
+		task.run();
+		Looper.runDue();
+
+		assertTrue(mSafeEjectFinished);
+		assertFalse(task.isDrained());
+		assertEquals(20480L * 1024 + 4096 * 1024, task.getPendingBytes());
+		assertTrue(task == mNotDrained);
+		assertTrue(task.isWaitingConfirmation());
+		assertNull(task.getOperation());
+		waitForUnmount(task);
+		assertEquals(0, mAdapter.getUnmountCalls(PATH));
+	}
+
+	@Test
+	public void testConfirmedUnmount() throws InterruptedException {
+		SafeEjectTask task = createTask(0, SLOW_SYNC);
+		task.run();
+		Looper.runDue();
+		assertTrue(task == mNotDrained);
+
+		Operation operation = task.unmountNow();
+		assertNotNull(operation);
+		assertTrue(operation == task.unmountNow());
+		assertFalse(task.isWaitingConfirmation());
+		waitForUnmount(task);
+		assertTrue(operation == mFinishedOperation);
+		assertTrue(operation.isForce());
+		assertEquals(MountOperationExecutor.STATUS_SUCCESS, operation.getStatus());
+		assertEquals(1, mAdapter.getUnmountCalls(PATH));
+	}
+
+	@Test
+	public void testUnmountAfterSync() throws InterruptedException {
+		// the dirty pages of the other devices do not matter once the sync returned
+		SafeEjectTask task = createTask(SafeEjectTask.DEFAULT_DEADLINE, FAST_SYNC);
+		task.run();
+		Looper.runDue();
+
+		assertTrue(mSafeEjectFinished);
+		assertTrue(task.isDrained());
+		assertNull(mNotDrained);
+		assertNotNull(task.getOperation());
+		waitForUnmount(task);
+		assertTrue(task.getOperation() == mFinishedOperation);
+		assertEquals(1, mAdapter.getUnmountCalls(PATH));
+	}
+
+	@Test
+	public void testCancelledTaskIsNotUnmounted() {
+		SafeEjectTask task = createTask(0, SLOW_SYNC);
+		task.run();
+		Looper.runDue();
+		task.cancel();
+
+		assertFalse(task.isWaitingConfirmation());
+		assertNull(task.unmountNow());
+		assertEquals(0, mAdapter.getUnmountCalls(PATH));
+	}
+
+	/**
+	 * Run the looper until the unmount submitted by the task, if any, is
+	 * finished.
+	 */
+	private void waitForUnmount(SafeEjectTask task) throws InterruptedException {
+		if (task.getOperation() == null) {
+			return;
+		}
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (mFinishedOperation == null) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The unmount is not finished: " + task.getOperation());
+			}
+			if (!Looper.runDue()) {
+				Thread.sleep(1);
+			}
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.util.FakeMountServiceAdapter;
+
+import android.os.Looper;
+
+/**
+ * Test the unmount retries against a simulated busy volume. The retry delays
+ * are run on the virtual time of the test looper, only the unmount calls run
+ * on the executor threads.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class UnmountRetrySchedulerTest implements UnmountRetryScheduler.Listener {
+	private static final String PATH = "/mnt/usb_storage";
+	private static final long WAIT_TIMEOUT = 10000;
+
+	private FakeMountServiceAdapter mAdapter;
+	private MountOperationExecutor mExecutor;
+	private UnmountRetryScheduler mScheduler;
+	private MountVolume mMountVolume;
+	private final List<Integer> mStates = new ArrayList<Integer>();
+	private UnmountRetryScheduler.Retry mLastRetry;
+
+	@Before
+	public void setUp() {
+		Looper.reset();
+		mAdapter = new FakeMountServiceAdapter();
+		mExecutor = new MountOperationExecutor(mAdapter, mAdapter);
+		mScheduler = new UnmountRetryScheduler(mExecutor, this, new Random(42));
+		mMountVolume = new MountVolume();
+		mMountVolume.setPathFile(new File(PATH));
+	}
+
+	@After
+	public void tearDown() {
+		mExecutor.close();
+	}
+
+	@Override
+	public void onUnmountRetryChanged(UnmountRetryScheduler.Retry retry) {
+		mLastRetry = retry;
+		mStates.add(retry.getState());
+	}
+
+	@Test
+	public void testBusyThenSuccess() throws InterruptedException {
+		mAdapter.setBusy(PATH, 3);
+		mScheduler.schedule(mMountVolume, UnmountRetryScheduler.DEFAULT_BUDGET);
+		runUntilFinished();
+
+		assertEquals(UnmountRetryScheduler.STATE_SUCCESS, mLastRetry.getState());
+		assertEquals(4, mLastRetry.getAttempts());
+		assertEquals(4, mAdapter.getUnmountCalls(PATH));
+		assertNull(mScheduler.getRetry(PATH));
+		int waiting = UnmountRetryScheduler.STATE_WAITING;
+		int running = UnmountRetryScheduler.STATE_RUNNING;
+		assertEquals(states(waiting, running, waiting, running, waiting, running,
+				waiting, running, UnmountRetryScheduler.STATE_SUCCESS), mStates);
+		// the delays are 1, 2, 4 and 8 seconds, minus up to a half of jitter
+		long elapsed = Looper.now();
+		assertTrue("elapsed " + elapsed, elapsed >= 7500 && elapsed <= 15000);
+		assertTrue(mScheduler.toString().contains("succeeded=1"));
+	}
+
+	@Test
+	public void testBusyThenGiveUp() throws InterruptedException {
+		long budget = 10000;
+		mAdapter.setBusy(PATH, Integer.MAX_VALUE);
+		mScheduler.schedule(mMountVolume, budget);
+		runUntilFinished();
+
+		assertEquals(UnmountRetryScheduler.STATE_GAVE_UP, mLastRetry.getState());
+		assertTrue(mLastRetry.getAttempts() > 1);
+		assertEquals(mLastRetry.getAttempts(), mAdapter.getUnmountCalls(PATH));
+		assertTrue(String.valueOf(mLastRetry.getLastError()),
+				mLastRetry.getLastError().getMessage().contains(FakeMountServiceAdapter.BUSY_MESSAGE));
+		assertTrue("elapsed " + Looper.now(), Looper.now() <= budget);
+		// the retry which gave up is dropped, nothing is left to run
+		assertNull(mScheduler.getRetry(PATH));
+		assertTrue(mScheduler.toString().contains("gaveUp=1"));
+		assertTrue(!Looper.runNext());
+	}
+
+	@Test
+	public void testSecurityErrorGivesUpAtOnce() throws InterruptedException {
+		mAdapter.setError(PATH, new IllegalStateException(new SecurityException("denied")));
+		mScheduler.schedule(mMountVolume, UnmountRetryScheduler.DEFAULT_BUDGET);
+		runUntilFinished();
+
+		assertEquals(UnmountRetryScheduler.STATE_GAVE_UP, mLastRetry.getState());
+		assertEquals(1, mAdapter.getUnmountCalls(PATH));
+		assertNull(mScheduler.getRetry(PATH));
+	}
+
+	@Test
+	public void testCancelWhileWaiting() {
+		mAdapter.setBusy(PATH, Integer.MAX_VALUE);
+		mScheduler.schedule(mMountVolume, UnmountRetryScheduler.DEFAULT_BUDGET);
+		mScheduler.cancel(PATH);
+
+		assertEquals(UnmountRetryScheduler.STATE_CANCELLED, mLastRetry.getState());
+		assertNull(mScheduler.getRetry(PATH));
+		assertTrue(!Looper.runNext());
+		assertEquals(0, mAdapter.getUnmountCalls(PATH));
+	}
+
+	/**
+	 * An attempt which timed out leaves its call running; the next attempt
+	 * waits for that call to return instead of calling the mount service
+	 * again.
+	 */
+	@Test
+	public void testTimeoutWaitsForTheRunningCall() throws InterruptedException {
+		CountDownLatch gate = new CountDownLatch(1);
+		mAdapter.setUnmountGate(gate);
+		mAdapter.setBusy(PATH, Integer.MAX_VALUE);
+		mScheduler.schedule(mMountVolume, 10 * MountOperationExecutor.DEFAULT_TIMEOUT);
+		assertTrue(Looper.runNext());
+		assertEquals(UnmountRetryScheduler.STATE_RUNNING, mLastRetry.getState());
+		waitForUnmountCalls(1);
+		Looper.runDue();
+		// the operation timeout, then its notification
+		assertTrue(Looper.runNext());
+		assertTrue(Looper.runDue());
+		assertEquals(UnmountRetryScheduler.STATE_WAITING, mLastRetry.getState());
+		assertTrue(mLastRetry.isLateCallRunning());
+		assertTrue(Looper.runNext());
+		assertEquals(UnmountRetryScheduler.STATE_WAITING, mLastRetry.getState());
+		assertEquals(1, mLastRetry.getAttempts());
+		assertEquals(1, mAdapter.getUnmountCalls(PATH));
+
+		mAdapter.setUnmountGate(null);
+		gate.countDown();
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (mLastRetry.isLateCallRunning()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The late call did not return: " + mLastRetry);
+			}
+			Thread.sleep(1);
+		}
+		assertTrue(Looper.runNext());
+		assertEquals(UnmountRetryScheduler.STATE_RUNNING, mLastRetry.getState());
+		assertEquals(2, mLastRetry.getAttempts());
+		waitForUnmountCalls(2);
+		mScheduler.cancel(PATH);
+	}
+
+	/**
+	 * An attempt cancelled by the executor ends the retry, which is not left
+	 * running.
+	 */
+	@Test
+	public void testCancelledOperation() {
+		mScheduler.schedule(mMountVolume, UnmountRetryScheduler.DEFAULT_BUDGET);
+		mExecutor.close();
+		assertTrue(Looper.runNext());
+		Looper.runDue();
+
+		assertEquals(UnmountRetryScheduler.STATE_CANCELLED, mLastRetry.getState());
+		assertNull(mScheduler.getRetry(PATH));
+		assertFalse(Looper.runNext());
+		assertEquals(0, mAdapter.getUnmountCalls(PATH));
+	}
+
+	@Test
+	public void testDelayJitter() {
+		long backoff;
+		long delay;
+		for (int attempt = 0; attempt < 40; attempt++) {
+			backoff = Math.min(UnmountRetryScheduler.MAX_DELAY,
+					UnmountRetryScheduler.INITIAL_DELAY << Math.min(attempt, 20));
+			for (int i = 0; i < 100; i++) {
+				delay = mScheduler.getDelay(attempt);
+				assertTrue("attempt " + attempt + " delay " + delay,
+						delay >= backoff / 2 && delay <= backoff);
+			}
+		}
+	}
+
+	/**
+	 * Drive the looper until the retry succeeds, gives up or is cancelled.
+	 * The delayed attempts are run at once; while an unmount is running the
+	 * looper waits for the executor thread to post the result.
+	 */
+	private void runUntilFinished() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (mLastRetry.getState() == UnmountRetryScheduler.STATE_WAITING
+				|| mLastRetry.getState() == UnmountRetryScheduler.STATE_RUNNING) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The retry is not finished: " + mLastRetry);
+			}
+			if (Looper.runDue()) {
+				continue;
+			}
+			if (mLastRetry.getState() == UnmountRetryScheduler.STATE_RUNNING) {
+				Thread.sleep(1);
+			} else if (!Looper.runNext()) {
+				fail("No attempt was scheduled: " + mLastRetry);
+			}
+		}
+	}
+
+	private void waitForUnmountCalls(int calls) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (mAdapter.getUnmountCalls(PATH) < calls) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The unmount was not called: " + mLastRetry);
+			}
+			Thread.sleep(1);
+		}
+	}
+
+	private static List<Integer> states(int... states) {
+		List<Integer> list = new ArrayList<Integer>(states.length);
+		for (int state : states) {
+			list.add(state);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test the lookups of the devices database generated by the
+ * generateDevicesDatabase task. The unit test tasks depend on the generator,
+ * which passes the database path with the "devicesDatabase" system property.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DevicesDatabaseTest {
+	private static final File DATABASE_FILE = new File(System.getProperty("devicesDatabase",
+			"build/generated/assets/devices/" + DevicesDatabase.ASSET_NAME));
+
+	private static RandomAccessFile sFile;
+	private static DevicesDatabase sDatabase;
+	private static String[] sDevices;
+
+	@BeforeClass
+	public static void openDatabase() throws IOException {
+		assertTrue("Run the generateDevicesDatabase task to create " + DATABASE_FILE,
+				DATABASE_FILE.exists());
+		sFile = new RandomAccessFile(DATABASE_FILE, "r");
+		FileChannel channel = sFile.getChannel();
+		sDatabase = new DevicesDatabase(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+				channel.size()));
+		int count = sDatabase.getRecordCount();
+		sDevices = new String[count];
+		for (int i = 0; i < count; i++) {
+			String[] record = sDatabase.getRecord(i);
+			sDevices[i] = record[0] + "|" + record[1] + "|" + record[2] + "|" + record[3];
+		}
+	}
+
+	@AfterClass
+	public static void closeDatabase() {
+		Utils.doClose(sFile);
+	}
+
+	@Test
+	public void testEveryDeviceFound() {
+		assertTrue(sDatabase.getRecordCount() > 0);
+		for (int i = 0; i < sDevices.length; i++) {
+			String[] record = sDatabase.getRecord(i);
+			int found = sDatabase.findRecordByDeviceModel(record[2], record[3]);
+			assertTrue(sDevices[i], found != -1);
+			String[] foundRecord = sDatabase.getRecord(found);
+			assertEquals(sDevices[i], record[2], foundRecord[2]);
+			assertEquals(sDevices[i], record[3], foundRecord[3]);
+			assertArrayEquals(sDevices[i], new String[]{foundRecord[0], foundRecord[1]},
+					sDatabase.findByDeviceModel(record[2], record[3]));
+			found = sDatabase.findRecordByDevice(record[2]);
+			assertTrue(sDevices[i], found != -1);
+			assertEquals(sDevices[i], record[2], sDatabase.getRecord(found)[2]);
+			assertNotNull(sDevices[i], sDatabase.findByDevice(record[2]));
+		}
+	}
+
+	@Test
+	public void testUnknownDevice() {
+		assertEquals(-1, sDatabase.findRecordByDeviceModel("no_such_device", "No Model"));
+		assertEquals(-1, sDatabase.findRecordByDevice("no_such_device"));
+		assertEquals(-1, sDatabase.findRecordByDeviceModel(null, "No Model"));
+		assertEquals(-1, sDatabase.findRecordByDevice(null));
+		assertNull(sDatabase.findByDevice(""));
+	}
+
+	@Test
+	public void testAppendNames() {
+		StringBuilder builder = new StringBuilder();
+		int last = sDevices.length - 1;
+		String[] record = sDatabase.getRecord(last);
+		sDatabase.appendRetailBranding(last, builder);
+		builder.append('|');
+		sDatabase.appendMarketingName(last, builder);
+		assertEquals(record[0] + "|" + record[1], builder.toString());
+	}
+
+	/**
+	 * The prefix and the similar searches return every matching
+	 * "Retail Branding|Marketing Name" pair, not only the first one.
+	 */
+	@Test
+	public void testTrieSearch() {
+		DevicesTrie trie = DevicesTrie.build(sDatabase);
+		String[] record;
+		String pair;
+		for (int i = 0; i < sDevices.length; i += 97) {
+			record = sDatabase.getRecord(i);
+			pair = record[0] + "|" + record[1];
+			assertTrue(sDevices[i], trie.findByPrefix(record[2]).contains(pair));
+			if (record[3].length() > 1) {
+				assertTrue(sDevices[i], trie.findByPrefix(
+						record[3].substring(0, record[3].length() - 1)).contains(pair));
+			}
+			assertTrue(sDevices[i], trie.findSimilar(record[3] + "Q", 1).contains(pair));
+		}
+		// a short prefix matches several devices
+		record = sDatabase.getRecord(0);
+		assertTrue(trie.findByPrefix(record[2].substring(0, 1)).size() > 1);
+		assertTrue(trie.findByPrefix("no_such_device").isEmpty());
+	}
+}
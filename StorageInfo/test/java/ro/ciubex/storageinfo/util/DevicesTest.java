@@ -0,0 +1,196 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
+
+import org.junit.Test;
+
+/**
+ * Test the device name formatting and check that it does not allocate when
+ * the result buffer is reused. The allocations are measured with the HotSpot
+ * per-thread allocation counter, which is read by reflection; the allocation
+ * tests are skipped on the JVMs without it.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DevicesTest {
+	private static final File DATABASE_FILE = new File(System.getProperty("devicesDatabase",
+			"build/generated/assets/devices/" + DevicesDatabase.ASSET_NAME));
+	private static final int RUNS = 10000;
+
+	/**
+	 * Some bytes can be allocated by the counter itself.
+	 */
+	private static final long ALLOCATION_SLACK = 256;
+
+	/**
+	 * Returns the com.sun.management.ThreadMXBean getThreadAllocatedBytes
+	 * method, enabled, or null if the JVM does not count the allocations.
+	 */
+	private static Method getAllocatedBytesMethod() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		try {
+			Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+			if (!beanClass.isInstance(bean) || !(Boolean) beanClass
+					.getMethod("isThreadAllocatedMemorySupported").invoke(bean)) {
+				return null;
+			}
+			beanClass.getMethod("setThreadAllocatedMemoryEnabled", boolean.class)
+					.invoke(bean, true);
+			return beanClass.getMethod("getThreadAllocatedBytes", long.class);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static long getAllocatedBytes(Method method, long threadId) throws Exception {
+		return (Long) method.invoke(ManagementFactory.getThreadMXBean(), threadId);
+	}
+
+	/**
+	 * Returns the bytes allocated by a reflective read of the counter, for
+	 * the arguments array and the boxed result.
+	 */
+	private static long getReadOverhead(Method method, long threadId) throws Exception {
+		long overhead = Long.MAX_VALUE;
+		for (int i = 0; i < 32; i++) {
+			long start = getAllocatedBytes(method, threadId);
+			overhead = Math.min(overhead, getAllocatedBytes(method, threadId) - start);
+		}
+		return overhead;
+	}
+
+	/**
+	 * The previous capitalize implementation, used to compare the results.
+	 */
+	private static String concatCapitalize(final String str) {
+		final char[] arr = str.toCharArray();
+		boolean capitalizeNext = true;
+		String phrase = "";
+		for (final char c : arr) {
+			if (capitalizeNext && Character.isLetter(c)) {
+				phrase += Character.toUpperCase(c);
+				capitalizeNext = false;
+				continue;
+			} else if (Character.isWhitespace(c)) {
+				capitalizeNext = true;
+			}
+			phrase += c;
+		}
+		return phrase;
+	}
+
+	private static String capitalize(String str) {
+		StringBuilder buffer = new StringBuilder();
+		Devices.capitalize(str, buffer);
+		return buffer.toString();
+	}
+
+	private static String manufacturerModel(String manufacturer, String model) {
+		StringBuilder buffer = new StringBuilder();
+		Devices.appendManufacturerModel(manufacturer, model, buffer);
+		return buffer.toString();
+	}
+
+	@Test
+	public void testCapitalize() {
+		assertEquals("Samsung", capitalize("samsung"));
+		assertEquals("Sony Ericsson  X10", capitalize("sony ericsson  X10"));
+		assertEquals("LGE Nexus 5", capitalize("LGE nexus 5"));
+		assertEquals("1Plus One", capitalize("1plus one"));
+		assertEquals(concatCapitalize("asus\tpad\ntf101"), capitalize("asus\tpad\ntf101"));
+	}
+
+	@Test
+	public void testManufacturerModel() {
+		assertEquals("Samsung GT-I9300", manufacturerModel("samsung", "GT-I9300"));
+		assertEquals("HTC One", manufacturerModel("htc", "One"));
+		assertEquals("Motorola Moto G", manufacturerModel("motorola", "motorola Moto G"));
+	}
+
+	@Test
+	public void testManufacturerModelDoesNotAllocate() throws Exception {
+		Method allocatedBytes = getAllocatedBytesMethod();
+		assumeTrue(allocatedBytes != null);
+		long threadId = Thread.currentThread().getId();
+		final String manufacturer = "sony mobile communications";
+		final String model = "xperia z3 compact";
+		StringBuilder buffer = new StringBuilder(64);
+		for (int i = 0; i < RUNS; i++) {
+			buffer.setLength(0);
+			Devices.appendManufacturerModel(manufacturer, model, buffer);
+		}
+		long overhead = getReadOverhead(allocatedBytes, threadId);
+		long start = getAllocatedBytes(allocatedBytes, threadId);
+		for (int i = 0; i < RUNS; i++) {
+			buffer.setLength(0);
+			Devices.appendManufacturerModel(manufacturer, model, buffer);
+		}
+		long allocated = getAllocatedBytes(allocatedBytes, threadId) - start - overhead;
+		assertEquals("Sony Mobile Communications xperia z3 compact", buffer.toString());
+		assertTrue("allocated " + allocated + " bytes", allocated < ALLOCATION_SLACK);
+	}
+
+	@Test
+	public void testDeviceNameDoesNotAllocate() throws Exception {
+		Method allocatedBytes = getAllocatedBytesMethod();
+		assumeTrue(allocatedBytes != null && DATABASE_FILE.exists());
+		RandomAccessFile file = new RandomAccessFile(DATABASE_FILE, "r");
+		try {
+			FileChannel channel = file.getChannel();
+			DevicesDatabase database = new DevicesDatabase(channel.map(
+					FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+			String[] record = database.getRecord(database.getRecordCount() / 2);
+			String expected = record[1].startsWith(record[0]) ? record[1] :
+					record[0] + " " + record[1];
+			long threadId = Thread.currentThread().getId();
+			StringBuilder buffer = new StringBuilder(128);
+			for (int i = 0; i < RUNS; i++) {
+				buffer.setLength(0);
+				Devices.appendDeviceName(database, record[2], record[3], buffer);
+			}
+			long overhead = getReadOverhead(allocatedBytes, threadId);
+			long start = getAllocatedBytes(allocatedBytes, threadId);
+			for (int i = 0; i < RUNS; i++) {
+				buffer.setLength(0);
+				Devices.appendDeviceName(database, record[2], record[3], buffer);
+			}
+			long allocated = getAllocatedBytes(allocatedBytes, threadId) - start - overhead;
+			assertEquals(expected, buffer.toString());
+			assertTrue("allocated " + allocated + " bytes", allocated < ALLOCATION_SLACK);
+
+			buffer.setLength(0);
+			assertFalse(Devices.appendDeviceName(database, "no_such_device", "No Model", buffer));
+			assertEquals(0, buffer.length());
+		} finally {
+			Utils.doClose(file);
+		}
+	}
+}
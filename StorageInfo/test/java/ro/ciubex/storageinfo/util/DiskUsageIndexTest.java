@@ -0,0 +1,115 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the volume id lookup used to identify the card of a disk usage index,
+ * on a synthetic mountinfo file and by-uuid folder.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class DiskUsageIndexTest {
+	private File mRoot;
+	private File mMountinfo;
+	private File mByUuid;
+
+	@Before
+	public void setUp() throws IOException {
+		mRoot = Files.createTempDirectory("index-test").toFile().getCanonicalFile();
+		mMountinfo = new File(mRoot, "mountinfo");
+		mByUuid = new File(mRoot, "by-uuid");
+		assertTrue(mByUuid.mkdir());
+	}
+
+	@After
+	public void tearDown() {
+		delete(mRoot);
+	}
+
+	private static void delete(File file) {
+		File[] children = file.isDirectory() && !Files.isSymbolicLink(file.toPath()) ?
+				file.listFiles() : null;
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	private void writeMountinfo(String... lines) throws IOException {
+		FileOutputStream out = new FileOutputStream(mMountinfo);
+		try {
+			for (String line : lines) {
+				out.write((line + "\n").getBytes("UTF-8"));
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	@Test
+	public void testMountPointName() throws IOException {
+		writeMountinfo("1 0 179:2 / / ro - ext4 /dev/root ro");
+		assertEquals("6A3F-1C2D",
+				DiskUsageIndex.getVolumeId("/storage/6A3F-1C2D", mMountinfo, mByUuid));
+	}
+
+	@Test
+	public void testBindMountName() throws IOException {
+		writeMountinfo(
+				"50 1 8:1 / /mnt/media_rw/0815-A0B1 rw - vfat /dev/block/vold/8:1 rw",
+				"51 1 8:1 / /storage/sdcard1 rw - vfat /dev/block/vold/8:1 rw",
+				"52 1 8:17 / /mnt/media_rw/6A3F-1C2D rw - vfat /dev/block/vold/8:17 rw");
+		assertEquals("0815-A0B1",
+				DiskUsageIndex.getVolumeId("/storage/sdcard1", mMountinfo, mByUuid));
+	}
+
+	@Test
+	public void testByUuidLink() throws IOException {
+		File device = new File(mRoot, "sdb1");
+		assertTrue(device.createNewFile());
+		Files.createSymbolicLink(new File(mByUuid, "4e1f2a3b-0c5d-4e6f-8a9b-0c1d2e3f4a5b").toPath(),
+				device.toPath());
+		writeMountinfo("60 1 8:17 / /media/usb rw - ext4 " + device.getPath() + " rw");
+		assertEquals("4e1f2a3b-0c5d-4e6f-8a9b-0c1d2e3f4a5b",
+				DiskUsageIndex.getVolumeId("/media/usb", mMountinfo, mByUuid));
+	}
+
+	@Test
+	public void testUnknownVolume() throws IOException {
+		writeMountinfo("60 1 8:17 / /media/usb rw - ext4 /dev/sdb1 rw");
+		assertEquals("", DiskUsageIndex.getVolumeId("/media/usb", mMountinfo, mByUuid));
+		assertEquals("", DiskUsageIndex.getVolumeId("/media/other", mMountinfo, mByUuid));
+		assertEquals("", DiskUsageIndex.getVolumeId("/media/usb", new File(mRoot, "missing"),
+				mByUuid));
+	}
+}
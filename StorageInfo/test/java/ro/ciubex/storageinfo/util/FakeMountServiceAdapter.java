@@ -0,0 +1,171 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+
+import android.content.Context;
+import android.os.Environment;
+
+/**
+ * A mount service adapter which simulates the mount service for the unit
+ * tests. A volume can be made busy for a number of unmount calls, or can
+ * fail every call with an error; the calls are counted by path. The unmount
+ * calls can also be blocked, like a hung mount service. The adapter can be
+ * called from any thread.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class FakeMountServiceAdapter implements MountServiceAdapter {
+	public static final String BUSY_MESSAGE = "Device or resource busy";
+
+	private final Map<String, Integer> mBusyCalls = new HashMap<String, Integer>();
+	private final Map<String, RuntimeException> mErrors = new HashMap<String, RuntimeException>();
+	private final Map<String, Integer> mUnmountCalls = new HashMap<String, Integer>();
+	private final Map<String, String> mStates = new HashMap<String, String>();
+	private CountDownLatch mUnmountGate;
+
+	/**
+	 * Make the next unmount calls of a volume fail as busy.
+	 *
+	 * @param path  The volume path.
+	 * @param calls The number of busy unmount calls.
+	 */
+	public synchronized void setBusy(String path, int calls) {
+		mBusyCalls.put(path, calls);
+	}
+
+	/**
+	 * Make every mount and unmount call of a volume fail.
+	 *
+	 * @param path  The volume path.
+	 * @param error The error thrown by the calls.
+	 */
+	public synchronized void setError(String path, RuntimeException error) {
+		mErrors.put(path, error);
+	}
+
+	/**
+	 * Block the next unmount calls until a latch is released.
+	 *
+	 * @param gate The latch, or null to not block the calls.
+	 */
+	public synchronized void setUnmountGate(CountDownLatch gate) {
+		mUnmountGate = gate;
+	}
+
+	public synchronized void setVolumeState(String path, String state) {
+		mStates.put(path, state);
+	}
+
+	/**
+	 * @return The number of unmount calls made for a volume.
+	 */
+	public synchronized int getUnmountCalls(String path) {
+		Integer calls = mUnmountCalls.get(path);
+		return calls != null ? calls : 0;
+	}
+
+	@Override
+	public Object getService() {
+		return this;
+	}
+
+	@Override
+	public boolean hasVolumeState() {
+		return true;
+	}
+
+	@Override
+	public synchronized String getVolumeState(Object mountService, String mountPoint) {
+		return mStates.get(mountPoint);
+	}
+
+	@Override
+	public synchronized int mountVolume(Object mountService, String mountPoint) {
+		RuntimeException error = mErrors.get(mountPoint);
+		if (error != null) {
+			throw error;
+		}
+		mStates.put(mountPoint, Environment.MEDIA_MOUNTED);
+		return 0;
+	}
+
+	@Override
+	public void unmountVolume(Object mountService, String mountPoint, boolean force) {
+		CountDownLatch gate;
+		synchronized (this) {
+			mUnmountCalls.put(mountPoint, getUnmountCalls(mountPoint) + 1);
+			gate = mUnmountGate;
+		}
+		if (gate != null) {
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		synchronized (this) {
+			RuntimeException error = mErrors.get(mountPoint);
+			if (error != null) {
+				throw error;
+			}
+			Integer busy = mBusyCalls.get(mountPoint);
+			if (busy != null && busy > 0) {
+				mBusyCalls.put(mountPoint, busy - 1);
+				throw new IllegalStateException(BUSY_MESSAGE);
+			}
+			mStates.put(mountPoint, Environment.MEDIA_UNMOUNTED);
+		}
+	}
+
+	@Override
+	public int[] getStorageUsers(Object mountService, String path) {
+		return new int[0];
+	}
+
+	@Override
+	public boolean isUsbMassStorageEnabled(Object mountService) {
+		return false;
+	}
+
+	@Override
+	public boolean hasVolumeList() {
+		return false;
+	}
+
+	@Override
+	public Object[] getVolumeList(Object mountService) {
+		return null;
+	}
+
+	@Override
+	public String getStorageVolumeDescription(Object storageVolume, Context context) {
+		return null;
+	}
+
+	@Override
+	public MountVolume toMountVolume(Object storageVolume, Context context) {
+		return null;
+	}
+}
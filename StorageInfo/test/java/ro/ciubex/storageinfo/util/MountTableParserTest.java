@@ -0,0 +1,220 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+
+/**
+ * Test the mount table parser on the mount tables of an Android 6 device
+ * with two USB sticks, of an Android 4 device and of a Linux desktop. The
+ * fixtures are under test/resources/mountinfo.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class MountTableParserTest {
+	private static final String ANDROID6_MOUNTINFO = "/mountinfo/android6_otg.mountinfo";
+	private static final String DESKTOP_MOUNTINFO = "/mountinfo/linux_desktop.mountinfo";
+	private static final String ANDROID4_MOUNTS = "/mountinfo/android4.mounts";
+
+	private static final MountTableParser.Filter VFAT_FILTER = new MountTableParser.Filter() {
+		@Override
+		public boolean accept(String mountPoint, String fsType) {
+			return "vfat".equals(fsType);
+		}
+	};
+
+	@Test
+	public void testAndroidMountInfo() throws IOException {
+		List<MountVolume> volumes = parse(ANDROID6_MOUNTINFO, MountTableParser.FORMAT_MOUNTINFO, null);
+		assertEquals(15, volumes.size());
+		assertVolume(volumes.get(0), "/", "rootfs", "rootfs", "ro,relatime");
+		assertVolume(volumes.get(10), "/storage/emulated", "fuse", "/dev/fuse",
+				"rw,nosuid,nodev,noexec,noatime");
+	}
+
+	@Test
+	public void testFilterAndReadOnly() throws IOException {
+		List<MountVolume> volumes = parse(ANDROID6_MOUNTINFO, MountTableParser.FORMAT_MOUNTINFO,
+				VFAT_FILTER);
+		assertEquals(2, volumes.size());
+		assertVolume(volumes.get(0), "/mnt/media_rw/6A3F-1C2D", "vfat",
+				"/dev/block/vold/public:8,1", "rw,nosuid,nodev,noexec,relatime");
+		assertFalse(volumes.get(0).isReadOnly());
+		assertEquals("8:1", volumes.get(0).getDeviceNumber());
+		assertVolume(volumes.get(1), "/mnt/media_rw/0815-A0B1", "vfat",
+				"/dev/block/vold/public:8,17", "ro,nosuid,nodev,noexec,relatime");
+		assertTrue(volumes.get(1).isReadOnly());
+	}
+
+	/**
+	 * The mountinfo lines can have no optional fields or several of them
+	 * before the "-" separator; a line without the separator or without the
+	 * fields after it is ignored, the last line has no new line.
+	 */
+	@Test
+	public void testOptionalFieldsAndSeparator() throws IOException {
+		List<MountVolume> volumes = parse(DESKTOP_MOUNTINFO, MountTableParser.FORMAT_MOUNTINFO, null);
+		assertEquals(11, volumes.size());
+		assertVolume(volumes.get(4), "/tmp", "tmpfs", "tmpfs", "rw,nosuid,nodev");
+		assertVolume(volumes.get(5), "/home", "ext4", "/dev/sda3", "rw,relatime");
+		assertVolume(volumes.get(9), "/run/user/1000/gvfs", "fuse.gvfsd-fuse", "gvfsd-fuse",
+				"rw,nosuid,nodev,relatime");
+		assertVolume(volumes.get(10), "/media/alice/last", "vfat", "/dev/sdf1",
+				"rw,nosuid,nodev,relatime");
+	}
+
+	/**
+	 * The kernel escapes the space, tab, new line and backslash characters
+	 * as octal, the other characters are UTF-8.
+	 */
+	@Test
+	public void testEscapedMountPoints() throws IOException {
+		List<MountVolume> volumes = parse(DESKTOP_MOUNTINFO, MountTableParser.FORMAT_MOUNTINFO, null);
+		assertEquals("/media/alice/USB DISK", volumes.get(6).getPath());
+		assertEquals("/dev/sdc1", volumes.get(6).getSourceDevice());
+		assertEquals("/media/alice/Back\\up\tTab", volumes.get(7).getPath());
+		assertEquals("exfat", volumes.get(7).getFsType());
+		assertEquals("/media/alice/Fotografii pentru vacan\u021b\u0103", volumes.get(8).getPath());
+	}
+
+	@Test
+	public void testProcMounts() throws IOException {
+		List<MountVolume> volumes = parse(ANDROID4_MOUNTS, MountTableParser.FORMAT_MOUNTS, null);
+		assertEquals(7, volumes.size());
+		assertVolume(volumes.get(5), "/storage/sdcard1", "vfat", "/dev/block/vold/179:33",
+				"rw,dirsync,nosuid,nodev,noexec,relatime,uid=1000,gid=1015,fmask=0002,dmask=0002,"
+						+ "allow_utime=0020,codepage=cp437,iocharset=iso8859-1,shortname=mixed,utf8,"
+						+ "errors=remount-ro");
+		assertVolume(volumes.get(6), "/storage/usbdisk one", "vfat", "/dev/block/vold/8:1",
+				"rw,dirsync,nosuid,nodev,noexec,relatime,uid=1000,gid=1015");
+	}
+
+	/**
+	 * The lines split between reads should give the same volumes as the
+	 * whole stream.
+	 */
+	@Test
+	public void testShortReads() throws IOException {
+		byte[] data = read(DESKTOP_MOUNTINFO);
+		List<MountVolume> expected = new MountTableParser(new ByteArrayInputStream(data),
+				MountTableParser.FORMAT_MOUNTINFO).parse(null);
+		for (int chunk = 1; chunk < 16; chunk++) {
+			List<MountVolume> volumes = new MountTableParser(new ChunkedInputStream(
+					new ByteArrayInputStream(data), chunk), MountTableParser.FORMAT_MOUNTINFO)
+					.parse(null);
+			assertEquals(expected.size(), volumes.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(expected.get(i).toString(), volumes.get(i).toString());
+			}
+		}
+	}
+
+	/**
+	 * A line longer than the read buffer grows the buffer.
+	 */
+	@Test
+	public void testLongLine() throws IOException {
+		StringBuilder options = new StringBuilder("rw");
+		while (options.length() < 20000) {
+			options.append(",lowerdir=/very/long/overlay/layer/").append(options.length());
+		}
+		String table = "1 0 0:1 / / rw - rootfs rootfs rw\n"
+				+ "2 1 0:2 / /mnt/overlay " + options + " shared:1 - overlay overlay rw\n"
+				+ "3 1 8:1 / /mnt/usb rw - vfat /dev/sda1 rw\n";
+		List<MountVolume> volumes = new MountTableParser(new ByteArrayInputStream(
+				table.getBytes("UTF-8")), MountTableParser.FORMAT_MOUNTINFO).parse(null);
+		assertEquals(3, volumes.size());
+		assertEquals(options.toString(), volumes.get(1).getMountOptions());
+		assertVolume(volumes.get(2), "/mnt/usb", "vfat", "/dev/sda1", "rw");
+	}
+
+	@Test
+	public void testEmptyTable() throws IOException {
+		assertTrue(new MountTableParser(new ByteArrayInputStream(new byte[0]),
+				MountTableParser.FORMAT_MOUNTINFO).parse(null).isEmpty());
+		assertTrue(new MountTableParser(new ByteArrayInputStream("\n\n".getBytes("UTF-8")),
+				MountTableParser.FORMAT_MOUNTS).parse(null).isEmpty());
+	}
+
+	private static void assertVolume(MountVolume volume, String path, String fsType,
+			String source, String options) {
+		assertEquals(path, volume.getPath());
+		assertEquals(fsType, volume.getFsType());
+		assertEquals(source, volume.getSourceDevice());
+		assertEquals(options, volume.getMountOptions());
+	}
+
+	private List<MountVolume> parse(String fixture, int format, MountTableParser.Filter filter)
+			throws IOException {
+		InputStream input = getClass().getResourceAsStream(fixture);
+		assertNotNull(fixture, input);
+		try {
+			return new MountTableParser(input, format).parse(filter);
+		} finally {
+			input.close();
+		}
+	}
+
+	private byte[] read(String fixture) throws IOException {
+		InputStream input = getClass().getResourceAsStream(fixture);
+		assertNotNull(fixture, input);
+		try {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int count;
+			while ((count = input.read(buffer)) != -1) {
+				output.write(buffer, 0, count);
+			}
+			return output.toByteArray();
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Return at most a few bytes on each read, as a pipe could.
+	 */
+	private static class ChunkedInputStream extends FilterInputStream {
+		private final int mChunk;
+
+		ChunkedInputStream(InputStream input, int chunk) {
+			super(input);
+			mChunk = chunk;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			return super.read(buffer, offset, Math.min(length, mChunk));
+		}
+	}
+}
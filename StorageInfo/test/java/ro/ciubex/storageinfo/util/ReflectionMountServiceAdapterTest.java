@@ -0,0 +1,250 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+/**
+ * Test that a mount service adapter is chosen for each IMountService signature
+ * set and calls the methods with the right arguments, the same as the
+ * previous reflective path, which checked the method arity and boxed the
+ * varargs on every call.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class ReflectionMountServiceAdapterTest {
+	private static final String MOUNT_POINT = "/mnt/usb_storage";
+	private static final int RUNS = 100;
+
+	/**
+	 * Android 3.x mount service.
+	 */
+	public static class HoneycombMountService {
+		Object[] mLastUnmount;
+		final Object[] mVolumes = new Object[]{"sdcard", "usb"};
+
+		public void unmountVolume(String mountPoint, boolean force) {
+			mLastUnmount = new Object[]{mountPoint, force};
+		}
+
+		public Object[] getVolumeList() {
+			return mVolumes;
+		}
+
+		public int mountVolume(String mountPoint) {
+			return 0;
+		}
+
+		public String getVolumeState(String mountPoint) {
+			return "mounted";
+		}
+	}
+
+	/**
+	 * Android 4.0 to 5.1 mount service.
+	 */
+	public static class IceCreamSandwichMountService extends HoneycombMountService {
+
+		public void unmountVolume(String mountPoint, boolean force, boolean removeEncryption) {
+			mLastUnmount = new Object[]{mountPoint, force, removeEncryption};
+		}
+	}
+
+	/**
+	 * Android 6.0 mount service.
+	 */
+	public static class MarshmallowMountService extends IceCreamSandwichMountService {
+		Object[] mLastVolumeList;
+
+		public Object[] getVolumeList(int uid, String packageName, int flags) {
+			mLastVolumeList = new Object[]{uid, packageName, flags};
+			return mVolumes;
+		}
+	}
+
+	/**
+	 * A vendor mount service with an unknown unmount signature.
+	 */
+	public static class VendorMountService extends HoneycombMountService {
+
+		public void unmountVolume(String mountPoint) {
+			mLastUnmount = new Object[]{mountPoint};
+		}
+	}
+
+	private static ReflectionMountServiceAdapter.Methods resolve(Class<?> service,
+			Class<?>[] unmountTypes, Class<?>[] volumeListTypes) throws NoSuchMethodException {
+		ReflectionMountServiceAdapter.Methods methods = new ReflectionMountServiceAdapter.Methods();
+		methods.mountServiceUnmountVolume = service.getMethod("unmountVolume", unmountTypes);
+		methods.mountServiceGetVolumeList = service.getMethod("getVolumeList", volumeListTypes);
+		methods.mountServiceMountVolume = service.getMethod("mountVolume", String.class);
+		methods.mountServiceGetVolumeState = service.getMethod("getVolumeState", String.class);
+		return methods;
+	}
+
+	private static ReflectionMountServiceAdapter.Methods resolveIceCreamSandwich()
+			throws NoSuchMethodException {
+		return resolve(IceCreamSandwichMountService.class,
+				new Class<?>[]{String.class, boolean.class, boolean.class}, new Class<?>[0]);
+	}
+
+	@Test
+	public void testHoneycombAdapter() throws NoSuchMethodException {
+		MountServiceAdapter adapter = ReflectionMountServiceAdapter.create(
+				resolve(HoneycombMountService.class,
+						new Class<?>[]{String.class, boolean.class}, new Class<?>[0]));
+		assertEquals(ReflectionMountServiceAdapter.HoneycombAdapter.class, adapter.getClass());
+		HoneycombMountService service = new HoneycombMountService();
+		adapter.unmountVolume(service, MOUNT_POINT, true);
+		assertArrayEquals(new Object[]{MOUNT_POINT, true}, service.mLastUnmount);
+		assertSame(service.mVolumes, adapter.getVolumeList(service));
+		assertEquals(0, adapter.mountVolume(service, MOUNT_POINT));
+		assertEquals("mounted", adapter.getVolumeState(service, MOUNT_POINT));
+		assertTrue(adapter.hasVolumeList());
+		assertTrue(adapter.hasVolumeState());
+	}
+
+	@Test
+	public void testIceCreamSandwichAdapter() throws NoSuchMethodException {
+		MountServiceAdapter adapter = ReflectionMountServiceAdapter.create(resolveIceCreamSandwich());
+		assertEquals(ReflectionMountServiceAdapter.IceCreamSandwichAdapter.class, adapter.getClass());
+		IceCreamSandwichMountService service = new IceCreamSandwichMountService();
+		adapter.unmountVolume(service, MOUNT_POINT, false);
+		assertArrayEquals(new Object[]{MOUNT_POINT, false, false}, service.mLastUnmount);
+		assertSame(service.mVolumes, adapter.getVolumeList(service));
+	}
+
+	@Test
+	public void testMarshmallowAdapter() throws NoSuchMethodException {
+		MountServiceAdapter adapter = ReflectionMountServiceAdapter.create(
+				resolve(MarshmallowMountService.class,
+						new Class<?>[]{String.class, boolean.class, boolean.class},
+						new Class<?>[]{int.class, String.class, int.class}));
+		assertEquals(ReflectionMountServiceAdapter.MarshmallowAdapter.class, adapter.getClass());
+		MarshmallowMountService service = new MarshmallowMountService();
+		adapter.unmountVolume(service, MOUNT_POINT, true);
+		assertArrayEquals(new Object[]{MOUNT_POINT, true, true}, service.mLastUnmount);
+		assertSame(service.mVolumes, adapter.getVolumeList(service));
+		assertArrayEquals(new Object[]{0, "/", 0}, service.mLastVolumeList);
+	}
+
+	@Test
+	public void testGenericAdapter() throws NoSuchMethodException {
+		MountServiceAdapter adapter = ReflectionMountServiceAdapter.create(
+				resolve(VendorMountService.class,
+						new Class<?>[]{String.class}, new Class<?>[0]));
+		assertEquals(ReflectionMountServiceAdapter.GenericAdapter.class, adapter.getClass());
+		VendorMountService service = new VendorMountService();
+		adapter.unmountVolume(service, MOUNT_POINT, true);
+		assertArrayEquals(new Object[]{MOUNT_POINT}, service.mLastUnmount);
+		assertSame(service.mVolumes, adapter.getVolumeList(service));
+	}
+
+	@Test
+	public void testMissingMethods() throws NoSuchMethodException {
+		ReflectionMountServiceAdapter.Methods methods = resolve(VendorMountService.class,
+				new Class<?>[]{String.class}, new Class<?>[0]);
+		methods.mountServiceGetVolumeList = null;
+		methods.mountServiceGetVolumeState = null;
+		MountServiceAdapter adapter = ReflectionMountServiceAdapter.create(methods);
+		assertFalse(adapter.hasVolumeList());
+		assertFalse(adapter.hasVolumeState());
+		VendorMountService service = new VendorMountService();
+		assertNull(adapter.getVolumeList(service));
+		assertNull(adapter.getVolumeState(service, MOUNT_POINT));
+	}
+
+	/**
+	 * The previous reflective call, with boxed varargs.
+	 */
+	private static Object invoke(Method method, Object receiver, Object... args) {
+		try {
+			return method.invoke(receiver, args);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * The previous unmount, mount and volume list calls, which checked the
+	 * arity of the methods on each call.
+	 */
+	private static int runReflective(ReflectionMountServiceAdapter.Methods methods,
+			Object service, int count) {
+		int result = 0;
+		Object[] volumes = null;
+		for (int i = 0; i < count; i++) {
+			switch (methods.mountServiceUnmountVolume.getParameterTypes().length) {
+				case 1:
+					invoke(methods.mountServiceUnmountVolume, service, MOUNT_POINT);
+					break;
+				case 2:
+					invoke(methods.mountServiceUnmountVolume, service, MOUNT_POINT, true);
+					break;
+				case 3:
+					invoke(methods.mountServiceUnmountVolume, service, MOUNT_POINT, true, true);
+					break;
+			}
+			switch (methods.mountServiceGetVolumeList.getParameterTypes().length) {
+				case 0:
+					volumes = (Object[]) invoke(methods.mountServiceGetVolumeList, service);
+					break;
+				case 3:
+					volumes = (Object[]) invoke(methods.mountServiceGetVolumeList, service, 0, "/", 0);
+					break;
+			}
+			result += volumes.length;
+			result += (Integer) invoke(methods.mountServiceMountVolume, service, MOUNT_POINT);
+		}
+		return result;
+	}
+
+	private static int runAdapter(MountServiceAdapter adapter, Object service, int count) {
+		int result = 0;
+		for (int i = 0; i < count; i++) {
+			adapter.unmountVolume(service, MOUNT_POINT, true);
+			result += adapter.getVolumeList(service).length;
+			result += adapter.mountVolume(service, MOUNT_POINT);
+		}
+		return result;
+	}
+
+	/**
+	 * Run the same unmount, volume list and mount calls through the previous
+	 * reflective path and through the adapter, which should return the same
+	 * results. Both still use {@link Method#invoke}, the adapter only saves
+	 * the arity checks.
+	 */
+	@Test
+	public void testAdapterMatchesReflectivePath() throws NoSuchMethodException {
+		ReflectionMountServiceAdapter.Methods methods = resolveIceCreamSandwich();
+		MountServiceAdapter adapter = ReflectionMountServiceAdapter.create(methods);
+		IceCreamSandwichMountService service = new IceCreamSandwichMountService();
+		assertEquals(runReflective(methods, service, RUNS), runAdapter(adapter, service, RUNS));
+	}
+}
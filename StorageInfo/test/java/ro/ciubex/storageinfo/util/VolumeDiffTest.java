@@ -0,0 +1,256 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.model.MountVolume;
+import ro.ciubex.storageinfo.model.VolumeDelta;
+
+import android.os.Environment;
+
+/**
+ * Test the volume diff on simple changes and on random event sequences over
+ * many volumes, where the deltas applied to the previous list should always
+ * give the current list.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class VolumeDiffTest {
+	private static final String[] STATES = {
+			Environment.MEDIA_MOUNTED, Environment.MEDIA_UNMOUNTED,
+			Environment.MEDIA_CHECKING, Environment.MEDIA_BAD_REMOVAL,
+			Environment.MEDIA_REMOVED, null
+	};
+
+	@Test
+	public void testNoVolumes() {
+		assertTrue(VolumeDiff.compare(null, null).isEmpty());
+		assertTrue(VolumeDiff.compare(new ArrayList<MountVolume>(), null).isEmpty());
+		assertTrue(VolumeDiff.compare(null, new ArrayList<MountVolume>()).isEmpty());
+	}
+
+	@Test
+	public void testSameVolumes() {
+		List<MountVolume> previous = volumes(volume("/mnt/usb0", 1, Environment.MEDIA_MOUNTED),
+				volume("/mnt/usb1", 2, null));
+		List<MountVolume> current = volumes(volume("/mnt/usb0", 1, Environment.MEDIA_MOUNTED),
+				volume("/mnt/usb1", 2, null));
+		assertTrue(VolumeDiff.compare(previous, current).isEmpty());
+	}
+
+	@Test
+	public void testAddedRemovedChanged() {
+		MountVolume removed = volume("/mnt/usb0", 1, Environment.MEDIA_MOUNTED);
+		MountVolume before = volume("/mnt/usb1", 2, Environment.MEDIA_MOUNTED);
+		MountVolume after = volume("/mnt/usb1", 2, Environment.MEDIA_UNMOUNTED);
+		MountVolume added = volume("/mnt/usb2", 3, Environment.MEDIA_CHECKING);
+		List<VolumeDelta> deltas = VolumeDiff.compare(volumes(removed, before),
+				volumes(after, added));
+
+		assertEquals(3, deltas.size());
+		assertDelta(deltas.get(0), VolumeDelta.TYPE_REMOVED, removed, null);
+		assertDelta(deltas.get(1), VolumeDelta.TYPE_STATE_CHANGED, before, after);
+		assertEquals(Environment.MEDIA_MOUNTED, deltas.get(1).getFromState());
+		assertEquals(Environment.MEDIA_UNMOUNTED, deltas.get(1).getToState());
+		assertDelta(deltas.get(2), VolumeDelta.TYPE_ADDED, null, added);
+		assertNull(deltas.get(2).getFromState());
+	}
+
+	@Test
+	public void testOtherVolumeOnSamePath() {
+		MountVolume previous = volume("/mnt/usb0", 1, Environment.MEDIA_MOUNTED);
+		MountVolume current = volume("/mnt/usb0", 7, Environment.MEDIA_MOUNTED);
+		List<VolumeDelta> deltas = VolumeDiff.compare(volumes(previous), volumes(current));
+
+		assertEquals(2, deltas.size());
+		assertDelta(deltas.get(0), VolumeDelta.TYPE_REMOVED, previous, null);
+		assertDelta(deltas.get(1), VolumeDelta.TYPE_ADDED, null, current);
+	}
+
+	@Test
+	public void testOneChangeAmongManyVolumes() {
+		List<MountVolume> previous = new ArrayList<MountVolume>();
+		List<MountVolume> current = new ArrayList<MountVolume>();
+		for (int i = 0; i < 2000; i++) {
+			previous.add(volume("/mnt/usb" + i, i, Environment.MEDIA_MOUNTED));
+			current.add(volume("/mnt/usb" + i, i, i == 1234 ?
+					Environment.MEDIA_UNMOUNTED : Environment.MEDIA_MOUNTED));
+		}
+		List<VolumeDelta> deltas = VolumeDiff.compare(previous, current);
+
+		assertEquals(1, deltas.size());
+		assertDelta(deltas.get(0), VolumeDelta.TYPE_STATE_CHANGED, previous.get(1234),
+				current.get(1234));
+	}
+
+	/**
+	 * Apply random insert, remove, state change and card swap events on many
+	 * volumes, and check after each step that the deltas rebuild the current
+	 * list from the previous one and report only the changed volumes.
+	 */
+	@Test
+	public void testRandomEventSequences() {
+		for (long seed = 0; seed < 50; seed++) {
+			runRandomSequence(new Random(seed), 200, 100);
+		}
+	}
+
+	private void runRandomSequence(Random random, int slots, int steps) {
+		MountVolume[] volumes = new MountVolume[slots];
+		int nextStorageId = 1;
+		List<MountVolume> previous = null;
+		for (int step = 0; step < steps; step++) {
+			// change a random number of volumes between two snapshots
+			int events = random.nextInt(8);
+			for (int e = 0; e < events; e++) {
+				int slot = random.nextInt(slots);
+				MountVolume volume = volumes[slot];
+				int event = random.nextInt(4);
+				if (volume == null || event == 0) {
+					// insert, or swap the card on the same path
+					volumes[slot] = volume("/storage/usb" + slot, nextStorageId++, randomState(random));
+				} else if (event == 1) {
+					volumes[slot] = null;
+				} else {
+					volumes[slot] = volume(volume.getPath(), volume.getStorageId(), randomState(random));
+				}
+			}
+			// each snapshot has new volume objects, in the mount service order
+			List<MountVolume> current = new ArrayList<MountVolume>();
+			for (MountVolume volume : volumes) {
+				if (volume != null) {
+					current.add(volume(volume.getPath(), volume.getStorageId(), volume.getVolumeState()));
+				}
+			}
+			List<VolumeDelta> deltas = VolumeDiff.compare(previous, current);
+			assertEquals(toMap(current), apply(toMap(previous), deltas));
+			assertEquals(expectedDeltaCount(previous, current), deltas.size());
+			assertRemovedFirst(deltas);
+			previous = current;
+		}
+	}
+
+	/**
+	 * Apply the deltas on a path to "storageId:state" map.
+	 */
+	private static Map<String, String> apply(Map<String, String> volumes, List<VolumeDelta> deltas) {
+		for (VolumeDelta delta : deltas) {
+			MountVolume volume = delta.getVolume();
+			switch (delta.getType()) {
+			case VolumeDelta.TYPE_REMOVED:
+				assertEquals(key(volume), volumes.remove(volume.getPath()));
+				break;
+			case VolumeDelta.TYPE_ADDED:
+				assertNull("added twice " + volume, volumes.put(volume.getPath(), key(volume)));
+				break;
+			case VolumeDelta.TYPE_STATE_CHANGED:
+				assertEquals(delta.getPrevious().getStorageId(), delta.getCurrent().getStorageId());
+				assertEquals(key(delta.getPrevious()), volumes.put(volume.getPath(), key(volume)));
+				break;
+			}
+		}
+		return volumes;
+	}
+
+	private static int expectedDeltaCount(List<MountVolume> previous, List<MountVolume> current) {
+		Map<String, MountVolume> previousByPath = new HashMap<String, MountVolume>();
+		if (previous != null) {
+			for (MountVolume volume : previous) {
+				previousByPath.put(volume.getPath(), volume);
+			}
+		}
+		int count = 0;
+		for (MountVolume volume : current) {
+			MountVolume old = previousByPath.remove(volume.getPath());
+			if (old == null) {
+				count++;
+			} else if (old.getStorageId() != volume.getStorageId()) {
+				count += 2;
+			} else if (!key(old).equals(key(volume))) {
+				count++;
+			}
+		}
+		return count + previousByPath.size();
+	}
+
+	private static void assertRemovedFirst(List<VolumeDelta> deltas) {
+		boolean other = false;
+		for (VolumeDelta delta : deltas) {
+			if (delta.getType() == VolumeDelta.TYPE_REMOVED) {
+				assertTrue("removed after other deltas: " + deltas, !other);
+			} else {
+				other = true;
+			}
+		}
+	}
+
+	private static Map<String, String> toMap(List<MountVolume> volumes) {
+		Map<String, String> map = new HashMap<String, String>();
+		if (volumes != null) {
+			for (MountVolume volume : volumes) {
+				map.put(volume.getPath(), key(volume));
+			}
+		}
+		return map;
+	}
+
+	private static String key(MountVolume volume) {
+		return volume.getStorageId() + ":" + volume.getVolumeState();
+	}
+
+	private static String randomState(Random random) {
+		return STATES[random.nextInt(STATES.length)];
+	}
+
+	private static void assertDelta(VolumeDelta delta, int type, MountVolume previous,
+			MountVolume current) {
+		assertEquals(type, delta.getType());
+		assertSame(previous, delta.getPrevious());
+		assertSame(current, delta.getCurrent());
+	}
+
+	private static MountVolume volume(String path, int storageId, String state) {
+		MountVolume volume = new MountVolume();
+		volume.setPathFile(new File(path));
+		volume.setStorageId(storageId);
+		volume.setVolumeState(state);
+		return volume;
+	}
+
+	private static List<MountVolume> volumes(MountVolume... volumes) {
+		List<MountVolume> list = new ArrayList<MountVolume>();
+		for (MountVolume volume : volumes) {
+			list.add(volume);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,201 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.ciubex.storageinfo.model.VolumeUser;
+
+/**
+ * Test the volume users scan against a synthetic proc tree, with file
+ * descriptor links, maps lines with spaces and deleted files, and processes
+ * which can not be read.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class VolumeUsersScannerTest {
+	private File mRoot;
+	private File mProc;
+	private File mVolume;
+	private File mOther;
+
+	@Before
+	public void setUp() throws IOException {
+		mRoot = Files.createTempDirectory("proc-test").toFile().getCanonicalFile();
+		mProc = new File(mRoot, "proc");
+		mVolume = new File(mRoot, "usb_storage");
+		mOther = new File(mRoot, "data");
+		assertTrue(mProc.mkdir() && mVolume.mkdir() && mOther.mkdir());
+	}
+
+	@After
+	public void tearDown() {
+		delete(mRoot);
+	}
+
+	private static void delete(File file) {
+		File[] children = file.isDirectory() && !Files.isSymbolicLink(file.toPath()) ?
+				file.listFiles() : null;
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	private static File createFile(File dir, String name) throws IOException {
+		File file = new File(dir, name);
+		write(file, "");
+		return file;
+	}
+
+	private static void write(File file, String text) throws IOException {
+		FileOutputStream output = new FileOutputStream(file);
+		try {
+			output.write(text.getBytes("UTF-8"));
+		} finally {
+			output.close();
+		}
+	}
+
+	/**
+	 * Create a process directory with its open files, maps and command line.
+	 */
+	private File createProcess(int pid, String cmdline, String maps, File... openFiles)
+			throws IOException {
+		File processDir = new File(mProc, String.valueOf(pid));
+		File fdDir = new File(processDir, "fd");
+		assertTrue(fdDir.mkdirs());
+		for (int fd = 0; fd < openFiles.length; fd++) {
+			Files.createSymbolicLink(new File(fdDir, String.valueOf(fd)).toPath(),
+					openFiles[fd].toPath());
+		}
+		write(new File(processDir, "maps"), maps);
+		write(new File(processDir, "cmdline"), cmdline);
+		return processDir;
+	}
+
+	private static String mapsLine(String path) {
+		return "7f1c2a000000-7f1c2a021000 r--s 00000000 b3:11 4242                       "
+				+ path + "\n";
+	}
+
+	@Test
+	public void testScan() throws IOException {
+		File music = createFile(mVolume, "My Music.mp3");
+		File photo = createFile(mVolume, "photo.jpg");
+		File database = createFile(mOther, "app.db");
+		createProcess(100, "com.example.player\0--service\0",
+				mapsLine("/system/lib/libc.so")
+						+ mapsLine(mVolume.getPath() + "/Album Art/cover 1.jpg")
+						+ mapsLine(mVolume.getPath() + "/old cache.bin (deleted)")
+						+ "7f1c2b000000-7f1c2b021000 rw-p 00000000 00:00 0 \n",
+				music, database);
+		createProcess(200, "com.example.viewer", "", photo);
+		// does not use the volume
+		createProcess(300, "com.example.other", mapsLine("/system/lib/libm.so"), database);
+		// a process of another user, its files can not be listed
+		File hidden = new File(mProc, "400");
+		assertTrue(hidden.mkdir());
+		write(new File(hidden, "comm"), "kworker\n");
+		// not a process
+		assertTrue(new File(mProc, "self").mkdir());
+
+		VolumeUsersScanner scanner = new VolumeUsersScanner(mProc, mVolume.getPath());
+		List<VolumeUser> users = scanner.scan(5000, 2, new int[]{400});
+
+		assertTrue(scanner.toString(), scanner.isComplete());
+		assertEquals(4, scanner.getScannedProcesses());
+		assertEquals(1, scanner.getUnreadableProcesses());
+		assertEquals(3, users.size());
+
+		VolumeUser player = users.get(0);
+		assertEquals(100, player.getPid());
+		assertEquals("com.example.player", player.getName());
+		assertEquals(Arrays.asList(music.getPath()), player.getOpenFiles());
+		assertEquals(Arrays.asList(mVolume.getPath() + "/Album Art/cover 1.jpg",
+				mVolume.getPath() + "/old cache.bin"), player.getMappedFiles());
+
+		VolumeUser viewer = users.get(1);
+		assertEquals(200, viewer.getPid());
+		assertEquals(Arrays.asList(photo.getPath()), viewer.getOpenFiles());
+		assertTrue(viewer.getMappedFiles().isEmpty());
+
+		// reported by the mount service, named from comm
+		VolumeUser known = users.get(2);
+		assertEquals(400, known.getPid());
+		assertEquals("kworker", known.getName());
+		assertTrue(known.getOpenFiles().isEmpty());
+	}
+
+	@Test
+	public void testSimilarPrefixIsNotOnVolume() throws IOException {
+		File sibling = new File(mRoot, "usb_storage2");
+		assertTrue(sibling.mkdir());
+		createProcess(100, "com.example.app", mapsLine(sibling.getPath() + "/file"),
+				createFile(sibling, "file"));
+
+		VolumeUsersScanner scanner = new VolumeUsersScanner(mProc, mVolume.getPath());
+		assertTrue(scanner.scan(5000, 1, null).isEmpty());
+		assertTrue(scanner.isComplete());
+	}
+
+	@Test
+	public void testBudgetSpent() throws IOException {
+		File file = createFile(mVolume, "file");
+		for (int pid = 1; pid <= 50; pid++) {
+			createProcess(pid, "app" + pid, "", file);
+		}
+
+		VolumeUsersScanner scanner = new VolumeUsersScanner(mProc, mVolume.getPath());
+		List<VolumeUser> users = scanner.scan(0, 2, null);
+
+		// nothing is scanned after the budget, the partial result is reported
+		assertFalse(scanner.toString(), scanner.isComplete());
+		assertTrue(scanner.getScannedProcesses() < 50);
+		assertEquals(scanner.getScannedProcesses(), users.size());
+
+		scanner = new VolumeUsersScanner(mProc, mVolume.getPath());
+		users = scanner.scan(5000, 2, null);
+		assertTrue(scanner.toString(), scanner.isComplete());
+		assertEquals(50, users.size());
+	}
+
+	@Test
+	public void testMissingProcRoot() {
+		VolumeUsersScanner scanner = new VolumeUsersScanner(new File(mRoot, "missing"),
+				mVolume.getPath());
+		assertTrue(scanner.scan(1000).isEmpty());
+		assertTrue(scanner.isComplete());
+	}
+}
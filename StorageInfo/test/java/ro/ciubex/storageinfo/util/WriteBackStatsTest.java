@@ -0,0 +1,95 @@
+/**
+ * This file is part of StorageInfo application.
+ *
+ * Copyright (C) 2016 Claudiu Ciobotariu
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ro.ciubex.storageinfo.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the block device lookup of a volume on a synthetic mountinfo file,
+ * with escaped mount points, mounts over the same point and symbolic links.
+ *
+ * @author Claudiu Ciobotariu
+ */
+public class WriteBackStatsTest {
+	private File mRoot;
+	private File mMountinfo;
+
+	@Before
+	public void setUp() throws IOException {
+		mRoot = Files.createTempDirectory("writeback-test").toFile().getCanonicalFile();
+		mMountinfo = new File(mRoot, "mountinfo");
+	}
+
+	@After
+	public void tearDown() {
+		File[] children = mRoot.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				child.delete();
+			}
+		}
+		mRoot.delete();
+	}
+
+	private void writeMountinfo(String... lines) throws IOException {
+		FileOutputStream out = new FileOutputStream(mMountinfo);
+		try {
+			for (String line : lines) {
+				out.write((line + "\n").getBytes("UTF-8"));
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	@Test
+	public void testFindDevice() throws IOException {
+		writeMountinfo(
+				"1 0 179:2 / / ro,relatime - ext4 /dev/root ro",
+				"50 1 8:1 / /mnt/media_rw/6A3F-1C2D rw,relatime master:30 - vfat /dev/block/vold/public:8,1 rw",
+				"51 1 8:17 / /mnt/usb\\040stick rw,relatime - vfat /dev/block/sdb1 rw",
+				"52 51 8:33 / /mnt/usb\\040stick rw,relatime - vfat /dev/block/sdc1 rw");
+		assertEquals("8:1", WriteBackStats.findDevice(mMountinfo, "/mnt/media_rw/6A3F-1C2D"));
+		// the last mount over the same point is the visible one
+		assertEquals("8:33", WriteBackStats.findDevice(mMountinfo, "/mnt/usb stick"));
+		assertNull(WriteBackStats.findDevice(mMountinfo, "/mnt/usb"));
+		assertNull(WriteBackStats.findDevice(new File(mRoot, "missing"), "/"));
+	}
+
+	@Test
+	public void testSymbolicLink() throws IOException {
+		File volume = new File(mRoot, "volume");
+		assertTrue(volume.mkdir());
+		File link = new File(mRoot, "link");
+		Files.createSymbolicLink(link.toPath(), volume.toPath());
+		writeMountinfo("60 1 8:49 / " + volume.getPath() + " rw - vfat /dev/block/sdd1 rw");
+		assertEquals("8:49", WriteBackStats.findDevice(mMountinfo, link.getPath()));
+	}
+}